@@ -0,0 +1,57 @@
+package com.com.fail;
+
+import com.com.test.StubTestExtensionContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link ExpectedFailure} per {@code Test}; both for a passing {@code Test}, and for a {@code
+ * Test} which {@link ShouldFail should fail} and does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExpectedFailureBenchmark {
+
+    private final ExpectedFailure expectedFailure = new ExpectedFailure();
+
+    private final Throwable failure = new AssertionError("Expected");
+
+    private StubTestExtensionContext passingContext;
+
+    private StubTestExtensionContext failingContext;
+
+    @Setup
+    public void setUp() {
+        final Target target = new Target();
+        passingContext = StubTestExtensionContext.forMethod(target, "passes");
+        failingContext = StubTestExtensionContext.forMethod(target, "fails");
+    }
+
+    @Benchmark
+    public void passingTest() throws Exception {
+        expectedFailure.beforeTestExecution(passingContext);
+        expectedFailure.afterTestExecution(passingContext);
+    }
+
+    @Benchmark
+    public void expectedFailingTest() throws Exception {
+        expectedFailure.beforeTestExecution(failingContext);
+        expectedFailure.handleTestExecutionException(failingContext, failure);
+        expectedFailure.afterTestExecution(failingContext);
+    }
+
+    static final class Target {
+
+        void passes() {
+        }
+
+        @ShouldFail
+        void fails() {
+        }
+    }
+}
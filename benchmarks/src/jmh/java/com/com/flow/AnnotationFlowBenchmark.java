@@ -0,0 +1,60 @@
+package com.com.flow;
+
+import com.com.test.StubTestExtensionContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link AnnotationFlow} dispatch per {@code Test}, across the shape of the {@code Test}
+ * {@link Class}.  Flow method bodies are trivial, so the results are dominated by matching, parameter binding and
+ * invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnnotationFlowBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int flowMethods;
+
+    @Param({"1", "4"})
+    public int valuesPerAnnotation;
+
+    @Param({"0", "4", "16"})
+    public int presentAnnotations;
+
+    @Param({"1", "4"})
+    public int hierarchyDepth;
+
+    private final AnnotationFlow annotationFlow = new AnnotationFlow();
+
+    private StubTestExtensionContext context;
+
+    private FlowFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new FlowFixture(flowMethods, valuesPerAnnotation, presentAnnotations, hierarchyDepth);
+        context = new StubTestExtensionContext(fixture.getTestInstance(), fixture.getTestMethod());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void beforeTestExecution() throws Exception {
+        annotationFlow.beforeTestExecution(context);
+    }
+
+    @Benchmark
+    public void afterTestExecution() throws Exception {
+        annotationFlow.afterTestExecution(context);
+    }
+}
@@ -0,0 +1,160 @@
+package com.com.flow;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Generates (and compiles) a {@code Test} {@link Class} hierarchy with the requested shape, for benchmarking {@code
+ * annotation-flow} dispatch.
+ * <p>
+ * The generated hierarchy has {@code hierarchyDepth} {@code classes}, across which {@code flowMethods} flow methods
+ * are distributed round-robin; cycling through {@link BeforeAnnotated}, {@link BeforeNotAnnotated}, {@link
+ * AfterAnnotated} and {@link AfterNotAnnotated}.  Each flow annotation declares an interest in the first {@code
+ * valuesPerAnnotation} generated {@code Annotations}, and the positive flow methods take the first of those as a
+ * parameter.  The {@code Test} {@code Method} is annotated by the first {@code presentAnnotations} generated {@code
+ * Annotations}.
+ * <p>
+ * The generated sources are deleted once compiled, and the generated classes once the fixture is {@link #close()
+ * closed}; which the benchmarks do as their trial is torn down.
+ */
+final class FlowFixture implements Closeable {
+
+    private static final String[] FLOW_ANNOTATIONS = {
+            "BeforeAnnotated", "BeforeNotAnnotated", "AfterAnnotated", "AfterNotAnnotated"};
+
+    private final Path classRoot;
+
+    private final URLClassLoader loader;
+
+    private final Class<?> testClass;
+
+    private final Object testInstance;
+
+    private final Method testMethod;
+
+    FlowFixture(final int flowMethods, final int valuesPerAnnotation, final int presentAnnotations,
+                final int hierarchyDepth) throws Exception {
+        final String packageName = String.format("generated.f%d_v%d_p%d_d%d",
+                flowMethods, valuesPerAnnotation, presentAnnotations, hierarchyDepth);
+        final Path sourceRoot = Files.createTempDirectory("flow-fixture-src");
+        this.classRoot = Files.createTempDirectory("flow-fixture-classes");
+        try {
+            compile(packageName, sourceRoot, classRoot, flowMethods, valuesPerAnnotation, presentAnnotations,
+                    hierarchyDepth);
+        } catch (final IOException | RuntimeException failure) {
+            delete(classRoot);
+            throw failure;
+        } finally {
+            delete(sourceRoot);
+        }
+
+        this.loader = new URLClassLoader(new URL[]{classRoot.toUri().toURL()}, FlowFixture.class.getClassLoader());
+        this.testClass = Class.forName(packageName + ".Level" + (hierarchyDepth - 1), true, loader);
+        this.testInstance = testClass.newInstance();
+        this.testMethod = testClass.getMethod("test");
+    }
+
+    /**
+     * Closes the {@link ClassLoader} of the generated classes, and deletes them; once the trial using them is over.
+     */
+    @Override
+    public void close() throws IOException {
+        loader.close();
+        delete(classRoot);
+    }
+
+    private static void compile(final String packageName, final Path sourceRoot, final Path classRoot,
+                                final int flowMethods, final int valuesPerAnnotation, final int presentAnnotations,
+                                final int hierarchyDepth) throws IOException {
+        final Path packageDirectory = Files.createDirectories(sourceRoot.resolve(packageName.replace('.', '/')));
+
+        final List<String> sources = new ArrayList<>();
+        final int annotations = Math.max(1, Math.max(valuesPerAnnotation, presentAnnotations));
+        for (int i = 0; i < annotations; i++) {
+            sources.add(write(packageDirectory, "A" + i, header(packageName)
+                    + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                    + "public @interface A" + i + " {}\n"));
+        }
+
+        final StringBuilder values = new StringBuilder();
+        for (int i = 0; i < Math.max(1, valuesPerAnnotation); i++) {
+            values.append(i == 0 ? "" : ", ").append('A').append(i).append(".class");
+        }
+
+        for (int level = 0; level < hierarchyDepth; level++) {
+            final StringBuilder body = new StringBuilder(header(packageName));
+            body.append("public class Level").append(level)
+                    .append(level == 0 ? "" : " extends Level" + (level - 1)).append(" {\n");
+            if (level == 0) {
+                body.append("    public int calls;\n");
+            }
+            for (int flow = level; flow < flowMethods; flow += hierarchyDepth) {
+                final int kind = flow % FLOW_ANNOTATIONS.length;
+                body.append("    @com.com.flow.").append(FLOW_ANNOTATIONS[kind]).append("({").append(values)
+                        .append("})\n    void flow").append(flow)
+                        .append(kind % 2 == 0 ? "(final A0 annotation)" : "()").append(" { calls++; }\n");
+            }
+            if (level == hierarchyDepth - 1) {
+                for (int i = 0; i < presentAnnotations; i++) {
+                    body.append("    @A").append(i).append('\n');
+                }
+                body.append("    public void test() {}\n");
+            }
+            body.append("}\n");
+            sources.add(write(packageDirectory, "Level" + level, body.toString()));
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<String> arguments = new ArrayList<>();
+        arguments.add("-classpath");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add("-d");
+        arguments.add(classRoot.toString());
+        arguments.addAll(sources);
+        if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException("Failed to compile fixture " + packageName);
+        }
+    }
+
+    private static void delete(final Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String header(final String packageName) {
+        return "package " + packageName + ";\n\n";
+    }
+
+    private static String write(final Path directory, final String name, final String source) throws IOException {
+        final Path file = directory.resolve(name + ".java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    Class<?> getTestClass() {
+        return testClass;
+    }
+
+    Object getTestInstance() {
+        return testInstance;
+    }
+
+    Method getTestMethod() {
+        return testMethod;
+    }
+}
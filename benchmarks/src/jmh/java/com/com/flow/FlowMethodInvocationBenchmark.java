@@ -0,0 +1,88 @@
+package com.com.flow;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of dispatching a single flow method through {@link FlowMethodRegistration#invokeFor(Object[],
+ * Object)} with the arguments bound by its {@link TestMethodPlan}; against binding the arguments on every call, and
+ * against the reflective {@link Method#invoke(Object, Object...)} path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FlowMethodInvocationBenchmark {
+
+    @Param({"noArguments", "annotationArgument"})
+    public String flowMethod;
+
+    private final Target target = new Target();
+
+    private Method method;
+
+    private FlowMethodRegistration<BeforeAnnotated> registration;
+
+    private AnnotationSnapshot snapshot;
+
+    private Object[] arguments;
+
+    @Setup
+    public void setUp() throws Exception {
+        final AnnotationIndex index = new AnnotationIndex();
+        method = Target.class.getDeclaredMethod(flowMethod,
+                flowMethod.equals("noArguments") ? new Class<?>[0] : new Class<?>[]{Marker.class});
+        registration = new PositiveFlowMethodRegistration<>(method, BeforeAnnotated.class, index);
+        final Method testMethod = Target.class.getDeclaredMethod("test");
+        snapshot = new AnnotationSnapshot(testMethod, Target.class, index);
+        arguments = new TestMethodPlan(testMethod, snapshot,
+                Collections.singletonMap(FlowPhase.BEFORE, Collections.singletonList(registration)))
+                .getArguments(FlowPhase.BEFORE, 0);
+    }
+
+    @Benchmark
+    public void invokeFor() {
+        registration.invokeFor(arguments, target);
+    }
+
+    @Benchmark
+    public void bindAndInvokeFor() {
+        registration.invokeFor(new FlowMethodParameterBuilder(method, snapshot).getParameters(), target);
+    }
+
+    @Benchmark
+    public void reflectiveInvoke() throws Exception {
+        method.setAccessible(true);
+        method.invoke(target, new FlowMethodParameterBuilder(method, snapshot).getParameters());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    static final class Target {
+
+        int calls;
+
+        @BeforeAnnotated(Marker.class)
+        void noArguments() {
+            calls++;
+        }
+
+        @BeforeAnnotated(Marker.class)
+        void annotationArgument(final Marker marker) {
+            calls++;
+        }
+
+        @Marker
+        void test() {
+        }
+    }
+}
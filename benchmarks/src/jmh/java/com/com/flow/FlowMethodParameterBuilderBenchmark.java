@@ -0,0 +1,53 @@
+package com.com.flow;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of binding the parameters of a flow method from the {@link AnnotationSnapshot} of a {@code Test}
+ * {@link Method}, across the number of {@code Annotations} present on the {@code Test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FlowMethodParameterBuilderBenchmark {
+
+    @Param({"1", "4"})
+    public int valuesPerAnnotation;
+
+    @Param({"1", "4", "16"})
+    public int presentAnnotations;
+
+    private Method flowMethod;
+
+    private AnnotationSnapshot snapshot;
+
+    private FlowFixture fixture;
+
+    @Setup
+    public void setUp() throws Exception {
+        fixture = new FlowFixture(1, valuesPerAnnotation, presentAnnotations, 1);
+        final AnnotationIndex index = new AnnotationIndex();
+        flowMethod = fixture.getTestClass().getDeclaredMethod("flow0",
+                fixture.getTestClass().getClassLoader().loadClass(
+                        fixture.getTestClass().getPackage().getName() + ".A0"));
+        new PositiveFlowMethodRegistration<>(flowMethod, BeforeAnnotated.class, index);
+        snapshot = new AnnotationSnapshot(fixture.getTestMethod(), fixture.getTestClass(), index);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Object[] getParameters() {
+        return new FlowMethodParameterBuilder(flowMethod, snapshot).getParameters();
+    }
+}
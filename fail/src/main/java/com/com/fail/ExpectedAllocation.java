@@ -0,0 +1,195 @@
+package com.com.fail;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+/**
+ * {@link org.junit.jupiter.api.extension.Extension} used to assert the allocation of {@link
+ * org.junit.jupiter.api.Test Tests} which {@link ShouldAllocateAtMost should allocate at most} a given budget.
+ * <p>
+ * Once a {@code Test} marked with {@code ShouldAllocateAtMost} has executed (and not already failed), its body is
+ * invoked again on the same test instance; first {@link ShouldAllocateAtMost#warmup() warmup} times unmeasured, and
+ * then {@link
+ * ShouldAllocateAtMost#iterations() iterations} times, each bracketed by reads of the bytes allocated by the current
+ * thread.  Only the body is invoked, so neither other {@code Extensions} (including {@code annotation-flow} methods)
+ * nor {@code BeforeEach}/{@code AfterEach} methods are counted; and the cost of reading the counter itself is
+ * calibrated away.  If any measured invocation exceeds the budget, then the {@code Test} is deemed to have failed.
+ * <p>
+ * If a repeated invocation {@code throws}, the {@code Test} is deemed to have failed; as the allocation of its body
+ * could not be measured.  If the {@code Test} is also marked with {@link ShouldFail}, exceeding the budget (or
+ * {@code throwing}) is {@link ExpectedFailure#recordFailure(org.junit.jupiter.api.extension.ExtensionContext)
+ * recorded} as its expected failure rather than thrown; so a known-allocating path can be asserted to be detected.
+ * That failure must be recorded before {@link ExpectedFailure} checks for it after the {@code Test}; and, since after
+ * callbacks run in the reverse of their registration order, {@code ExpectedAllocation} must be registered <i>after</i>
+ * {@code ExpectedFailure}; as in {@code @ExtendWith({ExpectedFailure.class, ExpectedAllocation.class})}.
+ * <p>
+ * Per-thread allocation counters are only available on JVMs providing {@link com.sun.management.ThreadMXBean}; where
+ * unavailable, nothing is measured, and a report entry says so.  A {@code Test} also marked with {@code ShouldFail}
+ * could then never fail as expected, so is aborted (skipped) by a failed assumption instead.
+ * <p>
+ * The {@code Extension} itself is stateless, so a single instance may be shared by concurrently executing {@code
+ * Tests}.
+ */
+public final class ExpectedAllocation implements AfterTestExecutionCallback {
+
+    /**
+     * The (empty) arguments with which the {@code test} body is invoked; shared, so as not to be counted.
+     */
+    private static final Object[] NO_ARGUMENTS = {};
+
+    /**
+     * The number of back-to-back counter reads from which the cost of a read is calibrated.
+     */
+    private static final int CALIBRATION_READS = 16;
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the executing {@code test} is annotated by {@link ShouldAllocateAtMost}, and has not already failed, measures
+     * and asserts on the allocation of its body.
+     *
+     * @throws ExtensionConfigurationException     If the {@code ShouldAllocateAtMost} is invalid, or the {@code
+     *                                             test} {@code method} takes parameters.
+     * @throws ExpectedFailureException            If a repeated invocation of the {@code test} fails, or any measured
+     *                                             invocation exceeds the budget; and the {@code test} was not expected
+     *                                             to fail.
+     * @throws org.opentest4j.TestAbortedException If the {@code test} is expected to fail, but the running JVM cannot
+     *                                             measure allocation.
+     */
+    @Override
+    public void afterTestExecution(final TestExtensionContext context) throws Exception {
+
+        @SuppressWarnings("OptionalGetWithoutIsPresent") // Internal call, confirmed as present.
+        final Method testMethod = context.getTestMethod().get();
+
+        final ShouldAllocateAtMost budget = testMethod.getAnnotation(ShouldAllocateAtMost.class);
+        if (budget == null || context.getTestException().isPresent()) {
+            // Nothing to assert, or the test has already failed for reasons of its own.
+            return;
+        }
+        if (budget.value() < 0L || budget.iterations() <= 0 || budget.warmup() < 0) {
+            throw new ExtensionConfigurationException(String.format(
+                    "Illegal budget (%d), iterations (%d) or warmup (%d) for test method %s",
+                    budget.value(), budget.iterations(), budget.warmup(), testMethod.getName()));
+        }
+        if (testMethod.getParameterCount() != 0) {
+            throw new ExtensionConfigurationException(
+                    "Test method " + testMethod.getName() + " takes parameters, so cannot be repeated");
+        }
+
+        final com.sun.management.ThreadMXBean threads = allocationCounter();
+        if (threads == null) {
+            context.publishReportEntry(Collections.singletonMap("allocation.unmeasured", testMethod.getName()));
+            Assumptions.assumeFalse(testMethod.isAnnotationPresent(ShouldFail.class), () -> String.format(
+                    "Test method %s should exceed its allocation budget, which this JVM cannot measure",
+                    testMethod.getName()));
+            return;
+        }
+
+        testMethod.setAccessible(true);
+        final Object testInstance = context.getTestInstance();
+        for (int i = 0; i < budget.warmup(); i++) {
+            if (!invoke(context, testMethod, testInstance, i)) {
+                return;
+            }
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long overhead = calibrate(threads, threadId);
+        long min = Long.MAX_VALUE;
+        long max = 0L;
+        long total = 0L;
+        for (int i = 0; i < budget.iterations(); i++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            if (!invoke(context, testMethod, testInstance, budget.warmup() + i)) {
+                return;
+            }
+            final long allocated = Math.max(0L, threads.getThreadAllocatedBytes(threadId) - before - overhead);
+            min = Math.min(min, allocated);
+            max = Math.max(max, allocated);
+            total += allocated;
+        }
+
+        if (max > budget.value()) {
+            if (testMethod.isAnnotationPresent(ShouldFail.class)) {
+                ExpectedFailure.recordFailure(context);
+                return;
+            }
+            throw new ExpectedFailureException(String.format(
+                    "Test method %s allocated up to %d bytes per invocation, exceeding its budget of %d bytes.%n"
+                            + "count=%d, min=%dB, mean=%dB, max=%dB",
+                    testMethod.getName(), max, budget.value(),
+                    budget.iterations(), min, total / budget.iterations(), max));
+        }
+    }
+
+    /**
+     * @return The {@link com.sun.management.ThreadMXBean} with per-thread allocation counting enabled; or {@code null}
+     * if the running JVM does not support it.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+
+        final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        if (!counter.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!counter.isThreadAllocatedMemoryEnabled()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+        }
+        return counter;
+    }
+
+    /**
+     * Calibrates the number of bytes allocated by reading the allocation counter itself (non-zero on some JVMs).
+     *
+     * @param threads  The allocation counter.
+     * @param threadId The id of the current {@link Thread}.
+     * @return The smallest number of bytes seen allocated between two back-to-back reads of the counter.
+     */
+    private static long calibrate(final com.sun.management.ThreadMXBean threads, final long threadId) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_READS; i++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, threads.getThreadAllocatedBytes(threadId) - before);
+        }
+        return overhead;
+    }
+
+    /**
+     * Invokes the given {@code testMethod} once.
+     *
+     * @param context      The {@link TestExtensionContext} of the currently executing {@code test}.
+     * @param testMethod   The {@code test} {@link Method} to invoke.
+     * @param testInstance The instance to invoke the {@code testMethod} on.
+     * @param repetition   The (zero based) index of the repetition, for reporting.
+     * @return {@code true} if the invocation completed normally; or {@code false} if it failed, and the {@code test}
+     * was expected to fail (its failure having been recorded).
+     * @throws ExpectedFailureException If the invocation fails, and the {@code test} was not expected to fail.
+     * @throws IllegalAccessException   If the {@code testMethod} cannot be invoked.
+     */
+    private static boolean invoke(final TestExtensionContext context, final Method testMethod,
+                                  final Object testInstance, final int repetition) throws IllegalAccessException {
+        try {
+            testMethod.invoke(testInstance, NO_ARGUMENTS);
+            return true;
+        } catch (final InvocationTargetException e) {
+            if (testMethod.isAnnotationPresent(ShouldFail.class)) {
+                ExpectedFailure.recordFailure(context);
+                return false;
+            }
+            throw new ExpectedFailureException(String.format("Test method %s failed on repetition %d of %s",
+                    testMethod.getName(), repetition + 1, e.getCause()), e.getCause());
+        }
+    }
+}
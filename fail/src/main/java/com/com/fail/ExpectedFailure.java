@@ -2,6 +2,7 @@ package com.com.fail;
 
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 
@@ -13,52 +14,92 @@ import java.lang.reflect.Method;
  * <p>
  * If a {@code Test} marked with {@code ShouldFail} does <i>not</i> {@code throw} an {@link Throwable}, then the {@code
  * Test} is deemed to have failed.
+ * <p>
+ * The {@code Extension} itself is stateless; all per-{@code Test} state is held in the {@link ExtensionContext.Store}
+ * of the executing {@code Test}, so a single instance may be shared by concurrently executing {@code Tests}.
  */
 public final class ExpectedFailure
         implements BeforeTestExecutionCallback, AfterTestExecutionCallback, TestExecutionExceptionHandler {
 
     /**
-     * Used to store state from before to after the test.  Set to {@code true} if the {@link
-     * TestExtensionContext#getTestMethod() Test Method} is {@link java.lang.annotation.Annotation annotated} by {@link
-     * ShouldFail}; otherwise {@code false}.
+     * The {@link ExtensionContext.Namespace} under which the per-{@code Test} state is {@link ExtensionContext.Store
+     * stored}.
+     */
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ExpectedFailure.class);
+
+    /**
+     * Key for the stored {@link Boolean} used to carry state from before to after the test.  Set to {@code true} if
+     * the {@link TestExtensionContext#getTestMethod() Test Method} is {@link java.lang.annotation.Annotation annotated}
+     * by {@link ShouldFail}; otherwise {@code false}.
      */
-    private volatile boolean expectsFailure;
+    private static final String EXPECTS_FAILURE = "expectsFailure";
 
     /**
-     * Used to store whether the current {@link org.junit.jupiter.api.Test} originally threw a {@link Throwable}, which
-     * was swallowed by the {@link #handleTestExecutionException(TestExtensionContext, Throwable) Exception handler}.
+     * Key for the stored {@link Boolean} used to record whether the current {@link org.junit.jupiter.api.Test}
+     * originally threw a {@link Throwable}, which was swallowed by the {@link
+     * #handleTestExecutionException(TestExtensionContext, Throwable) Exception handler}.
      * <p>
      * This is used to detect {@code Tests} which {@link ShouldFail should fail}, but haven't.
      */
-    private volatile boolean passedThroughExceptionHandler;
+    private static final String PASSED_THROUGH_EXCEPTION_HANDLER = "passedThroughExceptionHandler";
+
+    /**
+     * Retrieves the {@link ExtensionContext.Store} holding the state for the given {@code context}.
+     *
+     * @param context The {@link ExtensionContext} of the currently executing {@code Test}.
+     * @return The {@code Store} for the executing {@code Test}.
+     */
+    private static ExtensionContext.Store getStore(final ExtensionContext context) {
+        return context.getStore(NAMESPACE);
+    }
+
+    /**
+     * Reads the stored flag with the given {@code key}.
+     *
+     * @param context The {@link ExtensionContext} of the currently executing {@code Test}.
+     * @param key     The key of the flag.
+     * @return {@code true} if the flag has been set for the executing {@code Test}; otherwise {@code false}.
+     */
+    private static boolean isSet(final ExtensionContext context, final String key) {
+        return Boolean.TRUE.equals(getStore(context).get(key));
+    }
+
+    /**
+     * Records that the currently executing {@code test} has failed, other than by throwing from its body; so that a
+     * {@code test} which {@link ShouldFail should fail} is deemed to have done so.
+     * <p>
+     * Used by sibling {@link org.junit.jupiter.api.extension.Extension Extensions} (such as {@link ExpectedAllocation})
+     * whose assertions are made outside of the {@code test} body, and so never reach the {@link
+     * #handleTestExecutionException(TestExtensionContext, Throwable) Exception handler}.
+     *
+     * @param context The {@link ExtensionContext} of the currently executing {@code Test}.
+     */
+    static void recordFailure(final ExtensionContext context) {
+        getStore(context).put(PASSED_THROUGH_EXCEPTION_HANDLER, true);
+    }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Resets the {@link #expectsFailure} and {@link #passedThroughExceptionHandler} flags.  If the {@link ShouldFail}
-     * {@link java.lang.annotation.Annotation} is present on the executing {@code test} {@code method}, sets the {@code
-     * expectsFailure} flag to {@code true}.
+     * Stores the {@link #EXPECTS_FAILURE} flag for the executing {@code test}; {@code true} if the {@link ShouldFail}
+     * {@link java.lang.annotation.Annotation} is present on the executing {@code test} {@code method}.
      */
     @Override
     public void beforeTestExecution(final TestExtensionContext context) throws Exception {
 
-        // Reset our flags.
-        this.expectsFailure = false;
-        this.passedThroughExceptionHandler = false;
-
         @SuppressWarnings("OptionalGetWithoutIsPresent") // Internal call, confirmed as present.
         final Method testMethod = context.getTestMethod().get();
-        if (testMethod.isAnnotationPresent(ShouldFail.class)) {
-            // If the method has the ShouldFail annotation, set the 'expectsFailure' flag.
-            this.expectsFailure = true;
-        }
+
+        // If the method has the ShouldFail annotation, set the 'expectsFailure' flag.
+        getStore(context).put(EXPECTS_FAILURE, testMethod.isAnnotationPresent(ShouldFail.class));
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Sets the {@link #passedThroughExceptionHandler} flag to {@code true}.  If the currently executing test was
-     * <i>not</i> {@link #expectsFailure expected to fail}, then throws a {@link ExpectedFailureException}.
+     * Sets the {@link #PASSED_THROUGH_EXCEPTION_HANDLER} flag to {@code true}.  If the currently executing test was
+     * <i>not</i> {@link #EXPECTS_FAILURE expected to fail}, then throws a {@link ExpectedFailureException}.
      * <p>
      * Note: This is safe to do, since this method is only invoked if the currently executing {@code test} <i>has</i>
      * failed.
@@ -70,9 +111,9 @@ public final class ExpectedFailure
             throws ExpectedFailureException {
 
         // Set the 'passedThroughExceptionHandler' flag.
-        this.passedThroughExceptionHandler = true;
+        getStore(context).put(PASSED_THROUGH_EXCEPTION_HANDLER, true);
 
-        if (!expectsFailure) {
+        if (!isSet(context, EXPECTS_FAILURE)) {
             // The test threw a Throwable, but we weren't expecting it to fail.
             // Throw a new Exception.
             //noinspection OptionalGetWithoutIsPresent
@@ -84,16 +125,16 @@ public final class ExpectedFailure
     /**
      * {@inheritDoc}
      * <p>
-     * If the currently executing {@code test} was {@link #expectsFailure expected to fail}, but {@link
-     * #passedThroughExceptionHandler it did not}, throws a {@link ExpectedFailureException}.
+     * If the currently executing {@code test} was {@link #EXPECTS_FAILURE expected to fail}, but {@link
+     * #PASSED_THROUGH_EXCEPTION_HANDLER it did not}, throws a {@link ExpectedFailureException}.
      *
      * @throws ExpectedFailureException If the method was {@code expected to fail} but didn't.
      */
     @Override
     public void afterTestExecution(final TestExtensionContext context) throws ExpectedFailureException {
 
-        if (expectsFailure) {
-            if (!passedThroughExceptionHandler) {
+        if (isSet(context, EXPECTS_FAILURE)) {
+            if (!isSet(context, PASSED_THROUGH_EXCEPTION_HANDLER)) {
 
                 // If we were expecting a failure, but we didn't pass through the exceptionHandler method, the test
                 // did not throw a Throwable (as expected in the case of a failure).
@@ -4,6 +4,10 @@ package com.com.fail;
  * Package internal {@link Exception} used to indicate that the executing {@code test} failed due to the {@link
  * ExpectedFailure} processing.  This can either be because a {@code Test} which was expected to fail succeeded; or a
  * {@code Test} which was not expected to fail failed.
+ * <p>
+ * Also thrown by the {@link ExpectedLatency} and {@link ExpectedAllocation} processing, when a {@code Test} does not
+ * {@link ShouldCompleteWithin complete within} its latency limits, or {@link ShouldAllocateAtMost allocates} more than
+ * its budget.
  */
 class ExpectedFailureException extends AssertionError {
 
@@ -0,0 +1,166 @@
+package com.com.fail;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link org.junit.jupiter.api.extension.Extension} used to assert the latency of {@link org.junit.jupiter.api.Test
+ * Tests} which {@link ShouldCompleteWithin should complete within} a given budget.
+ * <p>
+ * Once a {@code Test} marked with {@code ShouldCompleteWithin} has passed, its body is invoked again on the same test
+ * instance; first {@link ShouldCompleteWithin#warmup() warmup} times unmeasured, and then {@link
+ * ShouldCompleteWithin#iterations() iterations} times, each bracketed by {@link System#nanoTime()} calls and recorded
+ * into a preallocated {@link LatencyDistribution}.  If any of the asserted percentiles exceeds its limit, then the
+ * {@code Test} is deemed to have failed, with the full distribution reported.
+ * <p>
+ * Only the body of the {@code Test} is repeated; not the {@code BeforeEach}/{@code AfterEach} methods, nor other
+ * {@code Extensions}.  Consequently only {@code Tests} without parameters are supported.
+ * <p>
+ * The {@code Extension} itself is stateless, so a single instance may be shared by concurrently executing {@code
+ * Tests}.
+ */
+public final class ExpectedLatency implements AfterTestExecutionCallback {
+
+    /**
+     * The percentiles which may be asserted on, in the order of {@link #NAMES}.
+     */
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 100.0};
+
+    /**
+     * The names of the {@link ShouldCompleteWithin} members giving the limit of each of the {@link #PERCENTILES}.
+     */
+    private static final String[] NAMES = {"p50", "p90", "p99", "max"};
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the executing {@code test} is annotated by {@link ShouldCompleteWithin}, and has not already failed, measures
+     * and asserts on its latency.
+     *
+     * @throws ExtensionConfigurationException If the {@code ShouldCompleteWithin} is invalid (or gives no limit), or
+     *                                         the {@code test} {@code method} takes parameters.
+     * @throws ExpectedFailureException        If a repeated invocation of the {@code test} fails, or any of the
+     *                                         asserted percentiles exceeds its limit.
+     */
+    @Override
+    public void afterTestExecution(final TestExtensionContext context) throws Exception {
+
+        @SuppressWarnings("OptionalGetWithoutIsPresent") // Internal call, confirmed as present.
+        final Method testMethod = context.getTestMethod().get();
+
+        final ShouldCompleteWithin expectation = testMethod.getAnnotation(ShouldCompleteWithin.class);
+        if (expectation == null || context.getTestException().isPresent()) {
+            // Nothing to assert, or the test has already failed for reasons of its own.
+            return;
+        }
+
+        final long[] limits = parseLimits(testMethod, expectation);
+        if (expectation.iterations() <= 0 || expectation.warmup() < 0) {
+            throw new ExtensionConfigurationException(String.format(
+                    "Illegal iterations (%d) or warmup (%d) for test method %s",
+                    expectation.iterations(), expectation.warmup(), testMethod.getName()));
+        }
+        if (testMethod.getParameterCount() != 0) {
+            throw new ExtensionConfigurationException(
+                    "Test method " + testMethod.getName() + " takes parameters, so cannot be repeated");
+        }
+
+        final LatencyDistribution distribution =
+                measure(testMethod, context.getTestInstance(), expectation.warmup(), expectation.iterations());
+
+        final List<String> exceeded = new ArrayList<>();
+        for (int i = 0; i < limits.length; i++) {
+            if (limits[i] >= 0L && distribution.percentile(PERCENTILES[i]) > limits[i]) {
+                exceeded.add(String.format("%s=%s > %s", NAMES[i],
+                        LatencyDistribution.format(distribution.percentile(PERCENTILES[i])),
+                        LatencyDistribution.format(limits[i])));
+            }
+        }
+        if (!exceeded.isEmpty()) {
+            throw new ExpectedFailureException(String.format("Test method %s did not complete within %s.%n%s",
+                    testMethod.getName(), String.join(", ", exceeded), distribution.summarise()));
+        }
+    }
+
+    /**
+     * Parses the limits of the given {@code expectation}.
+     *
+     * @param testMethod  The {@code test} {@link Method} annotated by the {@code expectation}.
+     * @param expectation The {@link ShouldCompleteWithin} to parse the limits of.
+     * @return The limit of each of the {@link #PERCENTILES}, in nanoseconds; or {@code -1} for those not asserted on.
+     * @throws ExtensionConfigurationException If any of the limits is invalid, or none is given.
+     */
+    private static long[] parseLimits(final Method testMethod, final ShouldCompleteWithin expectation) {
+        final String[] declared = {expectation.p50(), expectation.p90(), expectation.p99(), expectation.max()};
+        final long[] limits = new long[declared.length];
+        boolean asserted = false;
+        for (int i = 0; i < declared.length; i++) {
+            try {
+                limits[i] = declared[i].isEmpty() ? -1L : LatencyDistribution.parse(declared[i]);
+            } catch (final IllegalArgumentException e) {
+                throw new ExtensionConfigurationException(String.format("%s for %s of test method %s",
+                        e.getMessage(), NAMES[i], testMethod.getName()));
+            }
+            asserted |= limits[i] >= 0L;
+        }
+        if (!asserted) {
+            throw new ExtensionConfigurationException(String.format("No limit (%s) given for test method %s",
+                    String.join(", ", NAMES), testMethod.getName()));
+        }
+        return limits;
+    }
+
+    /**
+     * Repeatedly invokes the given {@code testMethod}, recording the latency of each measured invocation.
+     *
+     * @param testMethod   The {@code test} {@link Method} to invoke.
+     * @param testInstance The instance to invoke the {@code testMethod} on.
+     * @param warmup       The number of unmeasured invocations to make first.
+     * @param iterations   The number of measured invocations to make.
+     * @return The {@link LatencyDistribution} of the measured invocations.
+     * @throws ExpectedFailureException If any invocation fails.
+     * @throws IllegalAccessException   If the {@code testMethod} cannot be invoked.
+     */
+    private static LatencyDistribution measure(final Method testMethod, final Object testInstance,
+                                               final int warmup, final int iterations)
+            throws IllegalAccessException {
+
+        testMethod.setAccessible(true);
+        for (int i = 0; i < warmup; i++) {
+            invoke(testMethod, testInstance, i);
+        }
+
+        final LatencyDistribution distribution = new LatencyDistribution(iterations);
+        for (int i = 0; i < iterations; i++) {
+            final long start = System.nanoTime();
+            invoke(testMethod, testInstance, warmup + i);
+            distribution.record(System.nanoTime() - start);
+        }
+        return distribution;
+    }
+
+    /**
+     * Invokes the given {@code testMethod} once.
+     *
+     * @param testMethod   The {@code test} {@link Method} to invoke.
+     * @param testInstance The instance to invoke the {@code testMethod} on.
+     * @param repetition   The (zero based) index of the repetition, for reporting.
+     * @throws ExpectedFailureException If the invocation fails.
+     * @throws IllegalAccessException   If the {@code testMethod} cannot be invoked.
+     */
+    private static void invoke(final Method testMethod, final Object testInstance, final int repetition)
+            throws IllegalAccessException {
+        try {
+            testMethod.invoke(testInstance);
+        } catch (final InvocationTargetException e) {
+            throw new ExpectedFailureException(String.format("Test method %s failed on repetition %d of %s",
+                    testMethod.getName(), repetition + 1, e.getCause()), e.getCause());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.com.fail;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-capacity record of latencies, in nanoseconds, from which exact percentiles are computed.
+ * <p>
+ * The backing array is allocated up front, so {@link #record(long) recording} a latency is a single array store; and
+ * measuring an invocation costs no more than the two {@link System#nanoTime()} calls which bracket it.
+ */
+final class LatencyDistribution {
+
+    /**
+     * The recorded latencies; sorted once {@link #sorted} is set.
+     */
+    private final long[] latencies;
+
+    /**
+     * The number of recorded latencies.
+     */
+    private int count;
+
+    /**
+     * Whether the {@link #latencies} have been sorted since the last {@link #record(long) recording}.
+     */
+    private boolean sorted;
+
+
+    /**
+     * Constructor; generates an empty {@link LatencyDistribution}.
+     *
+     * @param capacity The number of latencies which may be recorded.
+     */
+    LatencyDistribution(final int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    /**
+     * Records the given latency.
+     *
+     * @param nanos The latency to record, in nanoseconds.
+     * @throws ArrayIndexOutOfBoundsException If the capacity of the distribution has been reached.
+     */
+    void record(final long nanos) {
+        latencies[count++] = nanos;
+        sorted = false;
+    }
+
+    /**
+     * Calculates the given {@code percentile} of the recorded latencies, using the nearest-rank method.
+     *
+     * @param percentile The percentile to calculate, in {@code (0, 100]}.
+     * @return The smallest recorded latency which is greater than or equal to {@code percentile} percent of the
+     * recorded latencies; or {@code 0} if none have been recorded.
+     */
+    long percentile(final double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return latencies[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * @return A human readable summary of the recorded latencies; being the count, minimum, mean, percentiles and
+     * maximum.
+     */
+    String summarise() {
+        long total = 0L;
+        for (int i = 0; i < count; i++) {
+            total += latencies[i];
+        }
+        return "count=" + count
+                + ", min=" + format(percentile(0.0))
+                + ", mean=" + format(count == 0 ? 0L : total / count)
+                + ", p50=" + format(percentile(50.0))
+                + ", p90=" + format(percentile(90.0))
+                + ", p99=" + format(percentile(99.0))
+                + ", max=" + format(percentile(100.0));
+    }
+
+    /**
+     * Parses the given latency limit.
+     *
+     * @param limit The limit to parse; a whole number followed by one of the units {@code ns}, {@code us}, {@code ms}
+     *              or {@code s}.
+     * @return The {@code limit}, in nanoseconds.
+     * @throws IllegalArgumentException If the {@code limit} is not of the expected form.
+     */
+    static long parse(final String limit) {
+        final String trimmed = limit.trim();
+        int digits = 0;
+        while (digits < trimmed.length() && Character.isDigit(trimmed.charAt(digits))) {
+            digits++;
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Illegal latency limit " + limit);
+        }
+
+        final TimeUnit unit;
+        switch (trimmed.substring(digits).trim()) {
+            case "ns":
+                unit = TimeUnit.NANOSECONDS;
+                break;
+            case "us":
+                unit = TimeUnit.MICROSECONDS;
+                break;
+            case "ms":
+                unit = TimeUnit.MILLISECONDS;
+                break;
+            case "s":
+                unit = TimeUnit.SECONDS;
+                break;
+            default:
+                throw new IllegalArgumentException("Illegal latency limit " + limit);
+        }
+        try {
+            return unit.toNanos(Long.parseLong(trimmed.substring(0, digits)));
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Illegal latency limit " + limit, e);
+        }
+    }
+
+    /**
+     * Formats the given latency in milliseconds.
+     *
+     * @param nanos The latency to format, in nanoseconds.
+     * @return The formatted latency.
+     */
+    static String format(final long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+}
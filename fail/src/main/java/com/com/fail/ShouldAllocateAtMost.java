@@ -0,0 +1,41 @@
+package com.com.fail;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.annotation.Annotation} used to annotate {@link org.junit.jupiter.api.Test Tests} whose body should
+ * allocate at most a given number of bytes.
+ * <p>
+ * Processed by the {@link ExpectedAllocation} {@link org.junit.jupiter.api.extension.Extension}; which, once the
+ * {@code Test} has executed, invokes its body again {@link #warmup()} times unmeasured, and then {@link #iterations()}
+ * times measured, and fails the {@code Test} if any measured invocation allocates more than {@link #value()} bytes (or
+ * {@code throws}).
+ * <p>
+ * May be combined with {@link ShouldFail}, in which case exceeding the budget is the expected failure; provided that
+ * {@code ExpectedAllocation} is registered after {@link ExpectedFailure} (see {@link ExpectedAllocation}).  On JVMs
+ * unable to measure allocation, such a {@code Test} is skipped.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface ShouldAllocateAtMost {
+
+    /**
+     * @return The number of bytes which a single invocation of the {@code Test} body may allocate; {@code 0} (the
+     * default) for allocation-free bodies.  Must not be negative.
+     */
+    long value() default 0L;
+
+    /**
+     * @return The number of measured invocations of the {@code Test} body.  Must be positive.
+     */
+    int iterations() default 10;
+
+    /**
+     * @return The number of unmeasured invocations of the {@code Test} body, made before the measured ones so that
+     * one-off allocations (class initialisation, reflection inflation, JIT compilation) are not counted.  Must not be
+     * negative.
+     */
+    int warmup() default 1000;
+}
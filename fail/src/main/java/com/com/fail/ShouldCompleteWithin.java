@@ -0,0 +1,53 @@
+package com.com.fail;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.annotation.Annotation} used to annotate {@link org.junit.jupiter.api.Test Tests} which should
+ * complete within a given latency budget.
+ * <p>
+ * Processed by the {@link ExpectedLatency} {@link org.junit.jupiter.api.extension.Extension}; which, once the {@code
+ * Test} has passed, invokes its body {@link #warmup()} further times unmeasured, and then {@link #iterations()} times
+ * measured, and fails the {@code Test} if any of the given percentiles of the measured latencies exceeds its limit.
+ * <p>
+ * Limits are given as a whole number followed by a unit; one of {@code ns}, {@code us}, {@code ms} or {@code s} (e.g.
+ * {@code "5ms"}).  Percentiles with an empty limit (the default) are not asserted on; but at least one limit must be
+ * given.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface ShouldCompleteWithin {
+
+    /**
+     * @return The limit of the median latency; or empty if the median should not be asserted on.
+     */
+    String p50() default "";
+
+    /**
+     * @return The limit of the 90th percentile latency; or empty if it should not be asserted on.
+     */
+    String p90() default "";
+
+    /**
+     * @return The limit of the 99th percentile latency; or empty if it should not be asserted on.
+     */
+    String p99() default "";
+
+    /**
+     * @return The limit of the maximum latency; or empty if it should not be asserted on.
+     */
+    String max() default "";
+
+    /**
+     * @return The number of measured invocations of the {@code Test} body.  Must be positive.
+     */
+    int iterations() default 1000;
+
+    /**
+     * @return The number of unmeasured invocations of the {@code Test} body, made before the measured ones to allow
+     * the JIT to settle.  Must not be negative.
+     */
+    int warmup() default 100;
+}
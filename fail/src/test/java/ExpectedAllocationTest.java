@@ -0,0 +1,133 @@
+import com.com.fail.ExpectedAllocation;
+import com.com.fail.ExpectedFailure;
+import com.com.fail.ShouldAllocateAtMost;
+import com.com.fail.ShouldFail;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.com.test.StubTestExtensionContext.forMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith({ExpectedFailure.class, ExpectedAllocation.class})
+public class ExpectedAllocationTest {
+
+    private long counter;
+
+    private Object sink;
+
+    @ShouldAllocateAtMost
+    @Test
+    void testWhichDoesNotAllocate() {
+        counter++;
+    }
+
+    @ShouldFail
+    @ShouldAllocateAtMost(64)
+    @Test
+    void testWhichAllocatesAndShouldFail() {
+        sink = new byte[1024];
+    }
+
+    @DisplayName("The test body is repeated for the warmup and the measured iterations")
+    @Test
+    void testRepetitions() throws Exception {
+        final Fixture fixture = new Fixture();
+        new ExpectedAllocation().afterTestExecution(forMethod(fixture, "allocationFree"));
+        assertEquals(1000 + 20, fixture.invocations);
+    }
+
+    @DisplayName("A test exceeding its budget fails, reporting the allocation")
+    @Test
+    void testExceedsBudget() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "allocating");
+        final AssertionError error =
+                expectThrows(AssertionError.class, () -> new ExpectedAllocation().afterTestExecution(context));
+        assertTrue(error.getMessage().startsWith("Test method allocating allocated up to "), error.getMessage());
+        assertTrue(error.getMessage().contains("exceeding its budget of 128 bytes"), error.getMessage());
+    }
+
+    @DisplayName("A test expected to fail, which exceeds its budget, is deemed to have failed")
+    @Test
+    void testExceedsBudgetAsExpected() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "allocatingAsExpected");
+        new ExpectedFailure().beforeTestExecution(context);
+        new ExpectedAllocation().afterTestExecution(context);
+        new ExpectedFailure().afterTestExecution(context);
+    }
+
+    @DisplayName("A test expected to fail, which stays within its budget, has not failed")
+    @Test
+    void testWithinBudgetNotExpected() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "allocationFreeAsExpected");
+        new ExpectedFailure().beforeTestExecution(context);
+        new ExpectedAllocation().afterTestExecution(context);
+        expectThrows(AssertionError.class, () -> new ExpectedFailure().afterTestExecution(context));
+    }
+
+    @DisplayName("A test whose repeated body throws fails, rather than going unmeasured")
+    @Test
+    void testThrowingBody() throws Exception {
+        final Fixture fixture = new Fixture();
+        final StubTestExtensionContext context = forMethod(fixture, "throwing");
+        final AssertionError error =
+                expectThrows(AssertionError.class, () -> new ExpectedAllocation().afterTestExecution(context));
+        assertTrue(error.getMessage().startsWith("Test method throwing failed on repetition 1 of "),
+                error.getMessage());
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertEquals(1, fixture.invocations);
+    }
+
+    @DisplayName("A test expected to fail, whose repeated body throws, is deemed to have failed")
+    @Test
+    void testThrowingBodyAsExpected() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "throwingAsExpected");
+        new ExpectedFailure().beforeTestExecution(context);
+        new ExpectedAllocation().afterTestExecution(context);
+        new ExpectedFailure().afterTestExecution(context);
+    }
+
+    static class Fixture {
+
+        int invocations;
+
+        Object sink;
+
+        @ShouldAllocateAtMost(iterations = 20)
+        void allocationFree() {
+            invocations++;
+        }
+
+        @ShouldAllocateAtMost(value = 128, iterations = 5, warmup = 5)
+        void allocating() {
+            sink = new long[1024];
+        }
+
+        @ShouldFail
+        @ShouldAllocateAtMost(value = 128, iterations = 5, warmup = 5)
+        void allocatingAsExpected() {
+            sink = new long[1024];
+        }
+
+        @ShouldFail
+        @ShouldAllocateAtMost(iterations = 5)
+        void allocationFreeAsExpected() {
+            invocations++;
+        }
+
+        @ShouldAllocateAtMost
+        void throwing() {
+            invocations++;
+            throw new IllegalStateException("not measurable");
+        }
+
+        @ShouldFail
+        @ShouldAllocateAtMost
+        void throwingAsExpected() {
+            throw new IllegalStateException("not measurable");
+        }
+    }
+}
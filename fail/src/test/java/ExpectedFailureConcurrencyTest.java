@@ -0,0 +1,82 @@
+import com.com.fail.ExpectedFailure;
+import com.com.fail.ShouldFail;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpectedFailureConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    private static final int INVOCATIONS = 20_000;
+
+    @DisplayName("Shared ExpectedFailure reports the correct outcome for concurrently executing tests")
+    @Test
+    void testConcurrentExecutionsDoNotShareState() throws Exception {
+        final ExpectedFailure extension = new ExpectedFailure();
+        final Fixture fixture = new Fixture();
+
+        final AtomicInteger wrongOutcomes = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < INVOCATIONS; i++) {
+                final boolean expectsFailure = i % 2 == 0;
+                final boolean throwsFailure = (i / 2) % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    final StubTestExtensionContext context =
+                            StubTestExtensionContext.forMethod(fixture, expectsFailure ? "shouldFail" : "shouldPass");
+                    if (reportsFailure(extension, context, throwsFailure) != (expectsFailure != throwsFailure)) {
+                        wrongOutcomes.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        assertEquals(0, wrongOutcomes.get());
+    }
+
+    private static boolean reportsFailure(final ExpectedFailure extension, final StubTestExtensionContext context,
+                                          final boolean throwsFailure) throws Exception {
+        try {
+            extension.beforeTestExecution(context);
+            Thread.yield();
+            if (throwsFailure) {
+                extension.handleTestExecutionException(context, new AssertionError("Test body failed"));
+            }
+            Thread.yield();
+            extension.afterTestExecution(context);
+            return false;
+        } catch (final AssertionError expectedFailureException) {
+            return true;
+        }
+    }
+
+    static final class Fixture {
+
+        @ShouldFail
+        void shouldFail() {
+        }
+
+        void shouldPass() {
+        }
+    }
+}
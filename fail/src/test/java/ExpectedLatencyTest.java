@@ -0,0 +1,114 @@
+import com.com.fail.ExpectedLatency;
+import com.com.fail.ShouldCompleteWithin;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+
+import static com.com.test.StubTestExtensionContext.forMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(ExpectedLatency.class)
+public class ExpectedLatencyTest {
+
+    @ShouldCompleteWithin(p99 = "1s", max = "5s", iterations = 50, warmup = 10)
+    @Test
+    void testWhichCompletesWithin() {
+        assertTrue(true);
+    }
+
+    @DisplayName("The test body is repeated for the warmup and the measured iterations")
+    @Test
+    void testRepetitions() throws Exception {
+        final Fixture fixture = new Fixture();
+        new ExpectedLatency().afterTestExecution(forMethod(fixture, "fast"));
+        assertEquals(3 + 7, fixture.invocations);
+    }
+
+    @DisplayName("A test exceeding its limits fails, reporting the distribution")
+    @Test
+    void testExceedsLimit() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "slow");
+        final AssertionError error =
+                expectThrows(AssertionError.class, () -> new ExpectedLatency().afterTestExecution(context));
+        assertTrue(error.getMessage().startsWith("Test method slow did not complete within p50="), error.getMessage());
+        assertTrue(error.getMessage().contains("count=5, min="), error.getMessage());
+    }
+
+    @DisplayName("A failing repetition fails the test")
+    @Test
+    void testFailingRepetition() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "failsEventually");
+        final AssertionError error =
+                expectThrows(AssertionError.class, () -> new ExpectedLatency().afterTestExecution(context));
+        assertTrue(error.getMessage().startsWith("Test method failsEventually failed on repetition 3"),
+                error.getMessage());
+    }
+
+    @DisplayName("An unparseable limit is reported as a configuration error")
+    @Test
+    void testIllegalLimit() throws Exception {
+        final StubTestExtensionContext context = forMethod(new Fixture(), "illegal");
+        final ExtensionConfigurationException exception = expectThrows(ExtensionConfigurationException.class,
+                () -> new ExpectedLatency().afterTestExecution(context));
+        assertEquals("Illegal latency limit 5 minutes for p99 of test method illegal", exception.getMessage());
+    }
+
+    @DisplayName("A ShouldCompleteWithin giving no limit is reported as a configuration error")
+    @Test
+    void testNoLimit() throws Exception {
+        final Fixture fixture = new Fixture();
+        final StubTestExtensionContext context = forMethod(fixture, "unlimited");
+        final ExtensionConfigurationException exception = expectThrows(ExtensionConfigurationException.class,
+                () -> new ExpectedLatency().afterTestExecution(context));
+        assertEquals("No limit (p50, p90, p99, max) given for test method unlimited", exception.getMessage());
+        assertEquals(0, fixture.invocations);
+    }
+
+    @DisplayName("Tests without ShouldCompleteWithin are not repeated")
+    @Test
+    void testNotAnnotated() throws Exception {
+        final Fixture fixture = new Fixture();
+        new ExpectedLatency().afterTestExecution(forMethod(fixture, "notAnnotated"));
+        assertEquals(0, fixture.invocations);
+    }
+
+    static class Fixture {
+
+        int invocations;
+
+        @ShouldCompleteWithin(p99 = "1s", iterations = 7, warmup = 3)
+        void fast() {
+            invocations++;
+        }
+
+        @ShouldCompleteWithin(p50 = "1us", iterations = 5, warmup = 0)
+        void slow() throws InterruptedException {
+            Thread.sleep(1L);
+        }
+
+        @ShouldCompleteWithin(max = "1s", iterations = 5, warmup = 0)
+        void failsEventually() {
+            if (++invocations == 3) {
+                throw new IllegalStateException("third time unlucky");
+            }
+        }
+
+        @ShouldCompleteWithin(p99 = "5 minutes")
+        void illegal() {
+            invocations++;
+        }
+
+        @ShouldCompleteWithin
+        void unlimited() {
+            invocations++;
+        }
+
+        void notAnnotated() {
+            invocations++;
+        }
+    }
+}
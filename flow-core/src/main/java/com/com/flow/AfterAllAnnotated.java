@@ -0,0 +1,40 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Method} marker {@link Annotation} to indicate that the marked {@code Method} should be run
+ * <strong>once</strong> per {@code Test} {@link Class}; after the last of its {@code Tests} which is {@link
+ * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} by <strong>all</strong> the {@code
+ * Annotations} specified in the {@link #value()}.
+ * <p>
+ * The last such {@code Test} is determined from the {@code Tests} declared by the {@code Class}; the {@code Method} is
+ * run after any {@link AfterAnnotated} {@code Methods} of that {@code Test}, on its instance.  If any of the satisfying
+ * {@code Tests} do not execute (e.g. are filtered out, or disabled), the {@code Method} is instead run once the {@code
+ * Class} has finished; provided at least one of them did execute.
+ * <p>
+ * If the {@code Method} takes the {@code Annotations} as parameters, it is run once for each distinct set of their
+ * values; after the last {@code Test} annotated with those values, and with them.
+ *
+ * @see BeforeAllAnnotated
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(AfterAllAnnotateds.class)
+@Inherited
+@Documented
+public @interface AfterAllAnnotated {
+
+    /**
+     * @return An {@link java.lang.reflect.Array} of {@link Annotation} {@link Class Classes} which should
+     * <strong>all</strong> be present on the executing {@code Test} for the {@link
+     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link java.lang.reflect.Method} to be
+     * {@link java.lang.reflect.Method#invoke(Object, Object...) invoked} after the last of them.
+     */
+    Class<? extends Annotation>[] value();
+
+    /**
+     * @return The time budget of the {@code Method} in milliseconds, as supervised by {@link FlowWatchdog}.
+     */
+    long timeoutMillis() default 0L;
+}
@@ -0,0 +1,21 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * Grouping {@link Annotation} for {@link AfterAllAnnotated}.  Allows multiple {@code AfterAllAnnotated} {@code
+ * Annotations} to be given on a single {@link java.lang.reflect.Method}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface AfterAllAnnotateds {
+
+    /**
+     * @return An {@link java.lang.reflect.Array} of the {@link AfterAllAnnotated} {@link Annotation Annotations} which
+     * should be honoured on the {@link java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@code
+     * Method}.
+     */
+    AfterAllAnnotated[] value();
+}
@@ -0,0 +1,49 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Method} marker {@link Annotation} to indicate that the marked {@code Method} should be run
+ * <strong>only</strong> after those {@code Tests} which are <strong>not</strong> {@link
+ * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} by <strong>any</strong> of the {@code
+ * Annotations} specified in the {@link #value()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(AfterNotAnnotateds.class)
+@Inherited
+@Documented
+public @interface AfterNotAnnotated {
+
+    /**
+     * @return An {@link java.lang.reflect.Array} of {@link Annotation} {@link Class Classes} which should
+     * <strong>all</strong> not be present on the executing {@code Test} for the {@link
+     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link java.lang.reflect.Method} to be
+     * {@link java.lang.reflect.Method#invoke(Object, Object...) invoked} after.
+     */
+    Class<? extends Annotation>[] value();
+
+    /**
+     * @return {@code true} if the {@link java.lang.reflect.Method} may be invoked asynchronously, off the critical path
+     * of the {@code Test} (e.g. for pure cleanup); so that the next {@code Test} need not wait for it.  Asynchronous
+     * invocations are bounded (by the {@code com.com.flow.asyncParallelism} system property, defaulting to the number
+     * of processors), and are all joined once the {@code Test} {@link Class} has finished; at which point any failure
+     * is reported, naming the {@code Test} which it followed.  Must be the same for each of these {@code Annotations}
+     * on a {@code Method}.
+     */
+    boolean async() default false;
+
+    /**
+     * @return The time budget of the {@code Method} in milliseconds, as supervised by {@link FlowWatchdog}.
+     */
+    long timeoutMillis() default 0L;
+
+    /**
+     * @return The name of the {@link BeforeAnnotated#lazy() lazy} {@code before} {@link java.lang.reflect.Method} of
+     * the {@code Test} {@link Class} which this {@code Method} tears down; or empty (the default) if it tears down no
+     * lazy {@code Method}.  When named, this {@code Method} is not invoked after those {@code Tests} which never used
+     * the value of the lazy {@code Method}, so unused setup costs nothing; every other {@code after} {@code Method} is
+     * invoked as usual.  Must be the same for each of these {@code Annotations} on a {@code Method}.
+     */
+    String pairedWith() default "";
+}
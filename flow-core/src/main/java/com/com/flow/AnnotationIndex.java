@@ -0,0 +1,109 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns {@link Annotation} {@link Class Classes} into small, dense {@code int} indices, allowing sets of {@code
+ * Annotation} {@code Classes} to be represented as bitmasks.
+ * <p>
+ * Bitmasks are represented as {@code long} {@link java.lang.reflect.Array Arrays}, with bit {@code i % 64} of word
+ * {@code i / 64} representing the {@code Annotation} {@code Class} with index {@code i}.  Masks generated at different
+ * times may differ in length; any missing trailing words are treated as {@code 0}.
+ * <p>
+ * An index is shared by the {@link FlowPlan FlowPlans} of a single hierarchy of {@code Test} {@code Classes} (from one
+ * {@link ClassLoader}), so that registrations (and their masks) are valid in every plan composed from them; e.g. those
+ * of a superclass, in the plans of each of its subclasses.  So it holds only the {@code Annotation} {@code Classes} of
+ * interest to that hierarchy, is held only by its plans (and so is unloaded with them), and its masks are only as wide
+ * as the hierarchy needs.  It is populated (via {@link #maskOf(Class[])}) only while plans are being compiled, which
+ * may happen on several threads at once; so interning is serialised, while reads are not.
+ */
+final class AnnotationIndex {
+
+    /**
+     * The number of bits in each word of a mask.
+     */
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /**
+     * The index assigned to each interned {@link Annotation} {@link Class}.
+     */
+    private final Map<Class<? extends Annotation>, Integer> indices = new ConcurrentHashMap<>();
+
+
+    /**
+     * Determines whether the given {@code required} mask is a subset of the given {@code present} mask.
+     *
+     * @param present  The mask of the {@link Annotation Annotations} which are present.
+     * @param required The mask of the {@code Annotations} which are required.
+     * @return {@code true} if <strong>all</strong> of the bits set in {@code required} are set in {@code present};
+     * otherwise {@code false}.
+     */
+    static boolean containsAll(final long[] present, final long[] required) {
+        for (int word = 0; word < required.length; word++) {
+            final long presentWord = word < present.length ? present[word] : 0L;
+            if ((presentWord & required[word]) != required[word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the mask for the given {@link Annotation} {@link Class Classes}, interning any which have not yet been
+     * seen.
+     *
+     * @param annotationClasses The {@code Annotation} {@code Classes} to generate the mask for.
+     * @return The mask with the bit set for each of the given {@code annotationClasses}.
+     */
+    synchronized long[] maskOf(final Class<? extends Annotation>[] annotationClasses) {
+        final int[] annotationIndices = new int[annotationClasses.length];
+        for (int i = 0; i < annotationClasses.length; i++) {
+            Integer annotationIndex = indices.get(annotationClasses[i]);
+            if (annotationIndex == null) {
+                annotationIndex = indices.size();
+                indices.put(annotationClasses[i], annotationIndex);
+            }
+            annotationIndices[i] = annotationIndex;
+        }
+
+        final long[] mask = new long[words()];
+        for (final int annotationIndex : annotationIndices) {
+            mask[annotationIndex / BITS_PER_WORD] |= 1L << (annotationIndex % BITS_PER_WORD);
+        }
+        return mask;
+    }
+
+    /**
+     * Generates the mask for the given present {@link Annotation Annotations}.  {@code Annotations} whose {@link
+     * Annotation#annotationType() type} has not been interned are not of interest to any registration, and so are
+     * ignored.
+     *
+     * @param presentAnnotations The {@code Annotations} to generate the mask for.
+     * @return The mask with the bit set for the {@code type} of each of the given {@code presentAnnotations} which
+     * has been interned (possibly concurrently, in which case the mask is widened to hold it).
+     */
+    long[] maskOfPresent(final Iterable<? extends Annotation> presentAnnotations) {
+        long[] mask = new long[words()];
+        for (final Annotation presentAnnotation : presentAnnotations) {
+            final Integer annotationIndex = indices.get(presentAnnotation.annotationType());
+            if (annotationIndex != null) {
+                final int word = annotationIndex / BITS_PER_WORD;
+                if (word >= mask.length) {
+                    mask = Arrays.copyOf(mask, word + 1);
+                }
+                mask[word] |= 1L << (annotationIndex % BITS_PER_WORD);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return The number of words required for a mask to hold all of the currently interned indices.
+     */
+    private int words() {
+        return (indices.size() + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+}
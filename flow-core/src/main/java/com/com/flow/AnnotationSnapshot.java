@@ -0,0 +1,153 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Immutable snapshot of the {@link Annotation Annotations} present on a {@code Test} {@link Method}, as seen by {@code
+ * annotation-flow}.
+ * <p>
+ * A snapshot merges the {@code Annotations} of:
+ * <ol>
+ * <li>the {@code Test} {@code Method} itself;</li>
+ * <li>the {@code Test} {@link Class} and each of its {@code super} {@code classes}; and</li>
+ * <li>each {@code interface} implemented within the {@code Test} {@code Class'} hierarchy;</li>
+ * </ol>
+ * along with the meta-{@code Annotations} of each of those (recursively).  Where multiple {@code Annotations} of the
+ * same {@code Type} are found, the one found first (in the order above, with each element's direct {@code Annotations}
+ * ahead of its meta-{@code Annotations}) is retained.
+ * <p>
+ * A snapshot is computed once per {@code Test} {@code Method} by its {@link FlowPlan}, and is shared by matching (via
+ * its {@link #getPresentAnnotationMask() mask}) and parameter binding (via {@link #find(Class)}) for every dispatch.
+ */
+final class AnnotationSnapshot {
+
+    /**
+     * The present {@link Annotation Annotations}, by their {@link Annotation#annotationType() type}; in the order they
+     * were found.
+     */
+    private final Map<Class<? extends Annotation>, Annotation> annotations;
+
+    /**
+     * The mask of the present {@link Annotation Annotations}, from the {@link AnnotationIndex} of the owning {@link
+     * FlowPlan}.
+     */
+    private final long[] presentAnnotationMask;
+
+
+    /**
+     * Constructor; computes the snapshot for the given {@code Test} {@link Method}.
+     *
+     * @param testMethod      The {@code Test} {@code Method} to compute the snapshot for.
+     * @param testClass       The {@code Test} {@link Class} which the {@code testMethod} is executing for.  May be a
+     *                        subclass of the {@code testMethod's} declaring {@code Class}.
+     * @param annotationIndex The {@link AnnotationIndex} to compute the {@link #presentAnnotationMask} from.
+     */
+    AnnotationSnapshot(final Method testMethod, final Class<?> testClass, final AnnotationIndex annotationIndex) {
+        final Map<Class<? extends Annotation>, Annotation> found = new LinkedHashMap<>();
+
+        collect(testMethod, found);
+
+        final Set<Class<?>> interfaces = new LinkedHashSet<>();
+        Class<?> containingClass = testClass;
+        while (containingClass != null) {
+            collect(containingClass, found);
+            collectInterfaces(containingClass, interfaces);
+            containingClass = containingClass.getSuperclass();
+        }
+        for (final Class<?> implemented : interfaces) {
+            collect(implemented, found);
+        }
+
+        this.annotations = Collections.unmodifiableMap(found);
+        this.presentAnnotationMask = annotationIndex.maskOfPresent(annotations.values());
+    }
+
+    /**
+     * Adds the {@link Annotation Annotations} directly present on the given {@code element}, followed by their
+     * meta-{@code Annotations}, to those {@code found}; retaining any already {@code found} of the same {@code Type}.
+     *
+     * @param element The {@link AnnotatedElement} to collect the {@code Annotations} of.
+     * @param found   The {@code Annotations} found so far, by {@code Type}.
+     */
+    private static void collect(final AnnotatedElement element,
+                                final Map<Class<? extends Annotation>, Annotation> found) {
+        final Annotation[] direct = element.getAnnotations();
+        for (final Annotation annotation : direct) {
+            found.putIfAbsent(annotation.annotationType(), annotation);
+        }
+        for (final Annotation annotation : direct) {
+            collectMeta(annotation.annotationType(), found, new HashSet<>());
+        }
+    }
+
+    /**
+     * Adds the meta-{@link Annotation Annotations} of the given {@code Annotation} {@code Type} (recursively) to those
+     * {@code found}; retaining any already {@code found} of the same {@code Type}.  The {@code java.lang.annotation}
+     * {@code Annotations} (e.g. {@link java.lang.annotation.Retention}) are not of interest, and are skipped.
+     *
+     * @param annotationType The {@code Type} of the {@code Annotation} to collect the meta-{@code Annotations} of.
+     * @param found          The {@code Annotations} found so far, by {@code Type}.
+     * @param visited        The {@code Annotation} {@code Types} already visited; used to terminate cycles.
+     */
+    private static void collectMeta(final Class<? extends Annotation> annotationType,
+                                    final Map<Class<? extends Annotation>, Annotation> found,
+                                    final Set<Class<? extends Annotation>> visited) {
+        if (!visited.add(annotationType)) {
+            return;
+        }
+        for (final Annotation meta : annotationType.getAnnotations()) {
+            final Class<? extends Annotation> metaType = meta.annotationType();
+            if (metaType.getName().startsWith("java.lang.annotation.")) {
+                continue;
+            }
+            found.putIfAbsent(metaType, meta);
+            collectMeta(metaType, found, visited);
+        }
+    }
+
+    /**
+     * Adds each {@code interface} of the given {@link Class} (and each of their {@code super} {@code interfaces}) to
+     * those {@code found}.
+     *
+     * @param type  The {@code Class} to collect the {@code interfaces} of.
+     * @param found The {@code interfaces} found so far.
+     */
+    private static void collectInterfaces(final Class<?> type, final Set<Class<?>> found) {
+        for (final Class<?> implemented : type.getInterfaces()) {
+            if (found.add(implemented)) {
+                collectInterfaces(implemented, found);
+            }
+        }
+    }
+
+    /**
+     * @return The mask of the present {@link Annotation Annotations}, from the {@link AnnotationIndex} of the owning
+     * {@link FlowPlan}.
+     */
+    long[] getPresentAnnotationMask() {
+        return this.presentAnnotationMask;
+    }
+
+    /**
+     * Finds a present {@link Annotation} which may be passed as a parameter of the given {@code Type}.
+     *
+     * @param parameterType The {@code Type} of the parameter.
+     * @return The present {@code Annotation} of exactly the {@code parameterType} if there is one; otherwise the first
+     * present {@code Annotation} assignable to the {@code parameterType}; otherwise {@code null}.
+     */
+    Annotation find(final Class<?> parameterType) {
+        final Annotation exact = annotations.get(parameterType);
+        if (exact != null) {
+            return exact;
+        }
+        for (final Annotation annotation : annotations.values()) {
+            if (parameterType.isInstance(annotation)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+}
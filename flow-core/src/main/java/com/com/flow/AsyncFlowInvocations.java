@@ -0,0 +1,177 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * The outstanding {@link AfterAnnotated#async() asynchronous} {@code annotation-flow} invocations of a single {@code
+ * Test} {@link Class}.
+ * <p>
+ * Invocations run on an executor shared by all {@code Test} {@code Classes}; using a virtual thread per invocation
+ * where the runtime supports them, otherwise a daemon thread per invocation.  Either way, the number of invocations in
+ * flight is bounded by the {@value #PARALLELISM_PROPERTY} system property (defaulting to the number of processors);
+ * submitting beyond it waits for an earlier invocation to complete.
+ */
+final class AsyncFlowInvocations {
+
+    /**
+     * The system property bounding the number of asynchronous invocations in flight.
+     */
+    static final String PARALLELISM_PROPERTY = "com.com.flow.asyncParallelism";
+
+    /**
+     * The executor which runs every asynchronous invocation.
+     */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    /**
+     * Bounds the number of asynchronous invocations in flight, across all {@code Test} {@link Class Classes}.
+     */
+    private static final Semaphore IN_FLIGHT = new Semaphore(Integer.getInteger(PARALLELISM_PROPERTY,
+            Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * The invocations submitted for the {@code Test} {@link Class}, which have not yet been joined.
+     */
+    private final Queue<Invocation> outstanding = new ConcurrentLinkedQueue<>();
+
+
+    /**
+     * Creates the executor which runs every asynchronous invocation.
+     *
+     * @return An executor using a virtual thread per task, where supported; otherwise a daemon thread per task.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException noVirtualThreads) {
+            return Executors.newCachedThreadPool(task -> {
+                final Thread thread = new Thread(task, "annotation-flow-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Submits an asynchronous invocation; waiting first if the bound on invocations in flight has been reached.
+     *
+     * @param flowMethod The {@code annotation-flow} {@link Method} being invoked.
+     * @param test       The description of the {@code Test} which the invocation follows.
+     * @param invocation The invocation.
+     */
+    void submit(final Method flowMethod, final String test, final Runnable invocation) {
+        IN_FLIGHT.acquireUninterruptibly();
+        final Future<?> future;
+        try {
+            future = EXECUTOR.submit(() -> {
+                try {
+                    invocation.run();
+                } finally {
+                    IN_FLIGHT.release();
+                }
+            });
+        } catch (final RuntimeException rejected) {
+            IN_FLIGHT.release();
+            throw rejected;
+        }
+        outstanding.add(new Invocation(flowMethod, test, future));
+    }
+
+    /**
+     * Waits for every outstanding invocation to complete.
+     *
+     * @throws AsyncFlowException If any of the invocations failed; its message names the {@code annotation-flow}
+     *                            {@link Method} and {@code Test} of the first failure, with any others suppressed.
+     */
+    void joinAll() {
+        final List<AsyncFlowException> failures = new ArrayList<>();
+        boolean interrupted = false;
+        for (Invocation invocation = outstanding.poll(); invocation != null; invocation = outstanding.poll()) {
+            while (true) {
+                try {
+                    invocation.future.get();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                } catch (final ExecutionException e) {
+                    failures.add(new AsyncFlowException(invocation.flowMethod, invocation.test, e.getCause()));
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!failures.isEmpty()) {
+            final AsyncFlowException first = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                first.addSuppressed(failures.get(i));
+            }
+            throw first;
+        }
+    }
+
+    /**
+     * A single submitted invocation.
+     */
+    private static final class Invocation {
+
+        /**
+         * The {@code annotation-flow} {@link Method} being invoked.
+         */
+        private final Method flowMethod;
+
+        /**
+         * The description of the {@code Test} which the invocation follows.
+         */
+        private final String test;
+
+        /**
+         * The {@link Future} of the invocation.
+         */
+        private final Future<?> future;
+
+        /**
+         * Constructor.
+         *
+         * @param flowMethod The {@code annotation-flow} {@link Method} being invoked.
+         * @param test       The description of the {@code Test} which the invocation follows.
+         * @param future     The {@link Future} of the invocation.
+         */
+        Invocation(final Method flowMethod, final String test, final Future<?> future) {
+            this.flowMethod = flowMethod;
+            this.test = test;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Raised once a {@code Test} {@link Class} has finished, if any of its asynchronous invocations failed.
+     */
+    static final class AsyncFlowException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor.
+         *
+         * @param flowMethod The {@code annotation-flow} {@link Method} which failed.
+         * @param test       The description of the {@code Test} which the invocation followed.
+         * @param cause      The failure.
+         */
+        AsyncFlowException(final Method flowMethod, final String test, final Throwable cause) {
+            super(String.format("Asynchronous annotation-flow method %s#%s failed after test %s",
+                    flowMethod.getDeclaringClass().getSimpleName(), flowMethod.getName(), test), cause);
+        }
+    }
+}
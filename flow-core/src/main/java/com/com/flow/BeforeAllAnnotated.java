@@ -0,0 +1,42 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Method} marker {@link Annotation} to indicate that the marked {@code Method} should be run
+ * <strong>once</strong> per {@code Test} {@link Class}; before the first of its {@code Tests} which is {@link
+ * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} by <strong>all</strong> the {@code
+ * Annotations} specified in the {@link #value()}.
+ * <p>
+ * Allows an expensive fixture needed by every {@code Test} with a given {@code Annotation} signature to be built once
+ * per signature, rather than once per {@code Test}.  The {@code Method} is run ahead of any {@link BeforeAnnotated}
+ * {@code Methods} of that first {@code Test}, on its instance; as each {@code Test} has its own instance, the fixture
+ * should be held {@code static}ally.  Should the {@code Method} fail, every later satisfying {@code Test} of the {@code
+ * Class} fails too.
+ * <p>
+ * If the {@code Method} takes the {@code Annotations} as parameters, it is run once for each distinct set of their
+ * values; e.g. once for the {@code Tests} annotated {@code @Fixture(1)}, and again for those annotated {@code
+ * @Fixture(2)}, each receiving the value returned for their own.
+ *
+ * @see AfterAllAnnotated
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Repeatable(BeforeAllAnnotateds.class)
+@Inherited
+@Documented
+public @interface BeforeAllAnnotated {
+
+    /**
+     * @return An {@link java.lang.reflect.Array} of {@link Annotation} {@link Class Classes} which should
+     * <strong>all</strong> be present on the executing {@code Test} for the {@link
+     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link java.lang.reflect.Method} to be
+     * {@link java.lang.reflect.Method#invoke(Object, Object...) invoked} before (if it has not been already).
+     */
+    Class<? extends Annotation>[] value();
+
+    /**
+     * @return The time budget of the {@code Method} in milliseconds, as supervised by {@link FlowWatchdog}.
+     */
+    long timeoutMillis() default 0L;
+}
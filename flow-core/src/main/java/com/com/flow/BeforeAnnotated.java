@@ -22,4 +22,19 @@ public @interface BeforeAnnotated {
      * {@link java.lang.reflect.Method#invoke(Object, Object...) invoked} before.
      */
     Class<? extends Annotation>[] value();
+
+    /**
+     * @return {@code true} if the {@link java.lang.reflect.Method} should only be invoked once the {@code Test} first
+     * uses its value; through a {@link java.util.function.Supplier} {@link FlowResult} parameter of the {@code Test}.
+     * Until then, the {@code Method} is not invoked; nor (should it never be) are the {@link AfterAnnotated} and {@link
+     * AfterNotAnnotated} {@code Methods} which name it as the {@link AfterAnnotated#pairedWith() Method they tear
+     * down}, so unused setup costs nothing.
+     * Must be the same for each of these {@code Annotations} on a {@code Method}.
+     */
+    boolean lazy() default false;
+
+    /**
+     * @return The time budget of the {@code Method} in milliseconds, as supervised by {@link FlowWatchdog}.
+     */
+    long timeoutMillis() default 0L;
 }
@@ -0,0 +1,71 @@
+package com.com.flow;
+
+/**
+ * Consumer of values computed by a {@link Measure measured} {@code Test}, which prevents the JIT from eliminating the
+ * computation of values which are otherwise unused.
+ * <p>
+ * Each consumed value is compared against a {@code volatile} sentinel which it can never equal; the JIT can prove
+ * neither that the comparison is redundant, nor that it has side effects, so the value must be computed, while
+ * consuming it costs no more than a {@code volatile} read.
+ */
+public final class Blackhole {
+
+    /**
+     * Sentinel {@code Object} against which consumed {@code Objects} are compared; never handed out.
+     */
+    private volatile Object objectSentinel = new Object();
+
+    /**
+     * First of the (differing) sentinels against which consumed {@code long} values are compared; no value equals
+     * both.
+     */
+    private volatile long longSentinel = 0x5DEECE66DL;
+
+    /**
+     * Second of the (differing) sentinels against which consumed {@code long} values are compared.
+     */
+    private volatile long otherLongSentinel = ~0x5DEECE66DL;
+
+    /**
+     * Sentinel against which consumed {@code double} values are compared; {@code NaN}, which equals no value.
+     */
+    private volatile double doubleSentinel = Double.NaN;
+
+    /**
+     * Target of the (never taken) branches which escape consumed values.
+     */
+    private Object escaped;
+
+    /**
+     * Consumes the given {@code value}.
+     *
+     * @param value The value to consume.
+     */
+    public void consume(final Object value) {
+        if (value == objectSentinel) {
+            escaped = value;
+        }
+    }
+
+    /**
+     * Consumes the given {@code value}.
+     *
+     * @param value The value to consume.
+     */
+    public void consume(final long value) {
+        if (value == longSentinel & value == otherLongSentinel) {
+            escaped = this;
+        }
+    }
+
+    /**
+     * Consumes the given {@code value}.
+     *
+     * @param value The value to consume.
+     */
+    public void consume(final double value) {
+        if (value == doubleSentinel) {
+            escaped = this;
+        }
+    }
+}
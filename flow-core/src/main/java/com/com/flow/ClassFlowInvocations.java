@@ -0,0 +1,202 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * The state of the {@link BeforeAllAnnotated} and {@link AfterAllAnnotated} invocations of a single execution of a
+ * {@code Test} {@link Class}.
+ * <p>
+ * Tracks which {@code BeforeAllAnnotated} registrations have been invoked (or have failed), and how many of the {@code
+ * Class'} {@code Tests} satisfying each {@code AfterAllAnnotated} registration have yet to finish; so that each is
+ * invoked once per {@code Annotation} signature, rather than once per {@code Test}.  The signature being the arguments
+ * bound for the {@code Test}; so {@code Tests} whose {@code Annotations} bind different values (e.g. {@code @_0(1)}
+ * and {@code @_0(2)}) each have their own invocation, and their own value.  Also holds the values of the {@link
+ * Memoized.Scope#CLASS class-scoped} {@link Memoized} {@link Method Methods}.
+ */
+final class ClassFlowInvocations {
+
+    /**
+     * The invocation of each {@link FlowPhase#BEFORE_ALL} registration (by index), for each of its signatures; once
+     * claimed, completing with the value returned by (or the failure of) the registration's {@link Method}.
+     */
+    private final List<Map<List<Object>, CompletableFuture<Object>>> setUps = new ArrayList<>();
+
+    /**
+     * The {@link TearDown} of each {@link FlowPhase#AFTER_ALL} registration (by index), for each of its signatures; in
+     * the order the signatures were first seen.
+     */
+    private final List<Map<List<Object>, TearDown>> tearDowns = new ArrayList<>();
+
+    /**
+     * The {@link FlowResultCache FlowResultCaches} of the {@link Memoized.Scope#CLASS class-scoped} {@link Memoized}
+     * {@link Method Methods}.
+     */
+    private final ConcurrentMap<Method, FlowResultCache> resultCaches = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor; counts the {@code Tests} of the {@code Test} {@link Class} satisfying each {@link
+     * FlowPhase#AFTER_ALL} registration of the given {@code plan}, with each signature.
+     *
+     * @param plan The {@link FlowPlan} of the {@code Test} {@code Class}.
+     */
+    ClassFlowInvocations(final FlowPlan plan) {
+        for (int i = 0; i < plan.getRegistrations(FlowPhase.BEFORE_ALL).size(); i++) {
+            setUps.add(new HashMap<>());
+        }
+        final int tearDownCount = plan.getRegistrations(FlowPhase.AFTER_ALL).size();
+        for (int i = 0; i < tearDownCount; i++) {
+            tearDowns.add(new LinkedHashMap<>());
+        }
+
+        if (tearDownCount > 0) {
+            for (final Method testMethod : plan.getTestMethods()) {
+                final TestMethodPlan testMethodPlan = plan.getTestMethodPlan(testMethod);
+                for (int i = 0; i < tearDownCount; i++) {
+                    final Object[] arguments = testMethodPlan.getArguments(FlowPhase.AFTER_ALL, i);
+                    if (arguments != null) {
+                        tearDowns.get(i).computeIfAbsent(signatureOf(arguments), signature -> new TearDown())
+                                .remaining++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param arguments The arguments bound for a registration.
+     * @return The signature of the {@code arguments}; equal for equal arguments (and so for {@code Annotations} with
+     * equal values).
+     */
+    private static List<Object> signatureOf(final Object[] arguments) {
+        return Arrays.asList(arguments);
+    }
+
+    /**
+     * Invokes the given {@link FlowPhase#BEFORE_ALL} registration with the given {@code arguments}, for the currently
+     * executing {@code Test}; unless it already has been (or is being) invoked with equal {@code arguments}, for
+     * another {@code Test}.
+     * <p>
+     * The first {@code Test} to claim the registration invokes it; any other claiming it meanwhile (e.g. executing
+     * concurrently) waits for that invocation to complete, so that no {@code Test} runs before its class-level fixture
+     * exists.  Every claimant then shares the value it returned, or fails with its failure.
+     *
+     * @param registrationIndex The index of the registration.
+     * @param arguments         The arguments bound for the registration, for the {@code Test}.
+     * @param flowMethod        The {@code annotation-flow} {@link Method} of the registration.
+     * @param invocation        Invokes the registration's {@code Method}.
+     * @return The value returned by the registration's {@code Method} when invoked with equal {@code arguments}; or
+     * {@code null} if it is {@code void}.
+     * @throws IllegalStateException If the registration failed with equal {@code arguments}, for another {@code Test};
+     *                               or the {@code Test} was interrupted while waiting for it.
+     * @throws RuntimeException      If the {@code invocation} was made for this {@code Test}, and failed.
+     */
+    Object setUp(final int registrationIndex, final Object[] arguments, final Method flowMethod,
+                 final Supplier<Object> invocation) {
+        final CompletableFuture<Object> claimed = new CompletableFuture<>();
+        final CompletableFuture<Object> setUp;
+        synchronized (this) {
+            setUp = setUps.get(registrationIndex).putIfAbsent(signatureOf(arguments), claimed);
+        }
+
+        if (setUp == null) {
+            try {
+                final Object result = invocation.get();
+                claimed.complete(result);
+                return result;
+            } catch (final RuntimeException | Error failure) {
+                claimed.completeExceptionally(failure);
+                throw failure;
+            }
+        }
+
+        try {
+            return setUp.get();
+        } catch (final ExecutionException failed) {
+            throw new IllegalStateException(String.format("Class-level annotation-flow method %s#%s failed",
+                    flowMethod.getDeclaringClass().getSimpleName(), flowMethod.getName()), failed.getCause());
+        } catch (final InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(String.format(
+                    "Interrupted awaiting class-level annotation-flow method %s#%s",
+                    flowMethod.getDeclaringClass().getSimpleName(), flowMethod.getName()), interrupted);
+        }
+    }
+
+    /**
+     * Records that a {@code Test} satisfying the given {@link FlowPhase#AFTER_ALL} registration has finished.
+     *
+     * @param registrationIndex The index of the registration.
+     * @param arguments         The arguments bound for the registration, for the {@code Test}.
+     * @param tearDown          The invocation of the registration, for the {@code Test}.
+     * @return The {@code tearDown}, if it should be invoked now (the {@code Test} being the last satisfying one with
+     * equal {@code arguments}); otherwise {@code null}, the {@code tearDown} being held until the next such {@code
+     * Test} finishes (or the {@code Test} {@link Class} does).
+     */
+    synchronized Runnable testFinished(final int registrationIndex, final Object[] arguments,
+                                       final Runnable tearDown) {
+        final TearDown state =
+                tearDowns.get(registrationIndex).computeIfAbsent(signatureOf(arguments), signature -> new TearDown());
+        if (--state.remaining > 0) {
+            state.pending = tearDown;
+            return null;
+        }
+        state.pending = null;
+        return tearDown;
+    }
+
+    /**
+     * @return The {@link FlowResultCache FlowResultCaches} of the {@link Memoized.Scope#CLASS class-scoped} {@link
+     * Memoized} {@link Method Methods}, for this execution of the {@code Test} {@link Class}.
+     */
+    ConcurrentMap<Method, FlowResultCache> getResultCaches() {
+        return this.resultCaches;
+    }
+
+    /**
+     * Removes the invocations of each {@link FlowPhase#AFTER_ALL} registration which are still pending, as some of
+     * their satisfying {@code Tests} never executed.
+     *
+     * @return The pending invocations, in dispatch order.
+     */
+    synchronized List<Runnable> drainTearDowns() {
+        final List<Runnable> drained = new ArrayList<>();
+        for (final Map<List<Object>, TearDown> registrationTearDowns : tearDowns) {
+            for (final TearDown tearDown : registrationTearDowns.values()) {
+                if (tearDown.pending != null) {
+                    drained.add(tearDown.pending);
+                    tearDown.pending = null;
+                }
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * The state of a {@link FlowPhase#AFTER_ALL} registration, for one signature.
+     */
+    private static final class TearDown {
+
+        /**
+         * The number of {@code Tests} satisfying the registration with the signature which have yet to finish.
+         */
+        private int remaining;
+
+        /**
+         * The invocation of the registration for the latest such {@code Test} to finish, while others have yet to; or
+         * {@code null} if no such {@code Test} has finished (or the registration has already been invoked).
+         */
+        private Runnable pending;
+    }
+}
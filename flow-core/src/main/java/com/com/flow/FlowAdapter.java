@@ -0,0 +1,94 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Binding of the {@link FlowEngine} to a test framework; e.g. the {@code AnnotationFlow} Jupiter {@code Extension}, or
+ * the {@code AnnotationFlowRule} JUnit 4 {@code Rule}.
+ * <p>
+ * The engine owns the compilation, caching and dispatch of the {@code annotation-flow} plans; an adapter only exposes
+ * the framework's view of the currently executing {@code Test} (its {@code Class}, {@code Method} and instance), and
+ * holds the per-{@code Test} and per-{@code Class} state which the engine hands it, wherever its framework keeps such
+ * state.
+ * <p>
+ * A single adapter is shared by every {@code Test} dispatched through its engine, so implementations must be
+ * stateless (holding all state in the given {@code contexts}); and are called on the critical path of every {@code
+ * Test}, so should be cheap, and should not allocate once the state is held.
+ *
+ * @param <C> The {@code Type} of the framework's context of the currently executing {@code Test}.
+ */
+public interface FlowAdapter<C> {
+
+    /**
+     * @param context The context of the currently executing {@code Test}.
+     * @return The {@code Test} {@link Class} which is executing.
+     */
+    Class<?> getTestClass(C context);
+
+    /**
+     * @param context The context of the currently executing {@code Test}.
+     * @return The {@code Test} {@link Method} which is executing.
+     */
+    Method getTestMethod(C context);
+
+    /**
+     * @param context The context of the currently executing {@code Test}.
+     * @return The instance of the {@code Test} {@link Class} which the {@code Test} is executing on.
+     */
+    Object getTestInstance(C context);
+
+    /**
+     * Retrieves the {@link FlowClassExecution} of the execution of the {@code Test} {@link Class} which the {@code
+     * Test} is part of; created on first use, and held for as long as the framework executes the {@code Class}.
+     * <p>
+     * Only called for {@code Tests} with class-level, {@link Memoized} or {@link AfterAnnotated#async() asynchronous}
+     * {@code annotation-flow} {@link Method Methods}.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     * @return The {@code FlowClassExecution} of the {@code Test} {@code Class}.
+     */
+    FlowClassExecution getClassExecution(C context);
+
+    /**
+     * Retrieves the values returned by the {@code annotation-flow} {@link Method Methods} invoked for the {@code
+     * Test}; held for as long as the {@code Test} executes.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     * @param create  {@code true} to create the (empty) values if none are yet held; otherwise {@code false}.
+     * @return The values returned, keyed by the {@code Method} which returned them, in the order they were invoked;
+     * or {@code null} if none are held, and they were not to be {@code created}.
+     */
+    Map<Method, Object> getResults(C context, boolean create);
+
+    /**
+     * @return {@code true} if the framework may look up the values returned by the {@code annotation-flow} {@link
+     * Method Methods} of any {@code Test} (rather than only resolving them to {@link FlowResult} {@link
+     * java.lang.reflect.Parameter Parameters}), so that every value must be recorded; otherwise {@code false} (the
+     * default), in which case they are only recorded for {@code Tests} with {@code FlowResult} {@code Parameters}.
+     */
+    default boolean recordsEveryResult() {
+        return false;
+    }
+
+    /**
+     * @param context The context of the currently executing {@code Test}.
+     * @return {@code true} if the {@code Test} has failed; otherwise {@code false}.
+     */
+    boolean hasFailed(C context);
+
+    /**
+     * @param context The context of the currently executing {@code Test}.
+     * @return A description of the {@code Test}, for reporting against; e.g. its display name and unique id.
+     */
+    String describe(C context);
+
+    /**
+     * Publishes the given report {@code entry} for the {@code Test}; e.g. the statistics of a {@link Measure measured}
+     * {@code Test}.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     * @param entry   The entry to publish.
+     */
+    void publishReportEntry(C context, Map<String, String> entry);
+}
@@ -0,0 +1,258 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Typed accessor table for the {@code annotation-flow} {@link Annotation Annotations}.
+ * <p>
+ * Allows the {@code value} of each {@code annotation-flow} {@code Annotation} to be read directly through its own
+ * {@code Type}, rather than through a reflective lookup of the {@code value} {@link java.lang.reflect.Method} on the
+ * {@code Annotation's} proxy.
+ */
+enum FlowAnnotationType {
+
+    /**
+     * {@link BeforeAllAnnotated}.
+     */
+    BEFORE_ALL_ANNOTATED(BeforeAllAnnotated.class, FlowPhase.BEFORE_ALL, true,
+            annotation -> ((BeforeAllAnnotated) annotation).value(), annotation -> false, annotation -> false,
+            annotation -> ((BeforeAllAnnotated) annotation).timeoutMillis(), annotation -> ""),
+
+    /**
+     * {@link BeforeAnnotated}.
+     */
+    BEFORE_ANNOTATED(BeforeAnnotated.class, FlowPhase.BEFORE, true,
+            annotation -> ((BeforeAnnotated) annotation).value(), annotation -> false,
+            annotation -> ((BeforeAnnotated) annotation).lazy(),
+            annotation -> ((BeforeAnnotated) annotation).timeoutMillis(), annotation -> ""),
+
+    /**
+     * {@link BeforeNotAnnotated}.
+     */
+    BEFORE_NOT_ANNOTATED(BeforeNotAnnotated.class, FlowPhase.BEFORE, false,
+            annotation -> ((BeforeNotAnnotated) annotation).value(), annotation -> false,
+            annotation -> ((BeforeNotAnnotated) annotation).lazy(),
+            annotation -> ((BeforeNotAnnotated) annotation).timeoutMillis(), annotation -> ""),
+
+    /**
+     * {@link AfterAnnotated}.
+     */
+    AFTER_ANNOTATED(AfterAnnotated.class, FlowPhase.AFTER, true,
+            annotation -> ((AfterAnnotated) annotation).value(),
+            annotation -> ((AfterAnnotated) annotation).async(), annotation -> false,
+            annotation -> ((AfterAnnotated) annotation).timeoutMillis(),
+            annotation -> ((AfterAnnotated) annotation).pairedWith()),
+
+    /**
+     * {@link AfterNotAnnotated}.
+     */
+    AFTER_NOT_ANNOTATED(AfterNotAnnotated.class, FlowPhase.AFTER, false,
+            annotation -> ((AfterNotAnnotated) annotation).value(),
+            annotation -> ((AfterNotAnnotated) annotation).async(), annotation -> false,
+            annotation -> ((AfterNotAnnotated) annotation).timeoutMillis(),
+            annotation -> ((AfterNotAnnotated) annotation).pairedWith()),
+
+    /**
+     * {@link AfterAllAnnotated}.
+     */
+    AFTER_ALL_ANNOTATED(AfterAllAnnotated.class, FlowPhase.AFTER_ALL, true,
+            annotation -> ((AfterAllAnnotated) annotation).value(), annotation -> false, annotation -> false,
+            annotation -> ((AfterAllAnnotated) annotation).timeoutMillis(), annotation -> "");
+
+    /**
+     * The {@link Class} of the {@code annotation-flow} {@link Annotation}.
+     */
+    private final Class<? extends Annotation> annotationClass;
+
+    /**
+     * The {@link FlowPhase} at which {@code Methods} annotated by the {@link #annotationClass} are dispatched.
+     */
+    private final FlowPhase phase;
+
+    /**
+     * {@code true} if the {@link #annotationClass} expects the presence of the {@code Annotations} specified in its
+     * {@code value} (i.e. {@link BeforeAnnotated} or {@link AfterAnnotated}); otherwise {@code false}.
+     */
+    private final boolean expectsPresence;
+
+    /**
+     * Reads the {@code value} of an {@link Annotation} of the {@link #annotationClass}.
+     */
+    private final Function<Annotation, Class<? extends Annotation>[]> valueAccessor;
+
+    /**
+     * Reads whether an {@link Annotation} of the {@link #annotationClass} requests asynchronous invocation; always
+     * {@code false} for the {@code Annotations} which do not support it.
+     */
+    private final Predicate<Annotation> asyncAccessor;
+
+    /**
+     * Reads whether an {@link Annotation} of the {@link #annotationClass} requests lazy invocation; always {@code
+     * false} for the {@code Annotations} which do not support it.
+     */
+    private final Predicate<Annotation> lazyAccessor;
+
+    /**
+     * Reads the time budget (in milliseconds) of an {@link Annotation} of the {@link #annotationClass}.
+     */
+    private final ToLongFunction<Annotation> timeoutAccessor;
+
+    /**
+     * Reads the name of the {@link BeforeAnnotated#lazy() lazy} {@link java.lang.reflect.Method} which an {@link
+     * Annotation} of the {@link #annotationClass} tears down; always empty for the {@code Annotations} which do not
+     * support it.
+     */
+    private final Function<Annotation, String> pairedWithAccessor;
+
+
+    /**
+     * Constructor.
+     *
+     * @param annotationClass    The {@link Class} of the {@code annotation-flow} {@link Annotation}.
+     * @param phase              The {@link FlowPhase} at which {@code Methods} annotated by the {@code
+     *                           annotationClass} are dispatched.
+     * @param expectsPresence    {@code true} if the {@code annotationClass} expects the presence of the {@code
+     *                           Annotations} specified in its {@code value}; otherwise {@code false}.
+     * @param valueAccessor      Reads the {@code value} of an {@code Annotation} of the {@code annotationClass}.
+     * @param asyncAccessor      Reads whether an {@code Annotation} of the {@code annotationClass} requests
+     *                           asynchronous invocation.
+     * @param lazyAccessor       Reads whether an {@code Annotation} of the {@code annotationClass} requests lazy
+     *                           invocation.
+     * @param timeoutAccessor    Reads the time budget (in milliseconds) of an {@code Annotation} of the {@code
+     *                           annotationClass}.
+     * @param pairedWithAccessor Reads the name of the lazy {@code Method} which an {@code Annotation} of the {@code
+     *                           annotationClass} tears down.
+     */
+    FlowAnnotationType(final Class<? extends Annotation> annotationClass, final FlowPhase phase,
+                       final boolean expectsPresence,
+                       final Function<Annotation, Class<? extends Annotation>[]> valueAccessor,
+                       final Predicate<Annotation> asyncAccessor, final Predicate<Annotation> lazyAccessor,
+                       final ToLongFunction<Annotation> timeoutAccessor,
+                       final Function<Annotation, String> pairedWithAccessor) {
+        this.annotationClass = annotationClass;
+        this.phase = phase;
+        this.expectsPresence = expectsPresence;
+        this.valueAccessor = valueAccessor;
+        this.asyncAccessor = asyncAccessor;
+        this.lazyAccessor = lazyAccessor;
+        this.timeoutAccessor = timeoutAccessor;
+        this.pairedWithAccessor = pairedWithAccessor;
+    }
+
+    /**
+     * Retrieves the {@link FlowAnnotationType} for the given {@link Annotation} {@link Class}.
+     *
+     * @param annotationClass The {@code Class} of the {@code annotation-flow} {@code Annotation}.
+     * @return The {@code FlowAnnotationType} for the {@code annotationClass}.
+     * @throws IllegalStateException If the {@code annotationClass} is not an {@code annotation-flow} {@code
+     *                               Annotation}.
+     */
+    static FlowAnnotationType of(final Class<? extends Annotation> annotationClass) {
+        for (final FlowAnnotationType type : values()) {
+            if (type.annotationClass == annotationClass) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Incorrect annotation type given " + annotationClass.getSimpleName());
+    }
+
+    /**
+     * Retrieves the {@link FlowAnnotationType} for the given {@link Annotation} {@link Class} name.
+     *
+     * @param annotationClassName The {@link Class#getName() name} of the {@code annotation-flow} {@code Annotation}.
+     * @return The {@code FlowAnnotationType} for the {@code annotationClassName}.
+     * @throws IllegalStateException If the {@code annotationClassName} does not name an {@code annotation-flow} {@code
+     *                               Annotation}.
+     */
+    static FlowAnnotationType of(final String annotationClassName) {
+        for (final FlowAnnotationType type : values()) {
+            if (type.annotationClass.getName().equals(annotationClassName)) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Incorrect annotation type given " + annotationClassName);
+    }
+
+    /**
+     * @return The {@link Class} of the {@code annotation-flow} {@link Annotation}.
+     */
+    Class<? extends Annotation> getAnnotationClass() {
+        return this.annotationClass;
+    }
+
+    /**
+     * @return The {@link FlowPhase} at which {@code Methods} annotated by the {@link #getAnnotationClass() Annotation
+     * Class} are dispatched.
+     */
+    FlowPhase getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * @return {@code true} if the {@link #getAnnotationClass() Annotation Class} expects the presence of the {@code
+     * Annotations} specified in its {@code value}; otherwise {@code false}.
+     */
+    boolean expectsPresence() {
+        return this.expectsPresence;
+    }
+
+    /**
+     * Retrieves the {@link Annotation} {@link Class Classes} which the given {@code annotation-flow} {@code
+     * Annotation} declares an interest in.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation}; must be of this {@code Type's} {@link
+     *                   #getAnnotationClass() Annotation Class}.
+     * @return The {@code value} of the given {@code annotation}.
+     */
+    Class<? extends Annotation>[] getRelevantAnnotationClasses(final Annotation annotation) {
+        return valueAccessor.apply(annotation);
+    }
+
+    /**
+     * Reads whether the given {@code annotation-flow} {@link Annotation} requests asynchronous invocation.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation}; must be of this {@code Type's} {@link
+     *                   #getAnnotationClass() Annotation Class}.
+     * @return The {@code async} of the given {@code annotation}; or {@code false} if it has none.
+     */
+    boolean isAsync(final Annotation annotation) {
+        return asyncAccessor.test(annotation);
+    }
+
+    /**
+     * Reads whether the given {@code annotation-flow} {@link Annotation} requests lazy invocation.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation}; must be of this {@code Type's} {@link
+     *                   #getAnnotationClass() Annotation Class}.
+     * @return The {@code lazy} of the given {@code annotation}; or {@code false} if it has none.
+     */
+    boolean isLazy(final Annotation annotation) {
+        return lazyAccessor.test(annotation);
+    }
+
+    /**
+     * Reads the time budget of the given {@code annotation-flow} {@link Annotation}.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation}; must be of this {@code Type's} {@link
+     *                   #getAnnotationClass() Annotation Class}.
+     * @return The {@code timeoutMillis} of the given {@code annotation}.
+     */
+    long getTimeoutMillis(final Annotation annotation) {
+        return timeoutAccessor.applyAsLong(annotation);
+    }
+
+    /**
+     * Reads the name of the {@link BeforeAnnotated#lazy() lazy} {@link java.lang.reflect.Method} which the given
+     * {@code annotation-flow} {@link Annotation} tears down.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation}; must be of this {@code Type's} {@link
+     *                   #getAnnotationClass() Annotation Class}.
+     * @return The {@code pairedWith} of the given {@code annotation}; or empty if it has none.
+     */
+    String getPairedWith(final Annotation annotation) {
+        return pairedWithAccessor.apply(annotation);
+    }
+}
@@ -0,0 +1,65 @@
+package com.com.flow;
+
+/**
+ * The {@code annotation-flow} state of a single execution of a {@code Test} {@link Class}; spanning every {@code Test}
+ * of the execution, so that its {@link BeforeAllAnnotated} and {@link AfterAllAnnotated} {@link
+ * java.lang.reflect.Method Methods} are invoked once per {@code Annotation} signature, and its {@link
+ * AfterAnnotated#async() asynchronous} invocations joined once it has finished.
+ * <p>
+ * Created (by a {@link FlowAdapter}) when its framework starts executing the {@code Class}, or when the first of the
+ * {@code Tests} needing it executes; and {@link FlowEngine#finishClass(Class, FlowClassExecution,
+ * java.util.function.Consumer) finished} once the framework has finished executing the {@code Class}.
+ */
+public final class FlowClassExecution {
+
+    /**
+     * The {@link ClassFlowInvocations} of the execution.
+     */
+    private final ClassFlowInvocations classInvocations;
+
+    /**
+     * The {@link AsyncFlowInvocations} of the execution.
+     */
+    private final AsyncFlowInvocations asyncInvocations = new AsyncFlowInvocations();
+
+
+    /**
+     * Constructor.
+     *
+     * @param testClass The {@code Test} {@link Class} being executed.
+     * @throws RuntimeException If any of the {@code annotation-flow} declarations of the {@code testClass} are
+     *                          invalid.
+     */
+    public FlowClassExecution(final Class<?> testClass) {
+        this.classInvocations = new ClassFlowInvocations(FlowEngine.getPlan(testClass));
+    }
+
+    /**
+     * @return The {@link ClassFlowInvocations} of the execution.
+     */
+    ClassFlowInvocations getClassInvocations() {
+        return this.classInvocations;
+    }
+
+    /**
+     * @return The {@link AsyncFlowInvocations} of the execution.
+     */
+    AsyncFlowInvocations getAsyncInvocations() {
+        return this.asyncInvocations;
+    }
+
+    /**
+     * Invokes any {@link AfterAllAnnotated} {@link java.lang.reflect.Method Methods} still pending (as some of the
+     * {@code Tests} which honour them never executed), then joins any outstanding {@link AfterAnnotated#async()
+     * asynchronous} invocations.
+     *
+     * @throws AsyncFlowInvocations.AsyncFlowException If any of the asynchronous invocations failed.
+     */
+    void finish() {
+        try {
+            classInvocations.drainTearDowns().forEach(Runnable::run);
+        } finally {
+            asyncInvocations.joinAll();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.com.flow;
+
+/**
+ * Raised when {@code annotation-flow} is misconfigured by the {@code Test} {@link Class} it is applied to; e.g. a
+ * {@link Measure} with illegal bounds, or a {@link FlowResult} which resolves to no value.
+ * <p>
+ * Framework-neutral; each adapter reports it as its own framework reports configuration errors.
+ */
+class FlowConfigurationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+
+    /**
+     * Constructor.
+     *
+     * @param message The description of the misconfiguration.
+     */
+    FlowConfigurationException(final String message) {
+        super(message);
+    }
+}
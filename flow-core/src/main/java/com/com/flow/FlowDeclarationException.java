@@ -0,0 +1,59 @@
+package com.com.flow;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Raised when any of the {@code annotation-flow} {@link java.lang.reflect.Method Methods} of a {@code Test} {@link
+ * Class} has an invalid declaration.
+ * <p>
+ * All invalid declarations of the {@code Class} are reported together, one per line of the message; so that a broken
+ * {@code Class} can be fixed in a single pass.
+ */
+final class FlowDeclarationException extends FlowConfigurationException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The description of each invalid declaration, in discovery order.
+     */
+    private final List<String> problems;
+
+
+    /**
+     * Constructor.
+     *
+     * @param testClass The {@code Test} {@link Class} whose declarations are invalid.
+     * @param problems  The description of each invalid declaration, in discovery order.
+     */
+    FlowDeclarationException(final Class<?> testClass, final List<String> problems) {
+        super(describe(testClass, problems));
+        this.problems = Collections.unmodifiableList(problems);
+    }
+
+    /**
+     * Describes the given {@code problems}.
+     *
+     * @param testClass The {@code Test} {@link Class} whose declarations are invalid.
+     * @param problems  The description of each invalid declaration.
+     * @return The message of the exception; a summary line, followed by one line per problem.
+     */
+    private static String describe(final Class<?> testClass, final List<String> problems) {
+        final StringBuilder message = new StringBuilder()
+                .append(problems.size())
+                .append(problems.size() == 1 ? " invalid annotation-flow declaration in " :
+                        " invalid annotation-flow declarations in ")
+                .append(testClass.getName());
+        for (final String problem : problems) {
+            message.append(System.lineSeparator()).append("  - ").append(problem);
+        }
+        return message.toString();
+    }
+
+    /**
+     * @return The description of each invalid declaration, in discovery order.
+     */
+    List<String> getProblems() {
+        return this.problems;
+    }
+}
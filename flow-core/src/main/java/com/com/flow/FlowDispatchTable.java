@@ -0,0 +1,54 @@
+package com.com.flow;
+
+/**
+ * Precompiled {@code annotation-flow} dispatch table for a single {@code Test} {@link Class}.
+ * <p>
+ * Implementations are generated at compile time by the {@code flow-processor} annotation processor, as a {@code public}
+ * {@code Class} named by appending {@link #SUFFIX} to the {@link Class#getName() name} of the {@code Test} {@code
+ * Class}, with a {@code public} no-argument constructor.  When present, {@link FlowEngine} uses the table in place
+ * of scanning the {@code Test} {@code Class'} hierarchy for its {@code annotation-flow} {@link java.lang.reflect.Method
+ * Methods}; falling back to the scan if there is no table, or if it no longer matches the compiled {@code Classes}
+ * (i.e. a {@code Method} it lists no longer exists, or is no longer annotated as it lists; or a {@code Class} of the
+ * hierarchy now declares more or fewer {@code annotation-flow} {@code Methods} than when the table was generated, as
+ * when a {@code super} {@code class} gains one but the {@code Test} {@code Class} is not recompiled).  Which of the
+ * {@code Methods} to dispatch for each {@code Test} is always decided against the {@code Annotations} it carries at
+ * runtime.
+ * <p>
+ * Not intended to be implemented by hand.
+ */
+public interface FlowDispatchTable {
+
+    /**
+     * The suffix appended to the {@link Class#getName() name} of a {@code Test} {@link Class} to name its table.
+     */
+    String SUFFIX = "$FlowDispatchTable";
+
+    /**
+     * The {@code annotation-flow} {@link java.lang.reflect.Method Methods} of the {@code Test} {@link Class}, in
+     * dispatch order.  Each is described by:
+     * <ol>
+     * <li>the {@link Class#getName() name} of its declaring {@code Class};</li>
+     * <li>its name;</li>
+     * <li>the {@code Class#getName() name} of the {@code annotation-flow} {@link java.lang.annotation.Annotation}
+     * which it is registered for (one entry per {@code annotation-flow} {@code Annotation} {@code Type} on the {@code
+     * Method}); and</li>
+     * <li>the {@code Class#getName() names} of each of its parameters; which are bound, in order, to the {@code
+     * Annotations} of those {@code Types} on the executing {@code Test}.</li>
+     * </ol>
+     *
+     * @return The descriptions of the {@code annotation-flow} {@code Methods}.  Must not be modified.
+     */
+    String[][] getFlowMethods();
+
+    /**
+     * The {@link Class Classes} (and {@code interfaces}) of the {@code Test} {@code Class'} hierarchy, itself included,
+     * which declare {@code annotation-flow} {@link java.lang.reflect.Method Methods} (overridden or not); each
+     * described by its {@link Class#getName() name}, and the number of such {@code Methods} it declares.
+     *
+     * @return The descriptions of the declaring {@code Classes}; or {@code null} if the table does not record them, in
+     * which case only the {@link #getFlowMethods() Methods it lists} are checked.  Must not be modified.
+     */
+    default String[][] getHierarchy() {
+        return null;
+    }
+}
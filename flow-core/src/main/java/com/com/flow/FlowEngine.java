@@ -0,0 +1,987 @@
+package com.com.flow;
+
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Framework-neutral engine which handles the {@link Method#invoke(Object, Object...) invocation} of methods annotated
+ * by annotation-flow {@link Annotation Annotations}; bound to a test framework by a {@link FlowAdapter}.
+ * <p>
+ * The declarations of all {@code annotation-flow} {@code Methods} of a {@code Test} {@link Class} are validated once,
+ * before any of its {@code Tests} are run; if any are invalid, the whole {@code Class} fails with a single report of
+ * every invalid declaration.
+ * <p>
+ * The compiled {@link FlowPlan FlowPlans} are cached statically, against each {@code Test} {@code Class}; so every
+ * engine in the JVM (whichever framework it is bound to) shares the one warm cache.
+ * <p>
+ * The values returned by the {@code before} {@code annotation-flow} {@code Methods} invoked for a {@code Test} may be
+ * injected into its {@link FlowResult} parameters; and, for {@link Memoized} {@code Methods}, reused by later {@code
+ * Tests}.
+ * <p>
+ * {@link Measure Measured} {@code Tests} are also run as microbenchmarks; between their {@code before} and {@code
+ * after} {@code annotation-flow} {@code Methods}, so that fixtures are not counted as measured cost.
+ * <p>
+ * Each dispatch is reported to the {@link FlowListener FlowListeners} discovered through the {@link
+ * java.util.ServiceLoader}; which are also given the chance to publish report entries once each {@code Test} {@link
+ * Class} has finished.
+ *
+ * @param <C> The {@code Type} of the framework's context of the currently executing {@code Test}.
+ * @see BeforeAllAnnotated
+ * @see BeforeAnnotated
+ * @see BeforeNotAnnotated
+ * @see AfterAnnotated
+ * @see AfterNotAnnotated
+ * @see AfterAllAnnotated
+ */
+public final class FlowEngine<C> {
+
+    /**
+     * The {@link FlowListener FlowListeners} to notify of each dispatch.
+     */
+    private static final FlowListeners LISTENERS = FlowListeners.load();
+
+    /**
+     * The (optional) {@link FlowPlanIndex} persisted across JVMs.
+     */
+    private static final FlowPlanIndex PLAN_INDEX = FlowPlanIndex.load();
+
+    /**
+     * The {@link FlowPlan FlowPlans} compiled for each {@code Test} {@link Class}.  Compiled at most once per {@code
+     * Class} (barring races, where the first to complete wins), and held against the {@code Class} itself so that the
+     * {@code Class'} {@link ClassLoader} is not kept alive by this cache.
+     */
+    private static final ClassValue<FlowPlan> FLOW_PLANS = new ClassValue<FlowPlan>() {
+        @Override
+        protected FlowPlan computeValue(final Class<?> testClass) {
+            return compilePlan(testClass);
+        }
+    };
+
+    /**
+     * The {@link FlowAdapter} binding this engine to its test framework.
+     */
+    private final FlowAdapter<C> adapter;
+
+
+    /**
+     * Constructor.
+     *
+     * @param adapter The {@link FlowAdapter} binding the engine to its test framework.
+     */
+    public FlowEngine(final FlowAdapter<C> adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Compiles the {@link FlowPlan} for the given {@link Class}; from its {@link FlowDispatchTable} (or its entry in
+     * the {@link FlowPlanIndex}) if it has one which is still current, otherwise by composing it from the (cached)
+     * plans of its {@code super} {@code class} and (for inner {@code Classes}, such as {@code Nested} ones) its
+     * enclosing {@code Class}, with only the {@code annotation-flow} {@link Method Methods} it declares itself
+     * discovered and validated (and the whole recorded in the {@code FlowPlanIndex}).
+     * <p>
+     * So each declaration is discovered and validated once, however many {@code Test} {@code Classes} inherit it; and
+     * its registration is shared by all of their plans.
+     *
+     * @param testClass The {@code Class} to compile the {@code FlowPlan} for.
+     * @return The compiled {@code FlowPlan}.  If any of the {@code Methods} had an invalid declaration (or could not be
+     * bound), the returned {@code FlowPlan} will report every such failure whenever it is used.
+     */
+    private static FlowPlan compilePlan(final Class<?> testClass) {
+        // Neither tables nor the index describe the flow methods of enclosing classes; so inner classes are composed.
+        final FlowPlan enclosingPlan = FlowPlan.enclosingInstanceFieldOf(testClass) != null ?
+                getPlan(testClass.getEnclosingClass()) : null;
+        if (enclosingPlan == null) {
+            FlowDispatchTable table = loadDispatchTable(testClass);
+            if (table == null) {
+                table = PLAN_INDEX.find(testClass);
+            }
+            if (table != null) {
+                try {
+                    final FlowPlan tabledPlan = compilePlan(testClass, table);
+                    if (tabledPlan != null) {
+                        return tabledPlan;
+                    }
+                } catch (final ClassNotFoundException | NoSuchMethodException staleTable) {
+                    // The table no longer matches the compiled classes; discover the methods afresh instead.
+                }
+            }
+        }
+
+        final Class<?> superclass = testClass.getSuperclass();
+        final FlowPlan superPlan = superclass != null && superclass != Object.class ? getPlan(superclass) : null;
+
+        // Plans of one hierarchy share an index, so that their registrations may be shared; but never across loaders.
+        final ClassLoader classLoader = testClass.getClassLoader();
+        final AnnotationIndex annotationIndex;
+        if (superPlan != null && superclass.getClassLoader() == classLoader) {
+            annotationIndex = superPlan.getAnnotationIndex();
+        } else if (enclosingPlan != null && testClass.getEnclosingClass().getClassLoader() == classLoader) {
+            annotationIndex = enclosingPlan.getAnnotationIndex();
+        } else {
+            annotationIndex = new AnnotationIndex();
+        }
+
+        final List<String> problems = new ArrayList<>();
+        for (final FlowPlan composedPlan : Arrays.asList(enclosingPlan, superPlan)) {
+            if (composedPlan != null && composedPlan.getDeclarationFailure() != null) {
+                problems.addAll(composedPlan.getDeclarationFailure().getProblems());
+            }
+        }
+
+        final Method[] declaredMethods = testClass.getDeclaredMethods();
+        final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations = new EnumMap<>(FlowPhase.class);
+        for (final FlowAnnotationType type : FlowAnnotationType.values()) {
+            final List<FlowMethodRegistration<?>> phaseRegistrations =
+                    registrations.computeIfAbsent(type.getPhase(), phase -> new ArrayList<>());
+            final List<Method> inheritedMethods = new ArrayList<>();
+            if (superPlan != null && problems.isEmpty()) {
+                for (final FlowMethodRegistration<?> inherited : superPlan.getRegistrations(type.getPhase())) {
+                    final Method method = inherited.getMethod();
+                    if (inherited.getAnnotationClass() == type.getAnnotationClass()
+                            && method.getDeclaringClass().isAssignableFrom(superclass)
+                            && !isShadowed(method, declaredMethods)) {
+                        phaseRegistrations.add(rebind(inherited, annotationIndex));
+                        inheritedMethods.add(method);
+                    }
+                }
+            }
+            phaseRegistrations.addAll(buildRegistrations(
+                    findLocalMethods(testClass, declaredMethods, type.getAnnotationClass(), inheritedMethods),
+                    type.getAnnotationClass(), type.expectsPresence(), annotationIndex, problems));
+        }
+
+        // As for Nested classes in Jupiter, those of the enclosing instance wrap the test's own (but not its class').
+        if (problems.isEmpty() && enclosingPlan != null) {
+            final List<FlowMethodRegistration<?>> enclosingBefore = new ArrayList<>();
+            enclosingPlan.getRegistrations(FlowPhase.BEFORE)
+                    .forEach(registration -> enclosingBefore.add(rebind(registration, annotationIndex)));
+            registrations.get(FlowPhase.BEFORE).addAll(0, enclosingBefore);
+            enclosingPlan.getRegistrations(FlowPhase.AFTER).forEach(registration ->
+                    registrations.get(FlowPhase.AFTER).add(rebind(registration, annotationIndex)));
+        }
+        final int[] pairings = problems.isEmpty() ? resolvePairings(registrations, problems) : null;
+
+        if (!problems.isEmpty()) {
+            return new FlowPlan(testClass, new FlowDeclarationException(testClass, problems));
+        }
+        if (enclosingPlan == null) {
+            final List<FlowMethodRegistration<?>> allRegistrations = new ArrayList<>();
+            registrations.values().forEach(allRegistrations::addAll);
+            PLAN_INDEX.record(testClass, allRegistrations);
+        }
+        return new FlowPlan(testClass, annotationIndex, registrations, pairings);
+    }
+
+    /**
+     * Loads the {@link FlowDispatchTable} generated for the given {@link Class}, if there is one.
+     *
+     * @param testClass The {@code Class} to load the {@code FlowDispatchTable} of.
+     * @return The {@code FlowDispatchTable} of the {@code testClass}; or {@code null} if none was generated.
+     * @throws IllegalStateException If the {@code testClass} has a table which cannot be instantiated.
+     */
+    private static FlowDispatchTable loadDispatchTable(final Class<?> testClass) {
+        final Class<?> tableClass;
+        try {
+            tableClass = Class.forName(testClass.getName() + FlowDispatchTable.SUFFIX, true,
+                    testClass.getClassLoader());
+        } catch (final ClassNotFoundException noTable) {
+            return null;
+        }
+        try {
+            return tableClass.asSubclass(FlowDispatchTable.class).getConstructor().newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException invalidTable) {
+            throw new IllegalStateException("Invalid dispatch table " + tableClass.getName(), invalidTable);
+        }
+    }
+
+    /**
+     * Compiles the {@link FlowPlan} for the given {@link Class} from its {@link FlowDispatchTable}.  The {@code
+     * annotation-flow} {@link Method Methods} are resolved directly from the table, rather than by scanning the {@code
+     * Class'} hierarchy; their declarations having already been validated when the table was generated.  Which of them
+     * to dispatch for each {@code Test} is still matched against its {@link AnnotationSnapshot}.
+     *
+     * @param testClass The {@code Class} to compile the {@code FlowPlan} for.
+     * @param table     The {@code FlowDispatchTable} generated for the {@code testClass}.
+     * @return The compiled {@code FlowPlan}; or {@code null} if any {@code Method} described by the {@code table} is
+     * no longer annotated as described, or no longer has a valid declaration; or the {@code Class'} hierarchy no
+     * longer matches the {@link FlowDispatchTable#getHierarchy() hierarchy recorded} by the {@code table}.
+     * @throws ClassNotFoundException If the declaring {@link Class} (or a parameter type) of any {@code Method}
+     *                                described by the {@code table} no longer exists.
+     * @throws NoSuchMethodException  If any {@code Method} described by the {@code table} no longer exists.
+     */
+    private static FlowPlan compilePlan(final Class<?> testClass, final FlowDispatchTable table)
+            throws ClassNotFoundException, NoSuchMethodException {
+        final String[][] hierarchy = table.getHierarchy();
+        if (hierarchy != null && !matchesHierarchy(testClass, hierarchy)) {
+            return null;
+        }
+
+        final ClassLoader classLoader = testClass.getClassLoader();
+        final AnnotationIndex annotationIndex = new AnnotationIndex();
+
+        final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations = new EnumMap<>(FlowPhase.class);
+        for (final String[] flowMethod : table.getFlowMethods()) {
+            final Class<?>[] parameterTypes = new Class<?>[flowMethod.length - 3];
+            for (int j = 0; j < parameterTypes.length; j++) {
+                parameterTypes[j] = Class.forName(flowMethod[j + 3], false, classLoader);
+            }
+            final Method method = Class.forName(flowMethod[0], false, classLoader)
+                    .getDeclaredMethod(flowMethod[1], parameterTypes);
+
+            final FlowAnnotationType type = FlowAnnotationType.of(flowMethod[2]);
+            if (!isFlowMethod(method, type.getAnnotationClass())) {
+                return null;
+            }
+            try {
+                registrations.computeIfAbsent(type.getPhase(), phase -> new ArrayList<>()).add(type.expectsPresence() ?
+                        new PositiveFlowMethodRegistration<>(method, type.getAnnotationClass(), annotationIndex) :
+                        new NegativeFlowMethodRegistration<>(method, type.getAnnotationClass(), annotationIndex));
+            } catch (final IllegalArgumentException | IllegalStateException invalidDeclaration) {
+                // Tables are only generated for valid declarations; discovery will report the change.
+                return null;
+            }
+        }
+
+        final List<String> problems = new ArrayList<>();
+        final int[] pairings = resolvePairings(registrations, problems);
+        if (!problems.isEmpty()) {
+            return new FlowPlan(testClass, new FlowDeclarationException(testClass, problems));
+        }
+
+        return new FlowPlan(testClass, annotationIndex, registrations, pairings);
+    }
+
+    /**
+     * Whether each {@link Class} of the given {@code Class'} hierarchy still declares as many {@code annotation-flow}
+     * {@link Method Methods} as the given {@link FlowDispatchTable#getHierarchy() hierarchy} records; counting those
+     * annotated directly (or through their container), as {@code flow-processor} does.
+     *
+     * @param testClass The {@code Test} {@code Class}.
+     * @param hierarchy The declaring {@code Classes} recorded by its {@link FlowDispatchTable}.
+     * @return {@code true} if the counts all match; otherwise {@code false}.
+     */
+    private static boolean matchesHierarchy(final Class<?> testClass, final String[][] hierarchy) {
+        final Map<String, Integer> recorded = new HashMap<>();
+        for (final String[] declaring : hierarchy) {
+            recorded.put(declaring[0], Integer.valueOf(declaring[1]));
+        }
+        for (final Class<?> type : FlowPlanIndex.hierarchyOf(testClass)) {
+            int declared = 0;
+            for (final Method method : type.getDeclaredMethods()) {
+                if (!method.isSynthetic() && declaresFlowAnnotation(method)) {
+                    declared++;
+                }
+            }
+            final Integer expected = recorded.remove(type.getName());
+            if (declared != (expected == null ? 0 : expected)) {
+                return false;
+            }
+        }
+        return recorded.isEmpty();
+    }
+
+    /**
+     * @param method The {@link Method} to check.
+     * @return {@code true} if the {@code method} is directly annotated by any {@code annotation-flow} {@link
+     * Annotation}; otherwise {@code false}.
+     */
+    private static boolean declaresFlowAnnotation(final Method method) {
+        for (final FlowAnnotationType type : FlowAnnotationType.values()) {
+            if (method.getDeclaredAnnotationsByType(type.getAnnotationClass()).length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the {@link Method Methods} annotated by the given {@code annotation-flow} {@link Annotation} which the
+     * given {@link Class} adds to those it inherits from its {@code super} {@code class}; in the order of {@link
+     * ReflectionUtils#findMethods(Class, java.util.function.Predicate)}, that is, the default {@code Methods} of its
+     * interfaces, then those it declares.
+     *
+     * @param testClass        The {@code Class} to find the {@code Methods} of.
+     * @param declaredMethods  The {@code Methods} declared by the {@code testClass}.
+     * @param annotationClass  The {@code Class} of the {@code Annotation} to find {@code Methods} annotated by.
+     * @param inheritedMethods The {@code Methods} annotated by the {@code annotationClass} which the {@code testClass}
+     *                         inherits from its {@code super} {@code class}.
+     * @return The {@code Methods} annotated by the {@code annotationClass} which are not {@code inherited}, nor
+     * shadowed by one of the {@code declaredMethods}.
+     */
+    private static List<Method> findLocalMethods(final Class<?> testClass, final Method[] declaredMethods,
+                                                 final Class<? extends Annotation> annotationClass,
+                                                 final List<Method> inheritedMethods) {
+        final List<Method> localMethods = new ArrayList<>();
+        for (final Class<?> testInterface : testClass.getInterfaces()) {
+            for (final Method method : ReflectionUtils.findMethods(testInterface,
+                    candidate -> isFlowMethod(candidate, annotationClass))) {
+                if (!inheritedMethods.contains(method) && !localMethods.contains(method)
+                        && !isShadowed(method, declaredMethods)) {
+                    localMethods.add(method);
+                }
+            }
+        }
+        for (final Method method : declaredMethods) {
+            if (isFlowMethod(method, annotationClass)) {
+                localMethods.add(method);
+            }
+        }
+        return localMethods;
+    }
+
+    /**
+     * @param method          The {@link Method} to check.
+     * @param annotationClass The {@link Class} of the {@code annotation-flow} {@link Annotation} to check for.
+     * @return {@code true} if the {@code method} is annotated by the {@code annotationClass}; otherwise {@code false}.
+     */
+    private static boolean isFlowMethod(final Method method, final Class<? extends Annotation> annotationClass) {
+        return !AnnotationUtils.findRepeatableAnnotations(method, annotationClass).isEmpty();
+    }
+
+    /**
+     * @param method          An inherited {@link Method}.
+     * @param declaredMethods The {@code Methods} declared by the inheriting {@link Class}.
+     * @return {@code true} if the {@code method} is overridden (or hidden) by one of the {@code declaredMethods}, as
+     * {@link ReflectionUtils#findMethods(Class, java.util.function.Predicate)} would judge; otherwise {@code false}.
+     */
+    private static boolean isShadowed(final Method method, final Method[] declaredMethods) {
+        for (final Method declaredMethod : declaredMethods) {
+            if (declaredMethod.getName().equals(method.getName())
+                    && Arrays.equals(declaredMethod.getParameterTypes(), method.getParameterTypes())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shares the given {@code registration} of a composed {@link FlowPlan} with the plan being compiled; as it is if
+     * both plans share the given {@link AnnotationIndex}, otherwise registered afresh against it.
+     *
+     * @param registration    A {@link FlowMethodRegistration} of a composed {@code FlowPlan}.
+     * @param annotationIndex The {@code AnnotationIndex} of the {@code FlowPlan} being compiled.
+     * @param <T>             The {@code Type} of the {@code annotation-flow} {@link Annotation} of the {@code
+     *                        registration}.
+     * @return A {@code FlowMethodRegistration} of the {@code registration's} {@link Method}, whose masks are from the
+     * {@code annotationIndex}.
+     */
+    private static <T extends Annotation> FlowMethodRegistration<T> rebind(
+            final FlowMethodRegistration<T> registration, final AnnotationIndex annotationIndex) {
+        if (registration.getAnnotationIndex() == annotationIndex) {
+            return registration;
+        }
+        return registration.expectsPresence() ?
+                new PositiveFlowMethodRegistration<>(registration.getMethod(), registration.getAnnotationClass(),
+                        annotationIndex) :
+                new NegativeFlowMethodRegistration<>(registration.getMethod(), registration.getAnnotationClass(),
+                        annotationIndex);
+    }
+
+    /**
+     * Resolves the {@link BeforeAnnotated#lazy() lazy} {@code before} registration of the plan which each {@link
+     * FlowPhase#AFTER after} registration {@link AfterAnnotated#pairedWith() tears down}; so that dispatch compares
+     * indices, rather than names.  The named {@link Method} must be exactly one lazy {@code Method} of the plan; a
+     * name shared by several (overloads, or same-named {@code Methods} of a {@code super} or enclosing {@code class})
+     * is ambiguous.
+     *
+     * @param registrations The registrations of the {@link FlowPlan} being compiled, by {@link FlowPhase}.
+     * @param problems      The {@link List} to add the description of each invalid pairing to.
+     * @return The index, within the {@code before} registrations, of the registration which each of the {@code after}
+     * registrations tears down, by index; {@code -1} for those which tear down no lazy {@code Method}.
+     */
+    private static int[] resolvePairings(final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations,
+                                         final List<String> problems) {
+        final List<FlowMethodRegistration<?>> none = Collections.emptyList();
+        final List<FlowMethodRegistration<?>> befores = registrations.getOrDefault(FlowPhase.BEFORE, none);
+        final List<FlowMethodRegistration<?>> afters = registrations.getOrDefault(FlowPhase.AFTER, none);
+        final int[] pairings = new int[afters.size()];
+        Arrays.fill(pairings, -1);
+        for (int i = 0; i < pairings.length; i++) {
+            final FlowMethodRegistration<?> after = afters.get(i);
+            if (after.getPairedWith() == null) {
+                continue;
+            }
+            final List<Method> candidates = new ArrayList<>();
+            for (int j = 0; j < befores.size(); j++) {
+                final Method before = befores.get(j).getMethod();
+                if (befores.get(j).isLazy() && before.getName().equals(after.getPairedWith())
+                        && !candidates.contains(before)) {
+                    candidates.add(before);
+                    pairings[i] = j;
+                }
+            }
+            if (candidates.size() != 1) {
+                problems.add(String.format("%s#%s (@%s): %s lazy before method %s to be paired with%s",
+                        after.getMethod().getDeclaringClass().getSimpleName(), after.getMethod().getName(),
+                        after.getAnnotationClass().getSimpleName(), candidates.isEmpty() ? "No" : "Ambiguous",
+                        after.getPairedWith(), candidates.isEmpty() ? "" : "; any of " + describe(candidates)));
+            }
+        }
+        return pairings;
+    }
+
+    /**
+     * @param methods The {@link Method Methods} to describe.
+     * @return The declaring {@link Class} and signature of each of the {@code methods}, for error messages.
+     */
+    private static String describe(final List<Method> methods) {
+        final StringJoiner descriptions = new StringJoiner(", ");
+        for (final Method method : methods) {
+            final StringJoiner parameterTypes = new StringJoiner(", ", "(", ")");
+            for (final Class<?> parameterType : method.getParameterTypes()) {
+                parameterTypes.add(parameterType.getSimpleName());
+            }
+            descriptions.add(method.getDeclaringClass().getSimpleName() + "#" + method.getName() + parameterTypes);
+        }
+        return descriptions.toString();
+    }
+
+    /**
+     * Generates a {@link List} of the {@link FlowMethodRegistration FlowMethodRegistrations} for the given {@link
+     * Method Methods}.
+     *
+     * @param annotatedMethods The {@code Methods} annotated by the {@code annotationClass}.
+     * @param annotationClass  The {@link Class} of the {@code Annotation} which the {@code annotatedMethods} are
+     *                         annotated by.
+     * @param expectsPresence  {@code true} if the given {@code Annotation} expects the presence of the {@code
+     *                         Annotations} specified in its {@code value} {@code method} (i.e. {@link BeforeAnnotated}
+     *                         or {@link AfterAnnotated}); otherwise {@code false}.
+     * @param annotationIndex  The {@link AnnotationIndex} of the {@link FlowPlan} being compiled.
+     * @param problems         The {@link List} to add the description of each invalid declaration to.
+     * @param <T>              The {@code Type} of the {@code annotationClass}.
+     * @return A {@code List} of the {@code FlowMethodRegistrations} generated from the {@code annotatedMethods}, for
+     * each {@code Method} with a valid declaration.  Every other {@code Method} is described in the {@code problems}.
+     */
+    private static <T extends Annotation> List<FlowMethodRegistration<T>> buildRegistrations(
+            final List<Method> annotatedMethods, final Class<T> annotationClass, final boolean expectsPresence,
+            final AnnotationIndex annotationIndex, final List<String> problems) {
+
+        final List<FlowMethodRegistration<T>> registrations = new ArrayList<>(annotatedMethods.size());
+        for (final Method method : annotatedMethods) {
+            try {
+                registrations.add(expectsPresence ?
+                        new PositiveFlowMethodRegistration<>(method, annotationClass, annotationIndex) :
+                        new NegativeFlowMethodRegistration<>(method, annotationClass, annotationIndex));
+            } catch (final IllegalArgumentException | IllegalStateException invalidDeclaration) {
+                problems.add(String.format("%s#%s (@%s): %s", method.getDeclaringClass().getSimpleName(),
+                        method.getName(), annotationClass.getSimpleName(), invalidDeclaration.getMessage()));
+            }
+        }
+        return registrations;
+    }
+
+    /**
+     * Retrieves the (cached) {@link FlowPlan} for the given {@code Test} {@link Class}.
+     *
+     * @param testClass The {@code Test} {@code Class} to retrieve the {@code FlowPlan} for.
+     * @return The {@code FlowPlan} for the {@code testClass}; compiled on first use.
+     */
+    static FlowPlan getPlan(final Class<?> testClass) {
+        return FLOW_PLANS.get(testClass);
+    }
+
+    /**
+     * Compiles (and caches) the {@link FlowPlan} of the given {@code Test} {@link Class}, validating the declarations
+     * of all of its {@code annotation-flow} {@link Method Methods} up front.  Called by adapters as their framework
+     * starts executing the {@code Class}.
+     *
+     * @param testClass The {@code Test} {@code Class} which is starting.
+     * @throws RuntimeException If any of the declarations are invalid; failing the whole {@code Class} before any of
+     *                          its {@code Tests} are run.
+     */
+    public static void verify(final Class<?> testClass) {
+        getPlan(testClass).verify();
+    }
+
+    /**
+     * Invokes the {@link BeforeAllAnnotated} (if not yet invoked for the {@code Test} {@link Class}), then the {@link
+     * BeforeAnnotated} and {@link BeforeNotAnnotated}, {@link
+     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link Method Methods} of the currently
+     * executing {@code Test}, for which the {@code Annotations} of the current {@code Test} {@code Method} honour.  The
+     * {@code BeforeAnnotated} and {@code BeforeNotAnnotated} {@code Methods} of {@code Tests} {@link FlowInvocations
+     * dispatched per invocation} are left to each invocation.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     */
+    public void beforeTest(final C context) {
+        final FlowPlan plan = getPlan(adapter.getTestClass(context));
+        final Method testMethod = adapter.getTestMethod(context);
+        final TestMethodPlan testMethodPlan = plan.getTestMethodPlan(testMethod);
+        invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.BEFORE_ALL);
+        if (!testMethodPlan.isDispatchedPerInvocation()) {
+            invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.BEFORE);
+        }
+    }
+
+    /**
+     * Runs the currently executing {@code Test} as a microbenchmark, if it is {@link Measure measured}.  Then invokes
+     * the {@link AfterAnnotated} and {@link AfterNotAnnotated}, then the {@link AfterAllAnnotated} (if this is the last
+     * {@code Test} of the {@code Test} {@link Class} to honour them), {@link
+     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link Method Methods} of the currently
+     * executing {@code Test}, for which the {@code Annotations} of the current {@code Test} {@code Method} honour.  The
+     * {@code AfterAnnotated} and {@code AfterNotAnnotated} {@code Methods} of {@code Tests} {@link FlowInvocations
+     * dispatched per invocation} are left to each invocation.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     * @throws Exception If an invocation of a {@code Measured} {@code Test} {@code throws}.
+     */
+    public void afterTest(final C context) throws Exception {
+        final FlowPlan plan = getPlan(adapter.getTestClass(context));
+        final Method testMethod = adapter.getTestMethod(context);
+        final TestMethodPlan testMethodPlan = plan.getTestMethodPlan(testMethod);
+        try {
+            if (testMethodPlan.getMeasure() != null) {
+                measure(context, testMethod, testMethodPlan.getMeasure());
+            }
+        } finally {
+            try {
+                if (!testMethodPlan.isDispatchedPerInvocation()) {
+                    invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.AFTER);
+                }
+            } finally {
+                invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.AFTER_ALL);
+            }
+        }
+    }
+
+    /**
+     * Binds a {@link FlowInvocations} handle to the currently executing {@code Test}; through which a {@code Test}
+     * {@link TestMethodPlan#isDispatchedPerInvocation() dispatched per invocation} invokes its {@code before} and
+     * {@code after} {@code annotation-flow} {@link Method Methods} around each of its invocations.  Called by adapters
+     * as they resolve the {@code Test's} {@code FlowInvocations} {@link Parameter}.
+     * <p>
+     * The {@link FlowPlan} and {@link TestMethodPlan} are looked up once, here; so each invocation dispatches straight
+     * from the plan.
+     *
+     * @param context The context of the currently executing {@code Test}.
+     * @return The {@code FlowInvocations} of the {@code Test}.
+     */
+    public FlowInvocations invocationsOf(final C context) {
+        final FlowPlan plan = getPlan(adapter.getTestClass(context));
+        final Method testMethod = adapter.getTestMethod(context);
+        final TestMethodPlan testMethodPlan = plan.getTestMethodPlan(testMethod);
+        return new FlowInvocations() {
+            @Override
+            public void before() {
+                invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.BEFORE);
+            }
+
+            @Override
+            public void after() {
+                invokeHonouredAnnotatedMethods(context, plan, testMethod, testMethodPlan, FlowPhase.AFTER);
+            }
+
+            @Override
+            public <T> T getResult(final String flowMethodName, final Class<T> type) {
+                return resolve(context, flowMethodName, type);
+            }
+        };
+    }
+
+    /**
+     * Runs the currently executing {@code Test} as a microbenchmark, if it has passed; publishing its {@link
+     * MeasuredRun} as a report entry.  Runs between the {@code before} and {@code after} {@code annotation-flow}
+     * {@link Method Methods}, so that their cost is not measured.
+     *
+     * @param context    The context of the currently executing {@code Test}.
+     * @param testMethod The {@code Test} {@code Method} which is executing.
+     * @param measure    The {@link Measure} of the {@code testMethod}.
+     * @throws FlowConfigurationException If the {@code Measure} is invalid, or the {@code Test} has a {@link
+     *                                    Parameter} which is neither a {@link FlowResult} nor a {@link Blackhole}.
+     * @throws RuntimeException           If an invocation of the {@code Test} {@code throws}; as {@link
+     *                                    FlowMethodInvoker#invoke(Object, Object[]) rethrown by its invoker}.
+     */
+    private void measure(final C context, final Method testMethod, final Measure measure) {
+        if (adapter.hasFailed(context)) {
+            return;
+        }
+        if (measure.forks() != 0 || measure.iterations() <= 0 || measure.warmup() < 0) {
+            throw new FlowConfigurationException(String.format(
+                    "Illegal forks (%d), iterations (%d) or warmup (%d) for measured test method %s; only forks = 0 "
+                            + "is supported", measure.forks(), measure.iterations(), measure.warmup(),
+                    testMethod.getName()));
+        }
+
+        final Blackhole blackhole = new Blackhole();
+        final Parameter[] parameters = testMethod.getParameters();
+        final Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getType() == Blackhole.class) {
+                arguments[i] = blackhole;
+            } else if (parameters[i].isAnnotationPresent(FlowResult.class)) {
+                arguments[i] = resolve(context, parameters[i]);
+            } else {
+                throw new FlowConfigurationException(String.format(
+                        "Parameter %s of measured test method %s is neither a FlowResult nor a Blackhole",
+                        parameters[i].getName(), testMethod.getName()));
+            }
+        }
+
+        final MeasuredRun measurement =
+                MeasuredRun.run(testMethod, adapter.getTestInstance(context), arguments, measure, blackhole);
+        adapter.publishReportEntry(context, Collections.singletonMap("measure."
+                + testMethod.getDeclaringClass().getSimpleName() + '#' + testMethod.getName(),
+                measurement.summarise()));
+    }
+
+    /**
+     * Finishes the given {@code execution} of the given {@code Test} {@link Class}; invoking any {@link
+     * AfterAllAnnotated} {@link Method Methods} still pending (as some of the {@code Tests} which honour them never
+     * executed), and joining any outstanding {@link AfterAnnotated#async() asynchronous} invocations.  Then publishes
+     * any {@link FlowWatchdog overruns} of its time budgets, and notifies the {@link FlowListener FlowListeners} that
+     * the {@code Class} has finished, allowing them to publish their report entries.  Called by adapters once their
+     * framework has finished executing the {@code Class}.
+     *
+     * @param testClass       The {@code Test} {@code Class} which has finished.
+     * @param execution       The {@link FlowClassExecution} of the {@code testClass}; or {@code null} if none of its
+     *                        {@code Tests} needed one.
+     * @param reportPublisher The publisher of report entries for the {@code testClass}.
+     * @throws AsyncFlowInvocations.AsyncFlowException If any of the asynchronous invocations failed.
+     */
+    public static void finishClass(final Class<?> testClass, final FlowClassExecution execution,
+                                   final Consumer<Map<String, String>> reportPublisher) {
+        try {
+            if (execution != null) {
+                execution.finish();
+            }
+        } finally {
+            FlowWatchdog.publishOverruns(testClass, reportPublisher);
+            LISTENERS.testClassFinished(testClass, reportPublisher);
+        }
+    }
+
+    /**
+     * Invokes the {@link Method Methods} of the registrations of the given {@code phase} which are honoured by the
+     * currently executing {@code Test} {@code Method}.
+     * <p>
+     * Once the plans are cached, the dispatch of plain registrations (neither {@link Memoized}, {@link
+     * BeforeAnnotated#lazy() lazy}, {@link AfterAnnotated#async() asynchronous}, {@link BeforeAnnotated#timeoutMillis()
+     * bounded} nor class-level) allocates nothing: the satisfied registrations are visited through the precomputed
+     * {@link TestMethodPlan#getSatisfied(FlowPhase) index arrays}, and repeated {@code Methods} skipped through their
+     * {@link FlowPlan#getDedupSlots(FlowPhase) dedup slots} in a bit mask.
+     *
+     * @param context        The context of the currently executing {@code Test}.
+     * @param plan           The {@link FlowPlan} of the {@code Test} {@code Class}.
+     * @param testMethod     The {@code Test} {@code Method} which is executing.
+     * @param testMethodPlan The {@link TestMethodPlan} of the {@code testMethod}.
+     * @param phase          The {@link FlowPhase} to dispatch.  Any {@code Method} is invoked at most once per phase,
+     *                       even if it is referenced by multiple registrations; and those of the {@link
+     *                       FlowPhase#BEFORE_ALL} and {@link FlowPhase#AFTER_ALL} phases at most once per {@code Test}
+     *                       {@code Class}.
+     */
+    private void invokeHonouredAnnotatedMethods(final C context, final FlowPlan plan, final Method testMethod,
+                                                final TestMethodPlan testMethodPlan, final FlowPhase phase) {
+
+        final List<FlowMethodRegistration<?>> registrations = plan.getRegistrations(phase);
+        if (registrations.isEmpty()) {
+            return;
+        }
+        final Class<?> testClass = plan.getTestClass();
+
+        // Methods shared by several registrations are tracked by their dedup slot; in a mask, or (for phases sharing
+        // more Methods than it has bits) an array for the remainder.
+        final int[] dedupSlots = plan.getDedupSlots(phase);
+        final int sharedMethods = plan.getSharedMethodCount(phase);
+        final boolean[] invokedOverflow = sharedMethods > Long.SIZE ? new boolean[sharedMethods - Long.SIZE] : null;
+        long invoked = 0L;
+
+        // After registrations tearing down a lazy registration are skipped if it went unused; resolved by index.
+        final int[] pairings = phase == FlowPhase.AFTER ? plan.getPairings() : null;
+
+        // Listeners are notified of every match evaluated; otherwise only the satisfied registrations are visited.
+        final boolean notifyListeners = !LISTENERS.isEmpty();
+        final int[] satisfied = testMethodPlan.getSatisfied(phase);
+        final int candidates = notifyListeners ? registrations.size() : satisfied.length;
+
+        // Invoke all of the methods which require invocation, and have not yet been.
+        for (int candidate = 0; candidate < candidates; candidate++) {
+            final int i = notifyListeners ? candidate : satisfied[candidate];
+            final int slot = dedupSlots[i];
+            if (slot >= 0 && (slot < Long.SIZE ? (invoked & 1L << slot) != 0L : invokedOverflow[slot - Long.SIZE])) {
+                continue;
+            }
+
+            final FlowMethodRegistration<?> registration = registrations.get(i);
+            final Object[] arguments = testMethodPlan.getArguments(phase, i);
+            final int trigger;
+            if (notifyListeners) {
+                final long matchStart = System.nanoTime();
+                trigger = arguments == null ?
+                        -1 : registration.findTrigger(testMethodPlan.getSnapshot().getPresentAnnotationMask());
+                LISTENERS.matchEvaluated(testClass, testMethod, registration.getMethod(), arguments != null,
+                        System.nanoTime() - matchStart);
+            } else {
+                trigger = 0;
+            }
+            if (arguments == null) {
+                continue;
+            }
+
+            final Object receiver = plan.getReceiver(phase, i, adapter.getTestInstance(context));
+            if (phase == FlowPhase.BEFORE_ALL) {
+                final ClassFlowInvocations classInvocations = adapter.getClassExecution(context).getClassInvocations();
+                recordResult(context, testMethodPlan, registration, classInvocations.setUp(i, arguments,
+                        registration.getMethod(), () -> invokeMemoized(context, registration, arguments,
+                                () -> invoke(registration, trigger, testClass, testMethod, arguments, receiver))));
+            } else if (phase == FlowPhase.BEFORE) {
+                if (registration.isLazy()) {
+                    adapter.getResults(context, true).put(registration.getMethod(), new LazyFlowResult(registration,
+                            () -> invokeMemoized(context, registration, arguments, () -> invoke(registration,
+                                    trigger, testClass, testMethod, arguments, receiver))));
+                } else if (registration.getMemoized() != null) {
+                    recordResult(context, testMethodPlan, registration, invokeMemoized(context, registration,
+                            arguments, () -> invoke(registration, trigger, testClass, testMethod, arguments,
+                                    receiver)));
+                } else {
+                    recordResult(context, testMethodPlan, registration,
+                            invoke(registration, trigger, testClass, testMethod, arguments, receiver));
+                }
+            } else if (pairings != null && pairings[i] >= 0 && isUnusedLazyResult(context, plan, pairings[i])) {
+                // The setup this would tear down never happened.
+                continue;
+            } else if (phase == FlowPhase.AFTER_ALL) {
+                final Runnable tearDown = adapter.getClassExecution(context).getClassInvocations().testFinished(i,
+                        arguments,
+                        () -> invoke(registration, trigger, testClass, testMethod, arguments, receiver));
+                if (tearDown != null) {
+                    tearDown.run();
+                }
+            } else if (registration.isAsync()) {
+                adapter.getClassExecution(context).getAsyncInvocations().submit(registration.getMethod(),
+                        adapter.describe(context),
+                        () -> invoke(registration, trigger, testClass, testMethod, arguments, receiver));
+            } else {
+                invoke(registration, trigger, testClass, testMethod, arguments, receiver);
+            }
+
+            if (slot >= Long.SIZE) {
+                invokedOverflow[slot - Long.SIZE] = true;
+            } else if (slot >= 0) {
+                invoked |= 1L << slot;
+            }
+        }
+    }
+
+    /**
+     * Whether the {@link BeforeAnnotated#lazy() lazy} {@code before} registration at the given index, which a
+     * satisfied {@link FlowPhase#AFTER after} registration {@link AfterAnnotated#pairedWith() tears down}, was never
+     * used by the currently executing {@code Test}; in which case the {@code after} registration should not be
+     * invoked.
+     *
+     * @param context     The context of the currently executing {@code Test}.
+     * @param plan        The {@link FlowPlan} of the {@code Test} {@link Class}.
+     * @param pairedIndex The index of the lazy registration, within the {@code before} registrations of the {@code
+     *                    plan}.
+     * @return {@code true} if the {@code after} registration should be skipped.
+     */
+    private boolean isUnusedLazyResult(final C context, final FlowPlan plan, final int pairedIndex) {
+        final Map<Method, Object> results = adapter.getResults(context, false);
+        if (results == null) {
+            return false;
+        }
+        final Object result = results.get(plan.getRegistrations(FlowPhase.BEFORE).get(pairedIndex).getMethod());
+        return result instanceof LazyFlowResult && !((LazyFlowResult) result).isInvoked();
+    }
+
+    /**
+     * Invokes the {@link Method} of the given {@code registration}; unless it is {@link Memoized}, and a value has
+     * already been memoized for the {@code arguments}.
+     *
+     * @param context      The context of the currently executing {@code Test}.
+     * @param registration The {@link FlowMethodRegistration} to invoke the {@code Method} of.
+     * @param arguments    The arguments bound for the {@code registration}.
+     * @param invocation   The invocation of the {@code Method}.
+     * @return The (possibly memoized) value returned by the {@code Method}.
+     */
+    private Object invokeMemoized(final C context, final FlowMethodRegistration<?> registration,
+                                  final Object[] arguments, final Supplier<Object> invocation) {
+        final Memoized memoized = registration.getMemoized();
+        if (memoized == null) {
+            return invocation.get();
+        }
+        return FlowResultCache.of(registration.getMethod(), memoized,
+                adapter.getClassExecution(context).getClassInvocations().getResultCaches())
+                .computeIfAbsent(arguments, invocation);
+    }
+
+    /**
+     * Records the value returned by the {@link Method} of the given {@code registration} for the currently executing
+     * {@code Test}; so that it may be resolved for its {@link FlowResult} parameters.  Not recorded for {@code Tests}
+     * without such parameters (unless the {@link FlowAdapter#recordsEveryResult() adapter records every result}),
+     * which saves a lookup of the held results per {@code Test}.
+     *
+     * @param context        The context of the currently executing {@code Test}.
+     * @param testMethodPlan The {@link TestMethodPlan} of the {@code Test} {@code Method}.
+     * @param registration   The {@link FlowMethodRegistration} whose {@code Method} was invoked.
+     * @param result         The value returned by the {@code Method}.
+     */
+    private void recordResult(final C context, final TestMethodPlan testMethodPlan,
+                              final FlowMethodRegistration<?> registration, final Object result) {
+        if ((testMethodPlan.resolvesFlowResults() || adapter.recordsEveryResult()) && registration.returnsValue()) {
+            adapter.getResults(context, true).put(registration.getMethod(), result);
+        }
+    }
+
+    /**
+     * @param parameter The {@link Parameter} of a {@code Test} {@link Method}.
+     * @return {@code true} if the {@code parameter} is a {@link FlowResult} or {@link Blackhole}, which this engine
+     * {@link #resolve(Object, Parameter) resolves}; otherwise {@code false}.
+     */
+    public static boolean supports(final Parameter parameter) {
+        return parameter.isAnnotationPresent(FlowResult.class) || parameter.getType() == Blackhole.class;
+    }
+
+    /**
+     * Resolves the given {@link FlowResult} {@link Parameter} to the value returned by the {@code annotation-flow}
+     * {@link Method} it names; or if it names none, to the only value returned for the currently executing {@code
+     * Test} which is assignable to it.  The values of {@link BeforeAnnotated#lazy() lazy} {@code Methods} are resolved
+     * to a {@link Supplier} which invokes the {@code Method} on first use, for {@code Supplier} {@code Parameters}.
+     * {@code Blackhole} {@code Parameters} are resolved to a new {@link Blackhole}; only of use for {@link Measure
+     * measured} {@code Tests}.
+     *
+     * @param context   The context of the currently executing {@code Test}.
+     * @param parameter The {@link #supports(Parameter) supported} {@code Parameter} to resolve.
+     * @return The resolved value.
+     * @throws RuntimeException If there is no such value, or (if the {@code Parameter} names no {@code Method}) more
+     *                          than one.
+     */
+    public Object resolve(final C context, final Parameter parameter) {
+        return parameter.getType() == Blackhole.class ? new Blackhole() : resolve(context,
+                parameter.getAnnotation(FlowResult.class).value(), parameter.getType(),
+                "parameter " + parameter.getName());
+    }
+
+    /**
+     * Resolves the value returned by the {@code annotation-flow} {@link Method} of the given name for the currently
+     * executing {@code Test}; as for a {@link #resolve(Object, Parameter) FlowResult Parameter} of the given {@code
+     * type}.  For frameworks whose {@code Tests} look up their values, rather than take them as {@link Parameter
+     * Parameters}.
+     *
+     * @param context        The context of the currently executing {@code Test}.
+     * @param flowMethodName The name of the {@code annotation-flow} {@code Method} whose value to resolve; or empty to
+     *                       resolve the only value which is assignable to the {@code type}.
+     * @param type           The {@link Class} of the value to resolve.
+     * @param <T>            The {@code Type} of the value to resolve.
+     * @return The resolved value.
+     * @throws RuntimeException If there is no such value, or (if the {@code flowMethodName} is empty) more than one.
+     */
+    public <T> T resolve(final C context, final String flowMethodName, final Class<T> type) {
+        final Object resolved = resolve(context, flowMethodName, type, "type " + type.getName());
+        @SuppressWarnings("unchecked") // Only values assignable to the type (or its wrapper) are resolved.
+        final T value = (T) resolved;
+        return value;
+    }
+
+    /**
+     * Resolves the value returned by the {@code annotation-flow} {@link Method} of the given name, as described by
+     * {@link #resolve(Object, Parameter)}.
+     *
+     * @param context        The context of the currently executing {@code Test}.
+     * @param flowMethodName The name of the {@code annotation-flow} {@code Method} whose value to resolve; or empty to
+     *                       resolve the only value which is assignable to the {@code type}.
+     * @param type           The {@link Class} of the value to resolve.
+     * @param target         A description of what the value is resolved for, to report against.
+     * @return The resolved value.
+     * @throws FlowConfigurationException If there is no such value, or (if the {@code flowMethodName} is empty) more
+     *                                    than one.
+     */
+    private Object resolve(final C context, final String flowMethodName, final Class<?> type, final String target) {
+        final List<Object> candidates = new ArrayList<>();
+        final Map<Method, Object> results = adapter.getResults(context, false);
+        if (results != null) {
+            for (final Map.Entry<Method, Object> result : results.entrySet()) {
+                if (!flowMethodName.isEmpty() && !result.getKey().getName().equals(flowMethodName)) {
+                    continue;
+                }
+                final Object value = result.getValue();
+                if (value instanceof LazyFlowResult) {
+                    // Unused lazy results are typed by their method; resolving other than a Supplier forces them.
+                    if (type == Supplier.class || type.isAssignableFrom(result.getKey().getReturnType())) {
+                        candidates.add(value);
+                    }
+                } else if (ReflectionUtils.isAssignableTo(value, type)) {
+                    candidates.add(value);
+                }
+            }
+        }
+        if (candidates.size() != 1) {
+            throw new FlowConfigurationException(String.format("%s annotation-flow results for %s%s",
+                    candidates.isEmpty() ? "No" : "Ambiguous", target,
+                    flowMethodName.isEmpty() ? "" : " of method " + flowMethodName));
+        }
+        final Object candidate = candidates.get(0);
+        return candidate instanceof LazyFlowResult && type != Supplier.class ?
+                ((LazyFlowResult) candidate).get() : candidate;
+    }
+
+    /**
+     * Invokes the {@link Method} of the given {@code registration}, notifying the {@link FlowListener FlowListeners}
+     * (if there are any) of the invocation and its duration.
+     *
+     * @param registration The {@link FlowMethodRegistration} to invoke the {@code Method} of.
+     * @param trigger      The index of the {@code annotation-flow} {@link Annotation} which was satisfied.
+     * @param testClass    The {@code Test} {@link Class} which is executing.
+     * @param testMethod   The {@code Test} {@code Method} which is executing.
+     * @param arguments    The arguments bound for the {@code registration} by the {@link TestMethodPlan} of the
+     *                     {@code testMethod}.
+     * @param testInstance The {@link Object} representing the current {@code Test} {@code Class'} instance.
+     * @return The value returned by the {@code Method}; or {@code null} if it is {@code void}.
+     */
+    private static Object invoke(final FlowMethodRegistration<?> registration, final int trigger,
+                                 final Class<?> testClass, final Method testMethod, final Object[] arguments,
+                                 final Object testInstance) {
+        if (LISTENERS.isEmpty()) {
+            return invokeWithinBudget(registration, testClass, arguments, testInstance);
+        }
+
+        final Method flowMethod = registration.getMethod();
+        final Annotation triggerAnnotation = registration.getAnnotations().get(trigger);
+        LISTENERS.invocationStarted(testClass, testMethod, flowMethod, triggerAnnotation);
+        final long invocationStart = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return invokeWithinBudget(registration, testClass, arguments, testInstance);
+        } catch (final RuntimeException | Error thrown) {
+            failure = thrown;
+            throw thrown;
+        } finally {
+            LISTENERS.invocationFinished(testClass, testMethod, flowMethod, triggerAnnotation,
+                    System.nanoTime() - invocationStart, failure);
+        }
+    }
+
+    /**
+     * Invokes the {@link Method} of the given {@code registration}; under the supervision of the {@link FlowWatchdog},
+     * if it has a {@link FlowMethodRegistration#getTimeoutMillis() time budget}.
+     *
+     * @param registration The {@link FlowMethodRegistration} to invoke the {@code Method} of.
+     * @param testClass    The {@code Test} {@link Class} which is executing.
+     * @param arguments    The arguments bound for the {@code registration}.
+     * @param testInstance The {@link Object} representing the current {@code Test} {@code Class'} instance.
+     * @return The value returned by the {@code Method}; or {@code null} if it is {@code void}.
+     * @throws FlowTimeoutException If the {@code Method} did not complete within its time budget.
+     */
+    private static Object invokeWithinBudget(final FlowMethodRegistration<?> registration, final Class<?> testClass,
+                                             final Object[] arguments, final Object testInstance) {
+        final long timeoutMillis = registration.getTimeoutMillis();
+        if (timeoutMillis == 0L) {
+            return registration.invokeFor(arguments, testInstance);
+        }
+        return FlowWatchdog.invoke(registration.getMethod(), testClass, timeoutMillis,
+                () -> registration.invokeFor(arguments, testInstance));
+    }
+}
@@ -0,0 +1,63 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+
+/**
+ * Handle through which a {@code Test} dispatches its {@code before} and {@code after} {@code annotation-flow} {@link
+ * Method Methods} around each of its own invocations (e.g. each dynamic test of a test factory), rather than once
+ * around the whole {@code Test}.
+ * <p>
+ * A {@code Test} {@code Method} with a {@link java.lang.reflect.Parameter} of this {@code Type} (or a subtype, such as
+ * the Jupiter {@code DynamicFlows}) is dispatched per invocation: its {@link BeforeAnnotated}, {@link
+ * BeforeNotAnnotated}, {@link AfterAnnotated} and {@link AfterNotAnnotated} {@code Methods} are invoked only through
+ * the handle, while its {@link BeforeAllAnnotated} and {@link AfterAllAnnotated} {@code Methods} are still invoked once
+ * around the {@code Test}.
+ * <p>
+ * The handle is bound once per {@code Test}, to the plan of its {@code Method}; so the matching and binding of the
+ * {@code annotation-flow} {@code Methods} is resolved once, and reused by every invocation, which costs no more than
+ * the dispatch itself.  No state is held per invocation; the values returned by the {@code before} {@code Methods} of
+ * an invocation replace those of the previous one.  Invocations must not overlap.
+ *
+ * @see FlowEngine#invocationsOf(Object)
+ */
+public interface FlowInvocations {
+
+    /**
+     * Invokes the {@link BeforeAnnotated} and {@link BeforeNotAnnotated} {@link Method Methods} honoured by the {@code
+     * Test}, before one of its invocations.
+     */
+    void before();
+
+    /**
+     * Invokes the {@link AfterAnnotated} and {@link AfterNotAnnotated} {@link Method Methods} honoured by the {@code
+     * Test}, after one of its invocations; whether or not it (or {@link #before()}) failed.
+     */
+    void after();
+
+    /**
+     * Retrieves the only value returned by the {@code annotation-flow} {@link Method Methods} invoked for the current
+     * invocation which is assignable to the given {@code type}.
+     *
+     * @param type The {@link Class} of the value to retrieve.
+     * @param <T>  The {@code Type} of the value to retrieve.
+     * @return The value.
+     * @throws RuntimeException If there is no such value, or more than one.
+     * @see #getResult(String, Class)
+     */
+    default <T> T getResult(final Class<T> type) {
+        return getResult("", type);
+    }
+
+    /**
+     * Retrieves the value returned by the {@code annotation-flow} {@link Method} of the given name for the current
+     * invocation; as would be resolved for a {@link FlowResult} of the given {@code type}.
+     *
+     * @param flowMethodName The name of the {@code annotation-flow} {@code Method} whose value to retrieve; or empty to
+     *                       retrieve the only value which is assignable to the {@code type}.
+     * @param type           The {@link Class} of the value to retrieve.
+     * @param <T>            The {@code Type} of the value to retrieve.
+     * @return The value.
+     * @throws RuntimeException If there is no such value, or (if the {@code flowMethodName} is empty) more than one.
+     */
+    <T> T getResult(String flowMethodName, Class<T> type);
+}
@@ -0,0 +1,174 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Opt-in {@link FlowListener}; records a {@link LatencyHistogram} of the invocations of each {@code annotation-flow}
+ * {@link Method}, both in total and per triggering {@code annotation-flow} {@link Annotation}.
+ * <p>
+ * Registered (alongside any discovered {@code FlowListeners}) only when the {@value #ENABLED_PROPERTY} system property
+ * is {@code true}; otherwise, and with no other {@code FlowListeners}, {@link FlowEngine} takes no timings at all.
+ * <p>
+ * Once a {@code Test} {@link Class} has finished, the summaries of its histograms are published as a single report
+ * entry, keyed by {@code flow.<DeclaringClass>#<method>} (and {@code flow.<DeclaringClass>#<method> <trigger>} for
+ * each trigger).  Nothing is published for {@code Classes} which invoked no {@code annotation-flow} {@code Methods}.
+ */
+public final class FlowLatencyRecorder implements FlowListener {
+
+    /**
+     * The system property which, when {@code true}, registers a {@link FlowLatencyRecorder}.
+     */
+    static final String ENABLED_PROPERTY = "com.com.flow.recordLatencies";
+
+    /**
+     * The latencies recorded for each {@code annotation-flow} {@link Method}, per {@code Test} {@link Class}.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, FlowMethodLatencies>> latencies =
+            new ConcurrentHashMap<>();
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Records the {@code durationNanos} against the {@code flowMethod} and the {@code trigger}.
+     */
+    @Override
+    public void invocationFinished(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                   final Annotation trigger, final long durationNanos, final Throwable failure) {
+        ConcurrentMap<Method, FlowMethodLatencies> classLatencies = latencies.get(testClass);
+        if (classLatencies == null) {
+            classLatencies = latencies.computeIfAbsent(testClass, ignored -> new ConcurrentHashMap<>());
+        }
+        FlowMethodLatencies methodLatencies = classLatencies.get(flowMethod);
+        if (methodLatencies == null) {
+            methodLatencies = classLatencies.computeIfAbsent(flowMethod, ignored -> new FlowMethodLatencies());
+        }
+        methodLatencies.record(trigger, durationNanos);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Publishes the summaries of the latencies recorded for the {@code testClass}, and discards them.
+     */
+    @Override
+    public void testClassFinished(final Class<?> testClass, final Consumer<Map<String, String>> reportPublisher) {
+        final Map<Method, FlowMethodLatencies> classLatencies = latencies.remove(testClass);
+        if (classLatencies == null || classLatencies.isEmpty()) {
+            return;
+        }
+
+        final Map<String, String> entry = new LinkedHashMap<>();
+        classLatencies.forEach((flowMethod, methodLatencies) -> {
+            final String key = "flow." + flowMethod.getDeclaringClass().getSimpleName() + '#' + flowMethod.getName();
+            entry.put(key, methodLatencies.total.summarise());
+            for (final TriggerLatencies triggerLatencies : methodLatencies.triggers) {
+                entry.put(key + ' ' + describe(triggerLatencies.trigger), triggerLatencies.histogram.summarise());
+            }
+        });
+        reportPublisher.accept(entry);
+    }
+
+    /**
+     * Describes the given {@code annotation-flow} {@link Annotation}, by its {@code Type} and {@code value}.
+     *
+     * @param trigger The {@code annotation-flow} {@code Annotation} to describe.
+     * @return The description of the {@code trigger}; e.g. {@code @BeforeAnnotated({_0, _1})}.
+     */
+    private static String describe(final Annotation trigger) {
+        final Class<? extends Annotation>[] relevantAnnotationClasses =
+                FlowAnnotationType.of(trigger.annotationType()).getRelevantAnnotationClasses(trigger);
+        final String[] names = new String[relevantAnnotationClasses.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = relevantAnnotationClasses[i].getSimpleName();
+        }
+        return '@' + trigger.annotationType().getSimpleName() + '(' + Arrays.toString(names)
+                .replace('[', '{').replace(']', '}') + ')';
+    }
+
+    /**
+     * The latencies recorded for a single {@code annotation-flow} {@link Method}.
+     */
+    private static final class FlowMethodLatencies {
+
+        /**
+         * The latencies of all invocations of the {@link Method}.
+         */
+        private final LatencyHistogram total = new LatencyHistogram();
+
+        /**
+         * The latencies of the invocations of the {@link Method}, per trigger.  Copied on write, as the set of triggers
+         * is tiny and almost never changes.
+         */
+        private volatile TriggerLatencies[] triggers = new TriggerLatencies[0];
+
+        /**
+         * Records the given latency.
+         *
+         * @param trigger The triggering {@code annotation-flow} {@link Annotation}.
+         * @param nanos   The latency to record, in nanoseconds.
+         */
+        void record(final Annotation trigger, final long nanos) {
+            total.record(nanos);
+            find(trigger).histogram.record(nanos);
+        }
+
+        /**
+         * Finds (or adds) the {@link TriggerLatencies} of the given {@code trigger}.  {@code Triggers} are compared by
+         * identity, as each registration reports the same {@link Annotation} instances for every invocation.
+         *
+         * @param trigger The triggering {@code annotation-flow} {@link Annotation}.
+         * @return The {@code TriggerLatencies} of the {@code trigger}.
+         */
+        private TriggerLatencies find(final Annotation trigger) {
+            for (final TriggerLatencies triggerLatencies : triggers) {
+                if (triggerLatencies.trigger == trigger) {
+                    return triggerLatencies;
+                }
+            }
+            synchronized (this) {
+                for (final TriggerLatencies triggerLatencies : triggers) {
+                    if (triggerLatencies.trigger == trigger) {
+                        return triggerLatencies;
+                    }
+                }
+                final TriggerLatencies added = new TriggerLatencies(trigger);
+                final TriggerLatencies[] grown = Arrays.copyOf(triggers, triggers.length + 1);
+                grown[triggers.length] = added;
+                triggers = grown;
+                return added;
+            }
+        }
+    }
+
+    /**
+     * The latencies recorded for a single trigger of an {@code annotation-flow} {@link Method}.
+     */
+    private static final class TriggerLatencies {
+
+        /**
+         * The triggering {@code annotation-flow} {@link Annotation}.
+         */
+        private final Annotation trigger;
+
+        /**
+         * The latencies of the invocations triggered by the {@link #trigger}.
+         */
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        /**
+         * Constructor.
+         *
+         * @param trigger The triggering {@code annotation-flow} {@link Annotation}.
+         */
+        TriggerLatencies(final Annotation trigger) {
+            this.trigger = trigger;
+        }
+    }
+}
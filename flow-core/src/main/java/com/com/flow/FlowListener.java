@@ -0,0 +1,71 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Service provider interface for instrumenting {@code annotation-flow}.
+ * <p>
+ * Implementations are discovered through the {@link java.util.ServiceLoader} (i.e. by listing them in {@code
+ * META-INF/services/com.com.flow.FlowListener}), and are loaded once per {@link ClassLoader} of {@link FlowEngine}.
+ * A single instance is shared by all {@code Tests}, so implementations must be thread safe; and are called on the
+ * critical path of every {@code Test}, so should be cheap.  All callbacks have empty default implementations.
+ *
+ * @see FlowLatencyRecorder
+ */
+public interface FlowListener {
+
+    /**
+     * Called after {@code annotation-flow} has evaluated whether the given {@code flowMethod} should be invoked for the
+     * given {@code testMethod}.
+     *
+     * @param testClass     The {@code Test} {@link Class} which is executing.
+     * @param testMethod    The {@code Test} {@link Method} which is executing.
+     * @param flowMethod    The {@code annotation-flow} {@code Method} which was evaluated.
+     * @param matched       {@code true} if the {@code flowMethod} is to be invoked; otherwise {@code false}.
+     * @param durationNanos The time taken to evaluate the match, in nanoseconds.
+     */
+    default void matchEvaluated(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                final boolean matched, final long durationNanos) {
+    }
+
+    /**
+     * Called immediately before the given {@code flowMethod} is invoked for the given {@code testMethod}.
+     *
+     * @param testClass  The {@code Test} {@link Class} which is executing.
+     * @param testMethod The {@code Test} {@link Method} which is executing.
+     * @param flowMethod The {@code annotation-flow} {@code Method} which is to be invoked.
+     * @param trigger    The {@code annotation-flow} {@link Annotation} on the {@code flowMethod} which was satisfied
+     *                   by the {@code testMethod}.
+     */
+    default void invocationStarted(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                   final Annotation trigger) {
+    }
+
+    /**
+     * Called immediately after the given {@code flowMethod} has been invoked for the given {@code testMethod}; whether
+     * or not the invocation completed normally.
+     *
+     * @param testClass     The {@code Test} {@link Class} which is executing.
+     * @param testMethod    The {@code Test} {@link Method} which is executing.
+     * @param flowMethod    The {@code annotation-flow} {@code Method} which was invoked.
+     * @param trigger       The {@code annotation-flow} {@link Annotation} on the {@code flowMethod} which was
+     *                      satisfied by the {@code testMethod}.
+     * @param durationNanos The time taken by the invocation, in nanoseconds.
+     * @param failure       The {@link Throwable} thrown by the invocation; or {@code null} if it completed normally.
+     */
+    default void invocationFinished(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                    final Annotation trigger, final long durationNanos, final Throwable failure) {
+    }
+
+    /**
+     * Called once all {@code Tests} of the given {@code Test} {@link Class} have finished.
+     *
+     * @param testClass       The {@code Test} {@code Class} which has finished.
+     * @param reportPublisher Publishes report entries against the {@code testClass}.
+     */
+    default void testClassFinished(final Class<?> testClass, final Consumer<Map<String, String>> reportPublisher) {
+    }
+}
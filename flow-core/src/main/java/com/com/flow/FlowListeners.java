@@ -0,0 +1,105 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Consumer;
+
+/**
+ * Composite of the {@link FlowListener FlowListeners} discovered through the {@link ServiceLoader} (and the {@link
+ * FlowLatencyRecorder}, if {@link FlowLatencyRecorder#ENABLED_PROPERTY enabled}), used to notify all of them in turn.
+ */
+final class FlowListeners {
+
+    /**
+     * The discovered {@link FlowListener FlowListeners}, in discovery order.
+     */
+    private final FlowListener[] listeners;
+
+
+    /**
+     * Constructor.
+     *
+     * @param listeners The {@link FlowListener FlowListeners} to notify.
+     */
+    private FlowListeners(final FlowListener[] listeners) {
+        this.listeners = listeners;
+    }
+
+    /**
+     * Discovers the {@link FlowListener FlowListeners} through the {@link ServiceLoader}; along with a {@link
+     * FlowLatencyRecorder} if the {@value FlowLatencyRecorder#ENABLED_PROPERTY} system property is {@code true}.
+     *
+     * @return The composite of the discovered {@code FlowListeners}.
+     */
+    static FlowListeners load() {
+        return load(Boolean.getBoolean(FlowLatencyRecorder.ENABLED_PROPERTY));
+    }
+
+    /**
+     * Discovers the {@link FlowListener FlowListeners} through the {@link ServiceLoader}.
+     *
+     * @param recordLatencies {@code true} to register a {@link FlowLatencyRecorder} as well.
+     * @return The composite of the discovered {@code FlowListeners}.
+     */
+    static FlowListeners load(final boolean recordLatencies) {
+        final List<FlowListener> discovered = new ArrayList<>();
+        for (final FlowListener listener : ServiceLoader.load(FlowListener.class)) {
+            discovered.add(listener);
+        }
+        if (recordLatencies) {
+            discovered.add(new FlowLatencyRecorder());
+        }
+        return new FlowListeners(discovered.toArray(new FlowListener[0]));
+    }
+
+    /**
+     * @return {@code true} if there are no {@link FlowListener FlowListeners} to notify; in which case callers may
+     * skip taking timings entirely.
+     */
+    boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    /**
+     * @see FlowListener#matchEvaluated(Class, Method, Method, boolean, long)
+     */
+    void matchEvaluated(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                        final boolean matched, final long durationNanos) {
+        for (final FlowListener listener : listeners) {
+            listener.matchEvaluated(testClass, testMethod, flowMethod, matched, durationNanos);
+        }
+    }
+
+    /**
+     * @see FlowListener#invocationStarted(Class, Method, Method, Annotation)
+     */
+    void invocationStarted(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                           final Annotation trigger) {
+        for (final FlowListener listener : listeners) {
+            listener.invocationStarted(testClass, testMethod, flowMethod, trigger);
+        }
+    }
+
+    /**
+     * @see FlowListener#invocationFinished(Class, Method, Method, Annotation, long, Throwable)
+     */
+    void invocationFinished(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                            final Annotation trigger, final long durationNanos, final Throwable failure) {
+        for (final FlowListener listener : listeners) {
+            listener.invocationFinished(testClass, testMethod, flowMethod, trigger, durationNanos, failure);
+        }
+    }
+
+    /**
+     * @see FlowListener#testClassFinished(Class, Consumer)
+     */
+    void testClassFinished(final Class<?> testClass, final Consumer<Map<String, String>> reportPublisher) {
+        for (final FlowListener listener : listeners) {
+            listener.testClassFinished(testClass, reportPublisher);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.com.flow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes an {@code annotation-flow} {@link Method} through a {@link MethodHandle} which is bound once, when the
+ * {@link FlowPlan} is compiled.
+ * <p>
+ * The bound {@code MethodHandle} is adapted to a generic ({@link Object}) type of the {@code Method's} exact arity, so
+ * that the common arities can be invoked {@link MethodHandle#invokeExact(Object...) exactly}; without the access
+ * checks, argument boxing into an intermediate {@link java.lang.reflect.Array} or {@link
+ * java.lang.reflect.InvocationTargetException} wrapping of {@link Method#invoke(Object, Object...)}.
+ */
+final class FlowMethodInvoker {
+
+    /**
+     * The highest arity which is dispatched with an exact invocation; {@code Methods} with more parameters fall back to
+     * {@link MethodHandle#invokeWithArguments(Object...)}.
+     */
+    private static final int MAX_EXACT_ARITY = 3;
+
+    /**
+     * The bound {@link MethodHandle}, of type {@code (Object, Object...)Object}, with the receiver (the {@code Test}
+     * instance) as its first parameter.  The receiver is ignored for {@code static} {@link Method Methods}.
+     */
+    private final MethodHandle handle;
+
+    /**
+     * The number of parameters of the bound {@link Method}, excluding the receiver.
+     */
+    private final int arity;
+
+
+    /**
+     * Constructor; binds the given {@link Method}.
+     *
+     * @param method The {@code annotation-flow} {@code Method} to bind.
+     * @throws IllegalStateException If access to the {@code Method} is refused.
+     */
+    FlowMethodInvoker(final Method method) {
+        this.arity = method.getParameterCount();
+
+        MethodHandle bound;
+        try {
+            method.setAccessible(true);
+            bound = MethodHandles.lookup().unreflect(method);
+        } catch (final IllegalAccessException iaEx) {
+            throw new IllegalStateException("SecurityManager stopped required invocation", iaEx);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            bound = MethodHandles.dropArguments(bound, 0, Object.class);
+        }
+        this.handle = bound.asType(MethodType.genericMethodType(arity + 1));
+    }
+
+    /**
+     * Constructor; of an invoker of the given (already generic) {@link MethodHandle}.
+     *
+     * @param handle The {@code MethodHandle}, of type {@code (Object, Object...)Object}.
+     * @param arity  The number of parameters of the {@code handle}, excluding the receiver.
+     */
+    private FlowMethodInvoker(final MethodHandle handle, final int arity) {
+        this.handle = handle;
+        this.arity = arity;
+    }
+
+    /**
+     * Creates an invoker of an empty body of the given {@code arity}; which ignores its receiver and arguments, and
+     * returns {@code null}.  Invoking it costs exactly the dispatch of a bound {@link Method} of that {@code arity}, so
+     * that it serves as the baseline of {@link MeasuredRun measurements}.
+     *
+     * @param arity The number of parameters of the empty body, excluding the receiver.
+     * @return The invoker.
+     */
+    static FlowMethodInvoker empty(final int arity) {
+        final MethodHandle nothing = MethodHandles.constant(Object.class, null);
+        final MethodType type = MethodType.genericMethodType(arity + 1);
+        return new FlowMethodInvoker(MethodHandles.dropArguments(nothing, 0, type.parameterList()), arity);
+    }
+
+    /**
+     * Invokes the bound {@link Method}.
+     *
+     * @param testInstance The {@link Object} representing the current {@code Test} {@link Class Class'} instance.
+     * @param arguments    The arguments for the {@code Method}; must have exactly as many elements as the {@code
+     *                     Method} has parameters.
+     * @return The value returned by the {@code Method}; or {@code null} if it is {@code void}.
+     * @throws RuntimeException Any {@link RuntimeException} or {@link Error} thrown by the {@code Method} is rethrown
+     *                          as is; any other {@link Throwable} is wrapped.
+     */
+    Object invoke(final Object testInstance, final Object[] arguments) {
+        try {
+            switch (arity) {
+                case 0:
+                    return (Object) handle.invokeExact(testInstance);
+                case 1:
+                    return (Object) handle.invokeExact(testInstance, arguments[0]);
+                case 2:
+                    return (Object) handle.invokeExact(testInstance, arguments[0], arguments[1]);
+                case MAX_EXACT_ARITY:
+                    return (Object) handle.invokeExact(testInstance, arguments[0], arguments[1], arguments[2]);
+                default:
+                    final Object[] receiverAndArguments = new Object[arity + 1];
+                    receiverAndArguments[0] = testInstance;
+                    System.arraycopy(arguments, 0, receiverAndArguments, 1, arity);
+                    return handle.invokeWithArguments(receiverAndArguments);
+            }
+        } catch (final RuntimeException | Error unchecked) {
+            throw unchecked;
+        } catch (final Throwable throwable) {
+            throw new RuntimeException("Exception while invoking AnnotationFlow Method", throwable);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.com.flow;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+
+/**
+ * Used to generate the {@code parameters} for the provided {@link #toInvoke}, from the {@code Annotations} in the
+ * {@link #snapshot} of the currently executing {@code Test} {@link Method}.
+ */
+final class FlowMethodParameterBuilder {
+
+    /**
+     * The {@link Method} to be {@code invoked}.
+     */
+    private final Method toInvoke;
+
+    /**
+     * The {@link AnnotationSnapshot} of the currently executing {@code Test} {@link Method}.
+     */
+    private final AnnotationSnapshot snapshot;
+
+
+    /**
+     * Generates a {@link FlowMethodParameterBuilder} for the given {@link Method} {@link #toInvoke}, from the {@code
+     * Annotations} in the {@link #snapshot} of the currently executing {@code Test} {@code Method}.
+     *
+     * @param toInvoke The {@code Method} which is to be invoked.  Expects that all arguments have been validated for
+     *                 the {@code AnnotationFlow} to be as expected.
+     * @param snapshot The {@link AnnotationSnapshot} of the {@code testMethod} currently executing.
+     */
+    FlowMethodParameterBuilder(final Method toInvoke, final AnnotationSnapshot snapshot) {
+        this.toInvoke = toInvoke;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Generates the {@link java.lang.reflect.Array} of {@code parameters} from the provided {@link #toInvoke Method to
+     * invoke} from the provided {@link #snapshot}.
+     *
+     * @return An {@code Array} of {@code Objects} which can be used directly to {@link FlowMethodInvoker#invoke(Object,
+     * Object[]) invoke} the provided {@link #toInvoke} {@link Method}.
+     * @throws IllegalStateException If there is an {@code parameter} on the {@code toInvoke} {@code Method} which does
+     *                               not have a candidate {@code Annotation} from the provided {@code snapshot}.  This
+     *                               should <i>not</i> happen, as the {@code Method} should have been validated to be
+     *                               as expected by the time this is constructed.
+     */
+    Object[] getParameters() {
+
+        // Get all the parameter types.
+        // These should be verified to be as expected.
+        final Class<?>[] parameterTypes = toInvoke.getParameterTypes();
+
+        final Object[] parameters = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) { // Every parameter should have a candidate
+            final Annotation candidate = snapshot.find(parameterTypes[i]); // from the present annotations.
+            if (candidate == null) {
+                // Current parameter had no candidate; throw RuntimeException as this should not occur.
+                throw new IllegalStateException(String.format("No candidate for parameter %s on method %s",
+                        parameterTypes[i].getSimpleName(), toInvoke.getName()));
+            }
+            parameters[i] = candidate;
+        }
+
+        return parameters;
+    }
+}
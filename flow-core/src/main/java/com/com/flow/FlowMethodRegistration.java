@@ -0,0 +1,343 @@
+package com.com.flow;
+
+import org.junit.platform.commons.util.AnnotationUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Represents the registration for an {@code annotation-flow} {@code annotated} {@link Method}.
+ * <p>
+ * Subclasses handle the implementations of the {@code shouldInvokeFor} method (which should determine if the currently
+ * executing {@code Test} has the annotations present to be invoked as specified by the present {@code annotation-flow}
+ * {@link Annotation Annotations}); and the {@code validateParametersForAnnotation(T)} method (which should determine if
+ * the arguments of the provided {@code method} match the expectations of the given {@code annotation-flow} {@code
+ * Annotation}).
+ *
+ * @param <T> The {@code Type} of {@code Annotation} under consideration; should be one of:
+ *            <ul>
+ *            <li>{@link BeforeAllAnnotated};</li>
+ *            <li>{@link BeforeAnnotated};</li>
+ *            <li>{@link BeforeNotAnnotated};</li>
+ *            <li>{@link AfterAnnotated};</li>
+ *            <li>{@link AfterNotAnnotated}; or</li>
+ *            <li>{@link AfterAllAnnotated}.</li>
+ *            </ul>
+ * @see PositiveFlowMethodRegistration
+ * @see NegativeFlowMethodRegistration
+ */
+abstract class FlowMethodRegistration<T extends Annotation> {
+
+    /**
+     * The {@link Class} of the {@code annotation-flow} {@link Annotation} which is referenced by this registration.
+     */
+    private final Class<T> annotationClass;
+
+    /**
+     * The {@link Method} which is {@code annotated} with an {@code annotation-flow} {@link Annotation}, referenced by
+     * this registration.
+     */
+    private final Method method;
+
+    /**
+     * The {@code annotations} (of {@code Type} {@code T}) on the provided {@code Method}.  Each of the {@code
+     * annotation-flow} {@link Annotation Annotations} are {@link java.lang.annotation.Repeatable}, so multiple can be
+     * present.
+     */
+    private final List<T> annotations;
+
+    /**
+     * The {@link Annotation} {@link Class Classes} which each of the {@link #annotations} declares an interest in (i.e.
+     * their {@code value}); in the same order as the {@code annotations}.  Read once, through the typed accessor of the
+     * {@link FlowAnnotationType}.
+     */
+    private final List<Class<? extends Annotation>[]> relevantAnnotationClasses;
+
+    /**
+     * The masks (from the {@link AnnotationIndex} of the owning {@link FlowPlan}) of the {@link Annotation} {@link
+     * Class Classes} which each of the {@link #annotations} declares an interest in; in the same order as the {@code
+     * annotations}.
+     */
+    private final long[][] relevantAnnotationMasks;
+
+    /**
+     * The {@link AnnotationIndex} which the {@link #relevantAnnotationMasks} are from.
+     */
+    private final AnnotationIndex annotationIndex;
+
+    /**
+     * {@code true} if the {@link #annotations} request asynchronous invocation of the {@link #method}.
+     */
+    private final boolean async;
+
+    /**
+     * {@code true} if the {@link #annotations} request lazy invocation of the {@link #method}.
+     */
+    private final boolean lazy;
+
+    /**
+     * The time budget of each invocation of the {@link #method}, in milliseconds; or {@code 0} if unbounded.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * The name of the {@link BeforeAnnotated#lazy() lazy} {@link Method} which the {@link #method} tears down; or
+     * {@code null} if it tears down no lazy {@code Method}.
+     */
+    private final String pairedWith;
+
+    /**
+     * The {@link Memoized} {@link Annotation} of the {@link #method}; or {@code null} if its values are not memoized.
+     */
+    private final Memoized memoized;
+
+    /**
+     * The {@link FlowMethodInvoker} bound to the {@link #method}.
+     */
+    private final FlowMethodInvoker invoker;
+
+    /**
+     * Constructor; generates a {@link FlowMethodRegistration} for the provided {@code Method}, searching for the {@code
+     * annotations} of the provided {@code annotationClass}.
+     *
+     * @param method          The {@link Method} which is {@code annotated} by an {@code annotation-flow} {@link
+     *                        Annotation}.
+     * @param annotationClass The {@link Class} of the {@code annotation-flow} {@code Annotation} which this
+     *                        registration is for.
+     * @param annotationIndex The {@link AnnotationIndex} of the {@link FlowPlan} being compiled, into which the {@code
+     *                        Annotation} {@code Classes} of interest are interned.
+     * @throws IllegalArgumentException If the {@code Method's} declaration does not match the expectations for the
+     *                                  considered {@code annotation-flow} {@code Annotations}.
+     * @throws IllegalStateException    If the {@code annotationClass} is not an {@code annotation-flow} {@code
+     *                                  Annotation}, or if access to the {@code Method} is refused.
+     */
+    FlowMethodRegistration(final Method method, final Class<T> annotationClass,
+                           final AnnotationIndex annotationIndex) {
+        this.method = method;
+        this.annotationClass = annotationClass;
+        this.annotations = AnnotationUtils.findRepeatableAnnotations(method, annotationClass);
+        this.memoized = AnnotationUtils.findAnnotation(method, Memoized.class).orElse(null);
+
+        final FlowAnnotationType annotationType = FlowAnnotationType.of(annotationClass);
+        this.relevantAnnotationClasses = new ArrayList<>(annotations.size());
+        for (final T annotation : annotations) {
+            relevantAnnotationClasses.add(annotationType.getRelevantAnnotationClasses(annotation));
+        }
+        validate();
+        this.async = !annotations.isEmpty() && annotationType.isAsync(annotations.get(0));
+        this.lazy = !annotations.isEmpty() && annotationType.isLazy(annotations.get(0));
+        final long declaredTimeoutMillis =
+                annotations.isEmpty() ? 0L : annotationType.getTimeoutMillis(annotations.get(0));
+        this.timeoutMillis = declaredTimeoutMillis != 0L ?
+                declaredTimeoutMillis : FlowWatchdog.getDefaultTimeoutMillis();
+        final String declaredPairedWith = annotations.isEmpty() ? "" : annotationType.getPairedWith(annotations.get(0));
+        this.pairedWith = declaredPairedWith.isEmpty() ? null : declaredPairedWith;
+
+        this.annotationIndex = annotationIndex;
+        this.relevantAnnotationMasks = new long[annotations.size()][];
+        for (int i = 0; i < relevantAnnotationMasks.length; i++) {
+            relevantAnnotationMasks[i] = annotationIndex.maskOf(relevantAnnotationClasses.get(i));
+        }
+        this.invoker = new FlowMethodInvoker(method);
+    }
+
+    /**
+     * @return The {@code annotation-flow} {@code annotated} {@link Method} which this registration is for.
+     */
+    final Method getMethod() {
+        return this.method;
+    }
+
+    /**
+     * @return The {@link Class} of the {@code annotation-flow} {@link Annotation} which this registration is for.
+     */
+    final Class<T> getAnnotationClass() {
+        return this.annotationClass;
+    }
+
+    /**
+     * @return The {@link Annotation Annotations} of {@code Type} {@code T} which are present on the {@code Method}.
+     */
+    final List<T> getAnnotations() {
+        return this.annotations;
+    }
+
+    /**
+     * @return The masks of the {@link Annotation} {@link Class Classes} which each of the {@link #getAnnotations()
+     * annotations} declares an interest in; in the same order as the {@code annotations}.
+     */
+    final long[][] getRelevantAnnotationMasks() {
+        return this.relevantAnnotationMasks;
+    }
+
+    /**
+     * @return The {@link AnnotationIndex} which the {@link #getRelevantAnnotationMasks() masks} are from.
+     */
+    final AnnotationIndex getAnnotationIndex() {
+        return this.annotationIndex;
+    }
+
+    /**
+     * @return {@code true} if the {@code annotation-flow} {@link Annotation Annotations} request asynchronous
+     * invocation of the {@link Method}.
+     */
+    final boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * @return {@code true} if the {@code annotation-flow} {@link Annotation Annotations} request lazy invocation of the
+     * {@link Method}.
+     */
+    final boolean isLazy() {
+        return this.lazy;
+    }
+
+    /**
+     * @return The time budget of each invocation of the {@link Method}, in milliseconds; either as declared by the
+     * {@code annotation-flow} {@link Annotation Annotations}, or the {@link FlowWatchdog#TIMEOUT_PROPERTY global
+     * default}.  {@code 0} if unbounded.
+     */
+    final long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * @return The name of the {@link BeforeAnnotated#lazy() lazy} {@link Method} which the {@link #getMethod() Method}
+     * {@link AfterAnnotated#pairedWith() tears down}; or {@code null} if it tears down no lazy {@code Method}.
+     */
+    final String getPairedWith() {
+        return this.pairedWith;
+    }
+
+    /**
+     * @return {@code true} if the {@code annotation-flow} {@link Annotation Annotations} expect the presence of the
+     * {@code Annotations} which they declare an interest in (i.e. are {@link PositiveFlowMethodRegistration
+     * positive}).
+     */
+    final boolean expectsPresence() {
+        return FlowAnnotationType.of(annotationClass).expectsPresence();
+    }
+
+    /**
+     * @return The {@link Memoized} {@link Annotation} of the {@link Method}; or {@code null} if its values are not
+     * memoized.
+     */
+    final Memoized getMemoized() {
+        return this.memoized;
+    }
+
+    /**
+     * @return {@code true} if the {@link Method} returns a value (i.e. is not {@code void}).
+     */
+    final boolean returnsValue() {
+        return method.getReturnType() != void.class;
+    }
+
+    /**
+     * Validates that the {@link Method Method's} declaration matches expectations to be used for {@code
+     * annotation-flow}.
+     */
+    private void validate() {
+        validateParameters();
+        final FlowAnnotationType annotationType = FlowAnnotationType.of(annotationClass);
+        validateConsistent("async", annotationType::isAsync);
+        validateConsistent("lazy", annotationType::isLazy);
+        validateConsistent("timeoutMillis", annotationType::getTimeoutMillis);
+        validateConsistent("pairedWith", annotationType::getPairedWith);
+        validateMemoized();
+        for (final T annotation : annotations) {
+            if (annotationType.getTimeoutMillis(annotation) < 0L) {
+                throw new IllegalArgumentException("Illegal timeoutMillis for method " + method.getName());
+            }
+        }
+    }
+
+    /**
+     * Validates that a {@link Memoized} {@link Method} has a value to memoize.
+     */
+    private void validateMemoized() {
+        if (memoized != null && !returnsValue()) {
+            throw new IllegalArgumentException("Memoized method " + method.getName() + " must return a value");
+        }
+        if (memoized != null && memoized.maxSize() < 1) {
+            throw new IllegalArgumentException("Illegal maxSize for memoized method " + method.getName());
+        }
+    }
+
+    /**
+     * Validates that all of the {@code annotations} agree on the given attribute; e.g. on whether the {@link Method}
+     * is invoked asynchronously.
+     *
+     * @param attribute The name of the attribute.
+     * @param accessor  Reads the attribute from an {@code annotation}.
+     */
+    private void validateConsistent(final String attribute, final Function<Annotation, Object> accessor) {
+        for (final T annotation : annotations) {
+            if (!accessor.apply(annotation).equals(accessor.apply(annotations.get(0)))) {
+                throw new IllegalArgumentException("Inconsistent " + attribute + " for method " + method.getName());
+            }
+        }
+    }
+
+    /**
+     * Validates that the parameters for the {@link Method} matches expectations to be used for {@code annotation-flow}.
+     */
+    private void validateParameters() {
+        for (int i = 0; i < annotations.size(); i++) {
+            validateParametersForAnnotation(annotations.get(i), relevantAnnotationClasses.get(i));
+        }
+    }
+
+    /**
+     * Invokes the provided {@code annotation-flow} {@link Method}, with the given (pre-bound) {@code arguments}.
+     *
+     * @param arguments    The arguments {@link TestMethodPlan#getArguments(FlowPhase, int) bound} for the currently
+     *                     executing {@code Test's} {@code Method}.
+     * @param testInstance The {@link Object} representing the current {@code Test} {@link Class Class'} instance.
+     * @return The value returned by the {@code Method}; or {@code null} if it is {@code void}.
+     * @throws RuntimeException Any {@link RuntimeException} or {@link Error} thrown by the {@code Method} is rethrown
+     *                          as is; any other {@link Throwable} is wrapped.
+     */
+    final Object invokeFor(final Object[] arguments, final Object testInstance) {
+        return invoker.invoke(testInstance, arguments);
+    }
+
+    /**
+     * Validates the parameters meet expectations to be used for {@code annotation-flow} for the single {@link
+     * Annotation} given.
+     *
+     * @param annotation                The {@code annotation-flow} {@code Annotation} to validate the parameters for.
+     * @param relevantAnnotationClasses The {@link Class Classes} of the {@code Annotations} which the given {@code
+     *                                  annotation} declares an interest in.
+     */
+    abstract void validateParametersForAnnotation(final T annotation,
+                                                  final Class<? extends Annotation>[] relevantAnnotationClasses);
+
+    /**
+     * Whether or not the provided {@link Method} should be invoked for the given {@code Test} {@code Method}.  I.e. The
+     * {@link Annotation Annotations} present on the {@code testMethod} match those of interest for the {@code
+     * annotation-flow} {@code Annotations} registered.
+     *
+     * @param presentAnnotationMask The mask of the {@code Annotations} present on the currently executing {@code
+     *                              testMethod}, from the same {@link AnnotationIndex} as this registration.
+     * @return {@code true} if the given {@code testMethod} means that the provided {@code Method}
+     * <strong>should</strong> be invoked for the currently executing {@code testMethod}.
+     */
+    final boolean shouldInvokeFor(final long[] presentAnnotationMask) {
+        return findTrigger(presentAnnotationMask) >= 0;
+    }
+
+    /**
+     * Finds the first of the registered {@code annotation-flow} {@link Annotation Annotations} which is satisfied by
+     * the given {@code Test} {@code Method}; i.e. which causes the provided {@link Method} to be invoked.
+     *
+     * @param presentAnnotationMask The mask of the {@code Annotations} present on the currently executing {@code
+     *                              testMethod}, from the same {@link AnnotationIndex} as this registration.
+     * @return The index (into {@link #getAnnotations()}) of the first satisfied {@code annotation-flow} {@code
+     * Annotation}; or {@code -1} if none are satisfied, and the {@code Method} should not be invoked.
+     */
+    abstract int findTrigger(final long[] presentAnnotationMask);
+}
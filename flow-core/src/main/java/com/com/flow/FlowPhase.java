@@ -0,0 +1,32 @@
+package com.com.flow;
+
+/**
+ * The phases of a {@code Test} at which {@code annotation-flow} {@link java.lang.reflect.Method Methods} are
+ * dispatched.
+ */
+enum FlowPhase {
+
+    /**
+     * Before the first satisfying {@code Test} of a {@code Test} {@link Class} executes; dispatching {@link
+     * BeforeAllAnnotated} {@code Methods}.
+     */
+    BEFORE_ALL,
+
+    /**
+     * Before the {@code Test} executes; dispatching {@link BeforeAnnotated} and {@link BeforeNotAnnotated} {@code
+     * Methods}.
+     */
+    BEFORE,
+
+    /**
+     * After the {@code Test} has executed; dispatching {@link AfterAnnotated} and {@link AfterNotAnnotated} {@code
+     * Methods}.
+     */
+    AFTER,
+
+    /**
+     * After the last satisfying {@code Test} of a {@code Test} {@link Class} has executed; dispatching {@link
+     * AfterAllAnnotated} {@code Methods}.
+     */
+    AFTER_ALL
+}
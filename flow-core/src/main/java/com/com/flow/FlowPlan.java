@@ -0,0 +1,391 @@
+package com.com.flow;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable {@code annotation-flow} plan for a single {@code Test} {@link Class}.
+ * <p>
+ * Holds the {@link FlowMethodRegistration FlowMethodRegistrations} which were discovered (and validated) for the
+ * {@code Class}, in the order in which they should be dispatched.  A plan is compiled once per {@code Class} and is
+ * then shared by every {@code Test} of that {@code Class}; hence it must <strong>not</strong> be mutated once
+ * constructed.
+ * <p>
+ * Plans are composed: the registrations of a {@code Class'} {@code super} {@code class} (and, for an inner {@code
+ * Class}, the per-{@code Test} registrations of its enclosing {@code Class}) are those of their own plans, shared
+ * rather than rediscovered.  Registrations composed from an enclosing {@code Class} are invoked on the enclosing
+ * instance, as {@link #getReceiver(FlowPhase, int, Object) resolved} by the plan.
+ *
+ * @see FlowEngine
+ */
+final class FlowPlan {
+
+    /**
+     * The names of the {@link Annotation Annotations} which mark a {@link Method} as a {@code Test} (or test factory),
+     * in each of the supported frameworks; named, rather than referenced, so that the plan depends on none of them.
+     */
+    private static final Set<String> TEST_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "org.junit.jupiter.api.Test", "org.junit.jupiter.api.TestFactory", "org.junit.Test")));
+
+    /**
+     * The {@code Test} {@link Class} which this plan is for.
+     */
+    private final Class<?> testClass;
+
+    /**
+     * The {@link AnnotationIndex} into which all {@link Annotation} {@link Class Classes} of interest to the
+     * registrations have been interned.
+     */
+    private final AnnotationIndex annotationIndex;
+
+    /**
+     * The registrations to be considered at each {@link FlowPhase}, in dispatch order; e.g. {@link BeforeAnnotated}
+     * registrations ahead of {@link BeforeNotAnnotated} registrations, and likewise for the {@code After} phase.
+     */
+    private final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations;
+
+    /**
+     * The {@link FlowDeclarationException} describing every invalid declaration of the {@code Class'} {@code
+     * annotation-flow} {@link java.lang.reflect.Method Methods}; or {@code null} if all declarations were valid.
+     */
+    private final FlowDeclarationException declarationFailure;
+
+    /**
+     * The dedup slot of each of the registrations of each {@link FlowPhase} (by {@link FlowPhase#ordinal() ordinal}),
+     * by index; for registrations whose {@link Method} is shared with another registration of the same phase, the
+     * (dense) index of that {@code Method} amongst the shared {@code Methods} of the phase, otherwise {@code -1}.  So
+     * dispatch can track which shared {@code Methods} it has invoked in a bit mask, without allocating.
+     */
+    private final int[][] dedupSlots;
+
+    /**
+     * The number of {@link Method Methods} shared by more than one registration of each {@link FlowPhase} (by {@link
+     * FlowPhase#ordinal() ordinal}).
+     */
+    private final int[] sharedMethodCounts;
+
+    /**
+     * The index, within the {@link FlowPhase#BEFORE before} registrations, of the {@link BeforeAnnotated#lazy() lazy}
+     * registration which each of the {@link FlowPhase#AFTER after} registrations {@link AfterAnnotated#pairedWith()
+     * tears down}, by index; {@code -1} for those which tear down no lazy {@link Method}.
+     */
+    private final int[] pairings;
+
+    /**
+     * The number of enclosing instances to step out through to reach the receiver of each of the registrations of each
+     * {@link FlowPhase} (by {@link FlowPhase#ordinal() ordinal}), by index; {@code 0} for registrations declared by
+     * the {@code Test} {@link Class} (or its {@code super} {@code classes}), which are invoked on the test instance
+     * itself, and otherwise the depth of the enclosing {@code Class} which declares (or inherits) them.
+     */
+    private final int[][] receiverDepths;
+
+    /**
+     * The field holding the enclosing instance of the {@code Test} {@link Class}, then of each of its enclosing {@code
+     * Classes} in turn; as deep as the deepest {@link #receiverDepths receiver}.
+     */
+    private final Field[] enclosingInstanceFields;
+
+    /**
+     * The {@link TestMethodPlan} of each {@code Test} {@link Method} seen so far.
+     */
+    private final ConcurrentMap<Method, TestMethodPlan> testMethodPlans = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor; generates a valid {@link FlowPlan} from the given registrations.
+     *
+     * @param testClass           The {@code Test} {@link Class} which the plan is for.
+     * @param annotationIndex     The {@link AnnotationIndex} which the registrations interned their {@code Annotation}
+     *                            {@code Classes} of interest into.
+     * @param registrations       The registrations to consider at each {@link FlowPhase}, in dispatch order.  Phases
+     *                            without an entry have no registrations.
+     * @param pairings            The index, within the {@link FlowPhase#BEFORE before} {@code registrations}, of the
+     *                            lazy registration which each of the {@link FlowPhase#AFTER after} {@code
+     *                            registrations} tears down, by index; {@code -1} for those which tear down none.
+     */
+    FlowPlan(final Class<?> testClass, final AnnotationIndex annotationIndex,
+             final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations, final int[] pairings) {
+        this.testClass = testClass;
+        this.annotationIndex = annotationIndex;
+        this.registrations = new EnumMap<>(FlowPhase.class);
+        for (final FlowPhase phase : FlowPhase.values()) {
+            this.registrations.put(phase, Collections.unmodifiableList(
+                    registrations.getOrDefault(phase, Collections.emptyList())));
+        }
+        this.declarationFailure = null;
+        this.pairings = pairings;
+
+        this.dedupSlots = new int[FlowPhase.values().length][];
+        this.sharedMethodCounts = new int[FlowPhase.values().length];
+        for (final FlowPhase phase : FlowPhase.values()) {
+            final List<FlowMethodRegistration<?>> phaseRegistrations = this.registrations.get(phase);
+            final int[] slots = new int[phaseRegistrations.size()];
+            Arrays.fill(slots, -1);
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] >= 0) {
+                    continue;
+                }
+                for (int j = i + 1; j < slots.length; j++) {
+                    if (phaseRegistrations.get(j).getMethod().equals(phaseRegistrations.get(i).getMethod())) {
+                        slots[i] = sharedMethodCounts[phase.ordinal()];
+                        slots[j] = slots[i];
+                    }
+                }
+                if (slots[i] >= 0) {
+                    sharedMethodCounts[phase.ordinal()]++;
+                }
+            }
+            this.dedupSlots[phase.ordinal()] = slots;
+        }
+
+        this.receiverDepths = new int[FlowPhase.values().length][];
+        int deepestReceiver = 0;
+        for (final FlowPhase phase : FlowPhase.values()) {
+            final List<FlowMethodRegistration<?>> phaseRegistrations = this.registrations.get(phase);
+            final int[] depths = new int[phaseRegistrations.size()];
+            for (int i = 0; i < depths.length; i++) {
+                depths[i] = receiverDepthOf(testClass, phaseRegistrations.get(i).getMethod().getDeclaringClass());
+                deepestReceiver = Math.max(deepestReceiver, depths[i]);
+            }
+            this.receiverDepths[phase.ordinal()] = depths;
+        }
+        this.enclosingInstanceFields = new Field[deepestReceiver];
+        Class<?> enclosedClass = testClass;
+        for (int depth = 0; depth < deepestReceiver; depth++) {
+            enclosingInstanceFields[depth] = enclosingInstanceFieldOf(enclosedClass);
+            enclosingInstanceFields[depth].setAccessible(true);
+            enclosedClass = enclosedClass.getEnclosingClass();
+        }
+    }
+
+    /**
+     * Constructor; generates an invalid {@link FlowPlan}, which will report the given {@code declarationFailure}
+     * whenever it is used.
+     *
+     * @param testClass          The {@code Test} {@link Class} which the plan is for.
+     * @param declarationFailure The {@link FlowDeclarationException} describing every invalid {@code annotation-flow}
+     *                           declaration of the {@code Class}.
+     */
+    FlowPlan(final Class<?> testClass, final FlowDeclarationException declarationFailure) {
+        this.testClass = testClass;
+        this.annotationIndex = new AnnotationIndex();
+        this.registrations = new EnumMap<>(FlowPhase.class);
+        for (final FlowPhase phase : FlowPhase.values()) {
+            this.registrations.put(phase, Collections.emptyList());
+        }
+        this.declarationFailure = declarationFailure;
+        this.dedupSlots = new int[FlowPhase.values().length][0];
+        this.sharedMethodCounts = new int[FlowPhase.values().length];
+        this.pairings = new int[0];
+        this.receiverDepths = new int[FlowPhase.values().length][0];
+        this.enclosingInstanceFields = new Field[0];
+    }
+
+    /**
+     * Determines how many enclosing instances to step out through, from an instance of the given {@code Test} {@link
+     * Class}, to reach an instance of the given {@code declaringClass}.
+     *
+     * @param testClass      The {@code Test} {@code Class}.
+     * @param declaringClass The {@code Class} declaring an {@code annotation-flow} {@link Method} of the plan.
+     * @return The number of enclosing instances to step out through; {@code 0} if the {@code testClass} is (or
+     * extends) the {@code declaringClass}, or it does not enclose the {@code testClass}.
+     */
+    private static int receiverDepthOf(final Class<?> testClass, final Class<?> declaringClass) {
+        Class<?> receiverClass = testClass;
+        for (int depth = 0; receiverClass != null; depth++) {
+            if (declaringClass.isAssignableFrom(receiverClass)) {
+                return depth;
+            }
+            receiverClass = enclosingInstanceFieldOf(receiverClass) != null ? receiverClass.getEnclosingClass() : null;
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the (synthetic) field in which an inner {@link Class} holds its enclosing instance.
+     *
+     * @param innerClass The inner {@code Class}; i.e. a non-{@code static} member {@code Class}, such as a {@code
+     *                   Nested} {@code Test} {@code Class}.
+     * @return The field holding the enclosing instance of the {@code innerClass}; or {@code null} if it has none.
+     */
+    static Field enclosingInstanceFieldOf(final Class<?> innerClass) {
+        if (!innerClass.isMemberClass() || Modifier.isStatic(innerClass.getModifiers())) {
+            return null;
+        }
+        for (final Field field : innerClass.getDeclaredFields()) {
+            if (field.isSynthetic() && field.getType() == innerClass.getEnclosingClass()) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the instance which the {@link Method} of the given registration is invoked on; the given test instance
+     * itself, unless the registration was composed from the plan of an enclosing {@link Class}, in which case the
+     * enclosing instance of that {@code Class}.  Allocates nothing.
+     *
+     * @param phase             The {@link FlowPhase} of the registration.
+     * @param registrationIndex The index of the registration, within those {@link #getRegistrations(FlowPhase) of the
+     *                          phase}.
+     * @param testInstance      The instance of the {@code Test} {@code Class} which the {@code Test} is executing on.
+     * @return The instance to invoke the {@code Method} on.
+     * @throws IllegalStateException If the enclosing instance could not be read.
+     */
+    Object getReceiver(final FlowPhase phase, final int registrationIndex, final Object testInstance) {
+        final int depth = this.receiverDepths[phase.ordinal()][registrationIndex];
+        Object receiver = testInstance;
+        try {
+            for (int i = 0; i < depth; i++) {
+                receiver = this.enclosingInstanceFields[i].get(receiver);
+            }
+        } catch (final IllegalAccessException inaccessible) {
+            throw new IllegalStateException(inaccessible);
+        }
+        return receiver;
+    }
+
+    /**
+     * @return The {@link FlowDeclarationException} describing every invalid declaration of the {@code Class'} {@code
+     * annotation-flow} {@link Method Methods}; or {@code null} if all declarations were valid.
+     */
+    FlowDeclarationException getDeclarationFailure() {
+        return this.declarationFailure;
+    }
+
+    /**
+     * @param phase The {@link FlowPhase} of the registrations.
+     * @return The dedup slot of each of the {@link #getRegistrations(FlowPhase) registrations} of the {@code phase},
+     * by index; {@code -1} for those whose {@link Method} is not shared with another registration of the {@code
+     * phase}.  Must not be modified.
+     */
+    int[] getDedupSlots(final FlowPhase phase) {
+        return this.dedupSlots[phase.ordinal()];
+    }
+
+    /**
+     * @param phase The {@link FlowPhase} of the registrations.
+     * @return The number of {@link Method Methods} shared by more than one registration of the {@code phase}; one
+     * more than its largest {@link #getDedupSlots(FlowPhase) dedup slot}.
+     */
+    int getSharedMethodCount(final FlowPhase phase) {
+        return this.sharedMethodCounts[phase.ordinal()];
+    }
+
+    /**
+     * @return The index, within the {@link FlowPhase#BEFORE before} registrations, of the {@link BeforeAnnotated#lazy()
+     * lazy} registration which each of the {@link FlowPhase#AFTER after} registrations {@link
+     * AfterAnnotated#pairedWith() tears down}, by index; {@code -1} for those which tear down none.  Must not be
+     * modified.
+     */
+    int[] getPairings() {
+        return this.pairings;
+    }
+
+    /**
+     * @return The {@link AnnotationIndex} into which the registrations of this plan interned their {@link Annotation}
+     * {@link Class Classes}; shared with the plans composed from (or with) this one.
+     */
+    AnnotationIndex getAnnotationIndex() {
+        return this.annotationIndex;
+    }
+
+    /**
+     * @return The {@code Test} {@link Class} which this plan is for.
+     */
+    Class<?> getTestClass() {
+        return this.testClass;
+    }
+
+    /**
+     * @return The {@link Method Methods} which will be executed as {@code Tests} (or test factories) of the {@link
+     * #getTestClass() Test Class}, in discovery order.
+     */
+    List<Method> getTestMethods() {
+        return ReflectionUtils.findMethods(testClass, FlowPlan::isTest);
+    }
+
+    /**
+     * @param method The {@link Method} to check.
+     * @return {@code true} if the {@code method} will be executed as a {@code Test} (or test factory) of its {@link
+     * Class}, by any of the supported frameworks.
+     */
+    private static boolean isTest(final Method method) {
+        final int modifiers = method.getModifiers();
+        return !Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers) && !Modifier.isAbstract(modifiers)
+                && isTestAnnotated(method, new HashSet<>());
+    }
+
+    /**
+     * @param element The {@link AnnotatedElement} to check.
+     * @param visited The {@link Annotation} {@link Class Classes} already checked; so that cyclic meta-annotations are
+     *                checked once.
+     * @return {@code true} if the {@code element} is (meta-)annotated by one of the {@link #TEST_ANNOTATIONS}.
+     */
+    private static boolean isTestAnnotated(final AnnotatedElement element, final Set<Class<?>> visited) {
+        for (final Annotation annotation : element.getDeclaredAnnotations()) {
+            final Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (TEST_ANNOTATIONS.contains(annotationType.getName())
+                    || visited.add(annotationType) && isTestAnnotated(annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param phase The {@link FlowPhase} to retrieve the registrations for.
+     * @return The registrations to consider at the given {@code phase} of each {@code Test}, in dispatch order.
+     * @throws FlowDeclarationException If this plan is invalid.
+     */
+    List<FlowMethodRegistration<?>> getRegistrations(final FlowPhase phase) {
+        verify();
+        return this.registrations.get(phase);
+    }
+
+    /**
+     * Retrieves the {@link TestMethodPlan} of the given {@code Test} {@link Method}.  The plan is computed once per
+     * {@code Method}, and shared by every subsequent dispatch for it.
+     *
+     * @param testMethod The {@code Test} {@code Method} to retrieve the plan for.
+     * @return The {@code TestMethodPlan} of the {@code testMethod}, bound against the registrations of this plan.
+     * @throws FlowDeclarationException If this plan is invalid.
+     */
+    TestMethodPlan getTestMethodPlan(final Method testMethod) {
+        verify();
+        final TestMethodPlan cached = testMethodPlans.get(testMethod);
+        if (cached != null) {
+            return cached;
+        }
+
+        final TestMethodPlan computed = new TestMethodPlan(testMethod,
+                new AnnotationSnapshot(testMethod, testClass, annotationIndex), registrations);
+        final TestMethodPlan raced = testMethodPlans.putIfAbsent(testMethod, computed);
+        return raced != null ? raced : computed;
+    }
+
+    /**
+     * Re-raises the {@link #declarationFailure}, if there was one.
+     *
+     * @throws FlowDeclarationException If this plan is invalid.
+     */
+    void verify() {
+        if (declarationFailure != null) {
+            throw declarationFailure;
+        }
+    }
+}
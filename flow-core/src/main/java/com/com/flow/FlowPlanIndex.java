@@ -0,0 +1,408 @@
+package com.com.flow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Optional on-disk index of the {@code annotation-flow} {@link Method Methods} discovered for each {@code Test} {@link
+ * Class}, reused across JVMs (e.g. the test forks of a build).
+ * <p>
+ * Enabled by setting the {@value #INDEX_PROPERTY} system property to the path of the index file (typically under the
+ * build directory).  The file is memory-mapped read-only as {@link FlowEngine} is loaded, and only its entry
+ * headers are read up front; each entry is validated lazily, when its {@code Class} is first planned, against a hash
+ * of the class files of the {@code Class'} hierarchy.  {@code Classes} whose entry is missing or stale are discovered
+ * by reflection as usual, and the index is rewritten (atomically, with the new entries merged in) when the JVM exits.
+ * <p>
+ * Entries describe the {@code Methods} in the same form as a generated {@link FlowDispatchTable}; matching is
+ * performed against each {@code Test} {@code Method's} {@link AnnotationSnapshot}.
+ */
+final class FlowPlanIndex {
+
+    /**
+     * The system property naming the index file; the index is disabled if it is not set.
+     */
+    static final String INDEX_PROPERTY = "com.com.flow.planIndex";
+
+    /**
+     * Identifies (the current version of) the index file format; {@code "FLW"} followed by the version.
+     */
+    private static final int MAGIC = 0x464C5701;
+
+    /**
+     * The {@link #hashOf(Class) hash} of the class files of each {@link Class Class'} hierarchy; computed at most once
+     * per {@code Class}, as both {@link #find(Class) finding} and {@link #record(Class, List) recording} its entry need
+     * it, and held against the {@code Class} itself so that its {@link ClassLoader} is not kept alive.  A {@code null}
+     * value (the class files could not be read) is memoised too.
+     */
+    private static final ClassValue<Long> HASHES = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(final Class<?> testClass) {
+            return hashOf(testClass);
+        }
+    };
+
+    /**
+     * The path of the index file; or {@code null} if the index is disabled.
+     */
+    private final Path path;
+
+    /**
+     * The mapped index file; or {@code null} if there was none (or it was unreadable).
+     */
+    private final ByteBuffer mapped;
+
+    /**
+     * The offset (into {@link #mapped}) of the entry of each {@link Class}, by name.
+     */
+    private final Map<String, Integer> offsets;
+
+    /**
+     * The entries recorded in this JVM, by {@link Class} name.
+     */
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Set once any entry has been recorded, as the index then needs to be rewritten.
+     */
+    private volatile boolean modified;
+
+
+    /**
+     * Constructor; maps the given index file (if it exists) and reads its entry headers.
+     *
+     * @param path The path of the index file; or {@code null} to disable the index.
+     */
+    FlowPlanIndex(final Path path) {
+        this.path = path;
+        ByteBuffer buffer = null;
+        final Map<String, Integer> found = new HashMap<>();
+        if (path != null) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final MappedByteBuffer file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (file.remaining() >= 2 * Integer.BYTES && file.getInt() == MAGIC) {
+                    final int count = file.getInt();
+                    for (int i = 0; i < count; i++) {
+                        final int offset = file.position();
+                        found.put(readString(file), offset);
+                        file.position(file.position() + Long.BYTES);
+                        file.position(file.position() + file.getInt());
+                    }
+                    buffer = file;
+                }
+            } catch (final NoSuchFileException noIndexYet) {
+                // Written when this JVM exits.
+            } catch (final IOException | RuntimeException unreadable) {
+                // Treated as empty, and rewritten when this JVM exits.
+                found.clear();
+            }
+        }
+        this.mapped = buffer;
+        this.offsets = Collections.unmodifiableMap(found);
+    }
+
+    /**
+     * Loads the index named by the {@value #INDEX_PROPERTY} system property, arranging for it to be rewritten when the
+     * JVM exits.
+     *
+     * @return The loaded index; disabled if the property is not set.
+     */
+    static FlowPlanIndex load() {
+        final String indexPath = System.getProperty(INDEX_PROPERTY);
+        if (indexPath == null || indexPath.isEmpty()) {
+            return new FlowPlanIndex(null);
+        }
+
+        final FlowPlanIndex index = new FlowPlanIndex(Paths.get(indexPath));
+        Runtime.getRuntime().addShutdownHook(new Thread(index::writeIfModified, "annotation-flow-plan-index"));
+        return index;
+    }
+
+    /**
+     * Finds the (still valid) entry of the given {@link Class}.
+     *
+     * @param testClass The {@code Test} {@code Class} to find the entry of.
+     * @return The entry of the {@code testClass}, as a {@link FlowDispatchTable}; or {@code null} if the index is
+     * disabled, or there is no valid entry.
+     */
+    FlowDispatchTable find(final Class<?> testClass) {
+        final Integer offset = offsets.get(testClass.getName());
+        if (offset == null) {
+            return null;
+        }
+
+        final Entry entry;
+        try {
+            entry = readEntry(offset);
+        } catch (final RuntimeException corrupt) {
+            return null;
+        }
+        final Long hash = HASHES.get(testClass);
+        return hash != null && hash == entry.hash ? entry : null;
+    }
+
+    /**
+     * Records the entry of the given {@link Class}, to be written when the JVM exits.
+     *
+     * @param testClass     The {@code Test} {@code Class} to record the entry of.
+     * @param registrations All of the {@code Class'} registrations, in dispatch order.
+     */
+    void record(final Class<?> testClass, final List<FlowMethodRegistration<?>> registrations) {
+        if (path == null) {
+            return;
+        }
+        final Long hash = HASHES.get(testClass);
+        if (hash == null) {
+            return;
+        }
+
+        final String[][] flowMethods = new String[registrations.size()][];
+        for (int i = 0; i < flowMethods.length; i++) {
+            final FlowMethodRegistration<?> registration = registrations.get(i);
+            final Method method = registration.getMethod();
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            final String[] description = new String[3 + parameterTypes.length];
+            description[0] = method.getDeclaringClass().getName();
+            description[1] = method.getName();
+            description[2] = registration.getAnnotationClass().getName();
+            for (int j = 0; j < parameterTypes.length; j++) {
+                description[3 + j] = parameterTypes[j].getName();
+            }
+            flowMethods[i] = description;
+        }
+        entries.put(testClass.getName(), new Entry(hash, flowMethods));
+        modified = true;
+    }
+
+    /**
+     * Rewrites the index file, if any entry has been recorded.  Entries of the previous file which were not used by
+     * this JVM are carried over unvalidated.  The file is replaced atomically (where supported), so concurrent JVMs
+     * never observe a partial file; the last to exit wins.
+     */
+    void writeIfModified() {
+        if (!modified) {
+            return;
+        }
+
+        final Map<String, Entry> toWrite = new HashMap<>();
+        for (final Map.Entry<String, Integer> previous : offsets.entrySet()) {
+            try {
+                toWrite.put(previous.getKey(), readEntry(previous.getValue()));
+            } catch (final RuntimeException corrupt) {
+                // Dropped.
+            }
+        }
+        toWrite.putAll(entries);
+
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(MAGIC);
+                out.writeInt(toWrite.size());
+                for (final Map.Entry<String, Entry> entry : toWrite.entrySet()) {
+                    writeString(out, entry.getKey());
+                    out.writeLong(entry.getValue().hash);
+                    final byte[] body = entry.getValue().encode();
+                    out.writeInt(body.length);
+                    out.write(body);
+                }
+            }
+
+            final Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            final Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            Files.write(temporary, bytes.toByteArray());
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final IOException atomicMoveUnsupported) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException | RuntimeException unwritable) {
+            // The index is only an optimisation; the next JVM will rediscover the plans.
+        }
+    }
+
+    /**
+     * Reads the entry at the given offset of the {@link #mapped} file.
+     *
+     * @param offset The offset of the entry.
+     * @return The entry.
+     */
+    private Entry readEntry(final int offset) {
+        final ByteBuffer buffer = mapped.duplicate();
+        buffer.position(offset);
+        readString(buffer);
+        final long hash = buffer.getLong();
+        buffer.getInt();
+
+        final String[][] flowMethods = new String[buffer.getInt()][];
+        for (int i = 0; i < flowMethods.length; i++) {
+            flowMethods[i] = new String[buffer.getInt()];
+            for (int j = 0; j < flowMethods[i].length; j++) {
+                flowMethods[i][j] = readString(buffer);
+            }
+        }
+        return new Entry(hash, flowMethods);
+    }
+
+    /**
+     * Hashes the class files of the given {@link Class}, its {@code super} {@code classes} and all of their {@code
+     * interfaces}; so that any change to the declarations within the hierarchy invalidates the {@code Class'} entry.
+     *
+     * @param testClass The {@code Test} {@code Class} to hash.
+     * @return The (64-bit FNV-1a) hash of the class files; or {@code null} if any could not be read.
+     */
+    private static Long hashOf(final Class<?> testClass) {
+        final Set<Class<?>> hierarchy = hierarchyOf(testClass);
+
+        long hash = 0xcbf29ce484222325L;
+        final byte[] chunk = new byte[8192];
+        for (final Class<?> type : hierarchy) {
+            final ClassLoader loader = type.getClassLoader();
+            if (loader == null) {
+                continue;
+            }
+            try (InputStream in = loader.getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+                if (in == null) {
+                    return null;
+                }
+                for (int read = in.read(chunk); read >= 0; read = in.read(chunk)) {
+                    for (int i = 0; i < read; i++) {
+                        hash = (hash ^ (chunk[i] & 0xff)) * 0x100000001b3L;
+                    }
+                }
+            } catch (final IOException unreadable) {
+                return null;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @param testClass The {@code Test} {@link Class}.
+     * @return The {@code testClass}, its {@code super} {@code classes} (other than {@link Object}) and all of their
+     * {@code interfaces}; each once.
+     */
+    static Set<Class<?>> hierarchyOf(final Class<?> testClass) {
+        final Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        for (Class<?> current = testClass; current != null && current != Object.class;
+             current = current.getSuperclass()) {
+            collectHierarchy(current, hierarchy);
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Adds the given type, and (recursively) its {@code interfaces}, to the {@code hierarchy}.
+     *
+     * @param type      The type to add.
+     * @param hierarchy The types found so far.
+     */
+    private static void collectHierarchy(final Class<?> type, final Set<Class<?>> hierarchy) {
+        if (hierarchy.add(type)) {
+            for (final Class<?> implemented : type.getInterfaces()) {
+                collectHierarchy(implemented, hierarchy);
+            }
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 {@link String}.
+     *
+     * @param buffer The {@link ByteBuffer} to read from.
+     * @return The read {@code String}.
+     */
+    private static String readString(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getShort() & 0xffff];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 {@link String}.
+     *
+     * @param out   The {@link DataOutputStream} to write to.
+     * @param value The {@code String} to write.
+     * @throws IOException If the {@code out} could not be written to.
+     */
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * The entry of a single {@code Test} {@link Class}.
+     */
+    private static final class Entry implements FlowDispatchTable {
+
+        /**
+         * The hash of the class files of the {@code Class'} hierarchy, when the entry was recorded.
+         */
+        private final long hash;
+
+        /**
+         * The {@code annotation-flow} {@link Method Methods} of the {@code Class}, as described by {@link
+         * FlowDispatchTable#getFlowMethods()}.
+         */
+        private final String[][] flowMethods;
+
+        /**
+         * Constructor.
+         *
+         * @param hash        The hash of the class files of the {@code Class'} hierarchy.
+         * @param flowMethods The {@code annotation-flow} {@link Method Methods} of the {@code Class}.
+         */
+        Entry(final long hash, final String[][] flowMethods) {
+            this.hash = hash;
+            this.flowMethods = flowMethods;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String[][] getFlowMethods() {
+            return flowMethods;
+        }
+
+        /**
+         * @return The encoded {@link #flowMethods}.
+         * @throws IOException Never; declared by the underlying {@link DataOutputStream}.
+         */
+        byte[] encode() throws IOException {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(flowMethods.length);
+                for (final String[] description : flowMethods) {
+                    out.writeInt(description.length);
+                    for (final String value : description) {
+                        writeString(out, value);
+                    }
+                }
+            }
+            return bytes.toByteArray();
+        }
+    }
+
+}
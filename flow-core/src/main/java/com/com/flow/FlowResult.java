@@ -0,0 +1,27 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Parameter} marker {@link Annotation} to indicate that the marked {@code Test} {@code
+ * Parameter} should be resolved (by {@link FlowEngine}) to the value returned by one of the {@link
+ * BeforeAllAnnotated}, {@link BeforeAnnotated} or {@link BeforeNotAnnotated} {@link java.lang.reflect.Method Methods}
+ * invoked for the {@code Test}; allowing fixtures to be passed to the {@code Test} without going through mutable fields
+ * of the {@code Test} instance.
+ * <p>
+ * The values of {@link BeforeAnnotated#lazy() lazy} {@code Methods} may be resolved to a {@link
+ * java.util.function.Supplier}, which only invokes the {@code Method} once the {@code Test} first calls it.
+ *
+ * @see Memoized
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@Documented
+public @interface FlowResult {
+
+    /**
+     * @return The name of the {@code annotation-flow} {@link java.lang.reflect.Method} whose value to resolve; or empty
+     * (the default) to resolve the only value which is assignable to the {@code Parameter's} {@code Type}.
+     */
+    String value() default "";
+}
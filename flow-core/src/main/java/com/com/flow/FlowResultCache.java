@@ -0,0 +1,83 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded, least recently used, cache of the values returned by a single {@link Memoized} {@code annotation-flow}
+ * {@link Method}; keyed by the arguments bound for each invocation.
+ */
+final class FlowResultCache {
+
+    /**
+     * The caches of {@link Memoized.Scope#GLOBAL globally} memoized {@link Method Methods}; held against the {@link
+     * Method#getDeclaringClass() declaring} {@link Class}, so that its {@link ClassLoader} is not kept alive by them.
+     */
+    private static final ClassValue<ConcurrentMap<Method, FlowResultCache>> GLOBAL_CACHES =
+            new ClassValue<ConcurrentMap<Method, FlowResultCache>>() {
+                @Override
+                protected ConcurrentMap<Method, FlowResultCache> computeValue(final Class<?> declaringClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * The memoized values, from least to most recently used.
+     */
+    private final Map<List<Object>, Object> results;
+
+
+    /**
+     * Constructor; generates an empty {@link FlowResultCache}.
+     *
+     * @param maxSize The maximum number of values to memoize.
+     */
+    FlowResultCache(final int maxSize) {
+        this.results = new LinkedHashMap<List<Object>, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<Object>, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the {@link FlowResultCache} of the given {@link Method}, for the given {@link Memoized.Scope scope}.
+     *
+     * @param flowMethod        The {@link Memoized} {@code annotation-flow} {@code Method}.
+     * @param memoized          The {@code Memoized} {@code Annotation} of the {@code flowMethod}.
+     * @param classScopedCaches The caches of the current execution of the {@code Test} {@link Class}, used for {@link
+     *                          Memoized.Scope#CLASS}.
+     * @return The {@code FlowResultCache} of the {@code flowMethod}; created on first use.
+     */
+    static FlowResultCache of(final Method flowMethod, final Memoized memoized,
+                              final ConcurrentMap<Method, FlowResultCache> classScopedCaches) {
+        final ConcurrentMap<Method, FlowResultCache> caches = memoized.scope() == Memoized.Scope.GLOBAL ?
+                GLOBAL_CACHES.get(flowMethod.getDeclaringClass()) : classScopedCaches;
+        return caches.computeIfAbsent(flowMethod, method -> new FlowResultCache(memoized.maxSize()));
+    }
+
+    /**
+     * Retrieves the value memoized for the given {@code arguments}; invoking the {@link Method} if there is none.
+     *
+     * @param arguments  The arguments bound for the invocation.
+     * @param invocation The invocation of the {@code Method}; only used if no value is memoized.
+     * @return The memoized value; or the value returned by the {@code invocation}, which is then memoized.  A failed
+     * {@code invocation} is not memoized.
+     */
+    synchronized Object computeIfAbsent(final Object[] arguments, final Supplier<Object> invocation) {
+        final List<Object> key = Arrays.asList(arguments.clone());
+        if (results.containsKey(key)) {
+            return results.get(key);
+        }
+        final Object result = invocation.get();
+        results.put(key, result);
+        return result;
+    }
+}
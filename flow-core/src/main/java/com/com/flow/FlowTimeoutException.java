@@ -0,0 +1,54 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thrown when an {@code annotation-flow} {@link Method} does not complete within its {@link
+ * BeforeAnnotated#timeoutMillis() time budget}.  The {@code Method} will have been interrupted, and (should it not
+ * respond to the interrupt) abandoned.
+ */
+public final class FlowTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The time budget which was exceeded, in milliseconds.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * The time elapsed before the {@code Method} was abandoned, in nanoseconds.
+     */
+    private final long elapsedNanos;
+
+
+    /**
+     * Constructor.
+     *
+     * @param flowMethod    The {@code annotation-flow} {@link Method} which timed out.
+     * @param timeoutMillis The time budget which was exceeded, in milliseconds.
+     * @param elapsedNanos  The time elapsed before the {@code flowMethod} was abandoned, in nanoseconds.
+     */
+    FlowTimeoutException(final Method flowMethod, final long timeoutMillis, final long elapsedNanos) {
+        super(String.format("Annotation-flow method %s#%s timed out after %dms (budget %dms)",
+                flowMethod.getDeclaringClass().getSimpleName(), flowMethod.getName(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), timeoutMillis));
+        this.timeoutMillis = timeoutMillis;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return The time budget which was exceeded, in milliseconds.
+     */
+    public long getTimeoutMillis() {
+        return this.timeoutMillis;
+    }
+
+    /**
+     * @return The time elapsed before the {@code Method} was abandoned, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+}
@@ -0,0 +1,232 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Supervises the invocations of {@code annotation-flow} {@link Method Methods} which have a time budget.
+ * <p>
+ * The budget of a {@code Method} is the {@code timeoutMillis} of its {@code annotation-flow} {@link
+ * java.lang.annotation.Annotation Annotations} (e.g. {@link BeforeAnnotated#timeoutMillis()}), which must be the same
+ * for each of them; or, where that is {@code 0} (the default), the global default given by the {@value
+ * #TIMEOUT_PROPERTY} system property, itself unbounded if unset.  A negative budget is an invalid declaration.
+ * <p>
+ * Each bounded invocation runs on a (daemon) watchdog thread, while the {@code Test's} thread waits for it for at most
+ * the budget; once the budget expires, the invocation is interrupted (and, should it not respond, abandoned) and a
+ * {@link FlowTimeoutException} is thrown, giving the time elapsed.  As it runs off the {@code Test's} thread, a bounded
+ * {@code Method} cannot set up {@link ThreadLocal}-based fixtures for the {@code Test}.  Invocations taking more than
+ * half of their budget are recorded as overruns, and published as report entries once the {@code Test} {@link Class}
+ * has finished; so that slow setups are visible before they become timeouts.
+ */
+final class FlowWatchdog {
+
+    /**
+     * The system property giving the default time budget (in milliseconds) of {@code annotation-flow} {@link Method
+     * Methods} which do not declare their own; must not be negative.  Setting it moves every such {@code Method} onto
+     * the watchdog thread, off the {@code Test's} own; so none of them can set up {@link ThreadLocal}-based fixtures
+     * for the {@code Test}.
+     */
+    static final String TIMEOUT_PROPERTY = "com.com.flow.timeoutMillis";
+
+    /**
+     * The fraction of its budget beyond which an invocation is recorded as an overrun.
+     */
+    private static final double OVERRUN_FRACTION = 0.5;
+
+    /**
+     * The executor which runs every bounded invocation.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+        final Thread thread = new Thread(task, "annotation-flow-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The overruns recorded for each {@code annotation-flow} {@link Method}, per {@code Test} {@link Class}.
+     */
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<Method, Overruns>> OVERRUNS = new ConcurrentHashMap<>();
+
+
+    /**
+     * Private constructor; static utility.
+     */
+    private FlowWatchdog() {
+    }
+
+    /**
+     * Reads the default time budget of {@code annotation-flow} {@link Method Methods} which do not declare their own,
+     * from the {@value #TIMEOUT_PROPERTY} system property.
+     *
+     * @return The default time budget, in milliseconds; or {@code 0} (unbounded) if the property is not set.
+     * @throws IllegalArgumentException If the property is not a number, or is negative.
+     */
+    static long getDefaultTimeoutMillis() {
+        final String property = System.getProperty(TIMEOUT_PROPERTY);
+        if (property == null) {
+            return 0L;
+        }
+        final long timeoutMillis;
+        try {
+            timeoutMillis = Long.parseLong(property.trim());
+        } catch (final NumberFormatException notANumber) {
+            throw new IllegalArgumentException("Illegal " + TIMEOUT_PROPERTY + " '" + property + "'", notANumber);
+        }
+        if (timeoutMillis < 0L) {
+            throw new IllegalArgumentException(
+                    "Illegal " + TIMEOUT_PROPERTY + " '" + property + "'; must not be negative");
+        }
+        return timeoutMillis;
+    }
+
+    /**
+     * Invokes an {@code annotation-flow} {@link Method} within the given time budget.
+     *
+     * @param flowMethod    The {@code annotation-flow} {@code Method} being invoked.
+     * @param testClass     The {@code Test} {@link Class} which is executing.
+     * @param timeoutMillis The time budget of the invocation, in milliseconds.
+     * @param invocation    The invocation.
+     * @return The value returned by the {@code invocation}.
+     * @throws FlowTimeoutException If the {@code invocation} did not complete within the {@code timeoutMillis}.
+     * @throws RuntimeException     Any {@link RuntimeException} or {@link Error} thrown by the {@code invocation} is
+     *                              rethrown as is.
+     */
+    static Object invoke(final Method flowMethod, final Class<?> testClass, final long timeoutMillis,
+                         final Supplier<Object> invocation) {
+        final long start = System.nanoTime();
+        final Future<Object> future = EXECUTOR.submit(invocation::get);
+        try {
+            final Object result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            recordIfOverrun(flowMethod, testClass, timeoutMillis, System.nanoTime() - start, false);
+            return result;
+        } catch (final TimeoutException timeout) {
+            future.cancel(true);
+            final long elapsedNanos = System.nanoTime() - start;
+            recordIfOverrun(flowMethod, testClass, timeoutMillis, elapsedNanos, true);
+            throw new FlowTimeoutException(flowMethod, timeoutMillis, elapsedNanos);
+        } catch (final ExecutionException failed) {
+            recordIfOverrun(flowMethod, testClass, timeoutMillis, System.nanoTime() - start, false);
+            final Throwable cause = failed.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Exception while invoking AnnotationFlow Method", cause);
+        } catch (final InterruptedException interrupted) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for AnnotationFlow Method", interrupted);
+        }
+    }
+
+    /**
+     * Records the given invocation as an overrun, if it took more than {@link #OVERRUN_FRACTION half} its budget.
+     *
+     * @param flowMethod    The {@code annotation-flow} {@link Method} which was invoked.
+     * @param testClass     The {@code Test} {@link Class} which is executing.
+     * @param timeoutMillis The time budget of the invocation, in milliseconds.
+     * @param elapsedNanos  The time the invocation took, in nanoseconds.
+     * @param timedOut      {@code true} if the invocation timed out.
+     */
+    private static void recordIfOverrun(final Method flowMethod, final Class<?> testClass, final long timeoutMillis,
+                                        final long elapsedNanos, final boolean timedOut) {
+        if (elapsedNanos <= TimeUnit.MILLISECONDS.toNanos(timeoutMillis) * OVERRUN_FRACTION) {
+            return;
+        }
+        OVERRUNS.computeIfAbsent(testClass, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(flowMethod, ignored -> new Overruns(timeoutMillis))
+                .record(elapsedNanos, timedOut);
+    }
+
+    /**
+     * Publishes the overruns recorded for the given {@code Test} {@link Class}, and discards them.  Nothing is
+     * published if there were none.
+     *
+     * @param testClass       The {@code Test} {@code Class} which has finished.
+     * @param reportPublisher Publishes a report entry; keyed by {@code flow.overrun.<DeclaringClass>#<method>}.
+     */
+    static void publishOverruns(final Class<?> testClass, final Consumer<Map<String, String>> reportPublisher) {
+        final Map<Method, Overruns> classOverruns = OVERRUNS.remove(testClass);
+        if (classOverruns == null || classOverruns.isEmpty()) {
+            return;
+        }
+
+        final Map<String, String> entry = new LinkedHashMap<>();
+        classOverruns.forEach((flowMethod, overruns) -> entry.put("flow.overrun."
+                + flowMethod.getDeclaringClass().getSimpleName() + '#' + flowMethod.getName(), overruns.summarise()));
+        reportPublisher.accept(entry);
+    }
+
+    /**
+     * The overruns recorded for a single {@code annotation-flow} {@link Method}.
+     */
+    private static final class Overruns {
+
+        /**
+         * The time budget of the {@link Method}, in milliseconds.
+         */
+        private final long timeoutMillis;
+
+        /**
+         * The number of overruns.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * The number of overruns which timed out.
+         */
+        private final LongAdder timeouts = new LongAdder();
+
+        /**
+         * The longest overrun.
+         */
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+
+        /**
+         * Constructor.
+         *
+         * @param timeoutMillis The time budget of the {@link Method}, in milliseconds.
+         */
+        Overruns(final long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        /**
+         * Records an overrun.
+         *
+         * @param elapsedNanos The time the invocation took, in nanoseconds.
+         * @param timedOut     {@code true} if the invocation timed out.
+         */
+        void record(final long elapsedNanos, final boolean timedOut) {
+            count.increment();
+            if (timedOut) {
+                timeouts.increment();
+            }
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        /**
+         * @return A human readable summary of the overruns; e.g. {@code count=2, timeouts=1, max=1001.523ms,
+         * budget=1000ms}.
+         */
+        String summarise() {
+            return String.format("count=%d, timeouts=%d, max=%.3fms, budget=%dms", count.sum(), timeouts.sum(),
+                    maxNanos.get() / 1_000_000.0, timeoutMillis);
+        }
+    }
+}
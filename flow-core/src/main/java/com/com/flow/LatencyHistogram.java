@@ -0,0 +1,111 @@
+package com.com.flow;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in nanoseconds.
+ * <p>
+ * Latencies are recorded into power-of-two buckets (bucket {@code i} holding latencies in {@code [2^i, 2^(i+1))}), each
+ * backed by a {@link LongAdder}; so recording is cheap and scales under contention, at the cost of percentiles only
+ * being reported as an upper bound within a factor of two.
+ */
+final class LatencyHistogram {
+
+    /**
+     * The percentiles reported in the {@link #summarise() summary}.
+     */
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0};
+
+    /**
+     * The number of recorded latencies.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of the recorded latencies.
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * The largest recorded latency.
+     */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * The number of recorded latencies in each power-of-two bucket.
+     */
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+
+
+    /**
+     * Constructor; generates an empty {@link LatencyHistogram}.
+     */
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the given latency.
+     *
+     * @param nanos The latency to record, in nanoseconds.  Negative latencies are recorded as {@code 0}.
+     */
+    void record(final long nanos) {
+        final long latency = Math.max(0L, nanos);
+        count.increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+        buckets[latency == 0L ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(latency)].increment();
+    }
+
+    /**
+     * @return A human readable summary of the recorded latencies; being the count, total, mean, (bounds of the)
+     * percentiles and maximum.
+     */
+    String summarise() {
+        final long recorded = count.sum();
+        final long total = totalNanos.sum();
+        final long max = maxNanos.get();
+
+        final StringBuilder summary = new StringBuilder()
+                .append("count=").append(recorded)
+                .append(", total=").append(format(total))
+                .append(", mean=").append(format(recorded == 0L ? 0L : total / recorded));
+        for (final double percentile : PERCENTILES) {
+            summary.append(", p").append((int) percentile).append("<=")
+                    .append(format(Math.min(max, upperBound(percentile, recorded))));
+        }
+        return summary.append(", max=").append(format(max)).toString();
+    }
+
+    /**
+     * Calculates the upper bound of the bucket holding the given {@code percentile}.
+     *
+     * @param percentile The percentile to find the bucket of.
+     * @param recorded   The number of latencies recorded.
+     * @return The largest latency which may fall into the bucket holding the {@code percentile}.
+     */
+    private long upperBound(final double percentile, final long recorded) {
+        final long rank = (long) Math.ceil(percentile / 100.0 * recorded);
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) {
+                return i == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1L;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Formats the given latency in milliseconds.
+     *
+     * @param nanos The latency to format, in nanoseconds.
+     * @return The formatted latency.
+     */
+    private static String format(final long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.com.flow;
+
+import java.util.function.Supplier;
+
+/**
+ * The deferred invocation of a {@link BeforeAnnotated#lazy() lazy} {@code annotation-flow} {@link
+ * java.lang.reflect.Method} for a single {@code Test}; resolved for the {@code Test's} {@link Supplier} {@link
+ * FlowResult} parameters, and invoked on the first {@link #get()}.
+ */
+final class LazyFlowResult implements Supplier<Object> {
+
+    /**
+     * The registration of the lazy {@code annotation-flow} {@link java.lang.reflect.Method}.
+     */
+    private final FlowMethodRegistration<?> registration;
+
+    /**
+     * The invocation; discarded once invoked.
+     */
+    private Supplier<Object> invocation;
+
+    /**
+     * The value returned by the {@link #invocation}.
+     */
+    private Object result;
+
+    /**
+     * The failure of the {@link #invocation}; or {@code null} if it has not failed.
+     */
+    private Throwable failure;
+
+
+    /**
+     * Constructor.
+     *
+     * @param registration The registration of the lazy {@code annotation-flow} {@link java.lang.reflect.Method}.
+     * @param invocation   The invocation of the {@code Method}.
+     */
+    LazyFlowResult(final FlowMethodRegistration<?> registration, final Supplier<Object> invocation) {
+        this.registration = registration;
+        this.invocation = invocation;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Invokes the {@link java.lang.reflect.Method} on the first call; every later call returns the same value (or, if
+     * the invocation failed, rethrows the same failure; {@link Error Errors} included).
+     */
+    @Override
+    public synchronized Object get() {
+        if (invocation != null) {
+            final Supplier<Object> invoking = invocation;
+            invocation = null;
+            try {
+                result = invoking.get();
+            } catch (final Throwable thrown) {
+                failure = thrown;
+            }
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code true} if the {@link java.lang.reflect.Method} has been invoked (successfully or otherwise).
+     */
+    synchronized boolean isInvoked() {
+        return invocation == null;
+    }
+
+    /**
+     * @return The registration of the lazy {@code annotation-flow} {@link java.lang.reflect.Method}.
+     */
+    FlowMethodRegistration<?> getRegistration() {
+        return this.registration;
+    }
+}
@@ -0,0 +1,41 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Method} marker {@link Annotation} to indicate that the marked {@code Test} should also be
+ * run (by {@link FlowEngine}) as a microbenchmark, once it has passed.
+ * <p>
+ * The body of the {@code Test} is invoked in a calibrated loop; {@link #warmup()} iterations unmeasured, then {@link
+ * #iterations()} iterations timed, each iteration invoking the body as many times as it takes to be reliably timed.
+ * Values returned by the body are consumed by a {@link Blackhole}, as is any {@code Blackhole} {@code Parameter} of the
+ * {@code Test}.  The mean, standard deviation and percentiles of the time taken per invocation are then published as a
+ * report entry.
+ * <p>
+ * The {@code annotation-flow} {@code Methods} of the {@code Test} run outside of the timed loop: the {@code before}
+ * {@code Methods} once, before the {@code Test} itself executes; and the {@code after} {@code Methods} once, after the
+ * loop has finished.  So the cost of fixtures is not counted as measured cost; and their {@link FlowResult values} are
+ * passed to each invocation of the body.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface Measure {
+
+    /**
+     * @return The number of unmeasured iterations, during which the loop is calibrated.  Must not be negative.
+     */
+    int warmup() default 100;
+
+    /**
+     * @return The number of measured iterations.  Must be positive.
+     */
+    int iterations() default 1000;
+
+    /**
+     * @return The number of forked JVMs to measure in; only {@code 0} (measure in the running JVM) is supported, for
+     * a separate JMH build should be used where forks matter.
+     */
+    int forks() default 0;
+}
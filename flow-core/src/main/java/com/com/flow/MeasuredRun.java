@@ -0,0 +1,203 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * The timings of a single {@link Measure measured} {@code Test}; and the calibrated loop which takes them.
+ * <p>
+ * Timings are recorded into a buffer allocated before the loop starts, so that the loop itself neither allocates nor
+ * does more per iteration than read the clock twice and store the difference.  Each iteration invokes the body a
+ * fixed number of times (the batch size); which is doubled throughout the warmup until an iteration takes at least
+ * {@link #TARGET_ITERATION_NANOS}, so that bodies far quicker than the resolution of {@link System#nanoTime()} are
+ * still timed reliably.  The body is invoked through a {@link FlowMethodInvoker}, as {@code annotation-flow} {@link
+ * Method Methods} are.  The cost of reading the clock, and the baseline cost of a batch (that of the loop and the
+ * dispatch, as measured with an {@link FlowMethodInvoker#empty(int) empty body}), are calibrated and subtracted from
+ * each timing.
+ */
+final class MeasuredRun {
+
+    /**
+     * The time which each measured iteration should take at least, in nanoseconds.
+     */
+    private static final long TARGET_ITERATION_NANOS = 10_000L;
+
+    /**
+     * The largest batch size to which the loop is calibrated.
+     */
+    private static final int MAX_BATCH = 1 << 20;
+
+    /**
+     * The number of back-to-back clock reads from which the cost of a read is calibrated.
+     */
+    private static final int CALIBRATION_READS = 64;
+
+    /**
+     * The number of iterations over an empty body from which the baseline cost of a batch is calibrated.
+     */
+    private static final int BASELINE_ITERATIONS = 16;
+
+    /**
+     * The time taken by each measured iteration, in nanoseconds; sorted once all have been taken.
+     */
+    private final long[] timings;
+
+    /**
+     * The number of invocations of the body per iteration.
+     */
+    private int batch = 1;
+
+    /**
+     * The baseline cost of a batch; that of the loop and the dispatch to an empty body, in nanoseconds.
+     */
+    private long baseline;
+
+
+    /**
+     * Constructor; allocates the buffer for the given number of {@code iterations}.
+     *
+     * @param iterations The number of measured iterations.
+     */
+    private MeasuredRun(final int iterations) {
+        this.timings = new long[iterations];
+    }
+
+    /**
+     * Runs the calibrated loop over the given {@code testMethod}.
+     *
+     * @param testMethod   The {@code Test} {@link Method} to measure.
+     * @param testInstance The instance to invoke the {@code testMethod} on.
+     * @param arguments    The arguments to invoke the {@code testMethod} with.
+     * @param measure      The {@link Measure} of the {@code testMethod}.
+     * @param blackhole    The {@link Blackhole} to consume the values returned by the {@code testMethod}.
+     * @return The {@link MeasuredRun} taken.
+     * @throws RuntimeException Any {@link RuntimeException} or {@link Error} thrown by an invocation of the {@code
+     *                          testMethod} is rethrown as is; any other {@link Throwable} is wrapped.
+     * @throws IllegalStateException If the {@code testMethod} cannot be invoked.
+     */
+    static MeasuredRun run(final Method testMethod, final Object testInstance, final Object[] arguments,
+                           final Measure measure, final Blackhole blackhole) {
+
+        final FlowMethodInvoker body = new FlowMethodInvoker(testMethod);
+        final FlowMethodInvoker empty = FlowMethodInvoker.empty(testMethod.getParameterCount());
+        final MeasuredRun measurement = new MeasuredRun(measure.iterations());
+        final long clockCost = calibrateClock();
+
+        for (int i = 0; i < measure.warmup(); i++) {
+            final long elapsed = measurement.iterate(body, testInstance, arguments, blackhole, clockCost);
+            if (elapsed < TARGET_ITERATION_NANOS && measurement.batch < MAX_BATCH) {
+                measurement.batch <<= 1;
+            }
+        }
+        long baseline = Long.MAX_VALUE;
+        for (int i = 0; i < BASELINE_ITERATIONS; i++) {
+            baseline = Math.min(baseline, measurement.iterate(empty, testInstance, arguments, blackhole, clockCost));
+        }
+        measurement.baseline = baseline;
+        for (int i = 0; i < measurement.timings.length; i++) {
+            measurement.timings[i] = Math.max(0L,
+                    measurement.iterate(body, testInstance, arguments, blackhole, clockCost) - baseline);
+        }
+
+        Arrays.sort(measurement.timings);
+        return measurement;
+    }
+
+    /**
+     * Runs a single iteration; invoking the {@code body} {@link #batch} times.
+     *
+     * @param body         The {@link FlowMethodInvoker} of the body to invoke.
+     * @param testInstance The instance to invoke the {@code body} on.
+     * @param arguments    The arguments to invoke the {@code body} with.
+     * @param blackhole    The {@link Blackhole} to consume the values returned by the {@code body}.
+     * @param clockCost    The calibrated cost of reading the clock, in nanoseconds.
+     * @return The time taken by the iteration, in nanoseconds.
+     * @throws RuntimeException If an invocation of the {@code body} {@code throws}.
+     */
+    private long iterate(final FlowMethodInvoker body, final Object testInstance, final Object[] arguments,
+                         final Blackhole blackhole, final long clockCost) {
+        final int invocations = batch;
+        final long start = System.nanoTime();
+        for (int i = 0; i < invocations; i++) {
+            blackhole.consume(body.invoke(testInstance, arguments));
+        }
+        return Math.max(0L, System.nanoTime() - start - clockCost);
+    }
+
+    /**
+     * @return The smallest time seen between two back-to-back reads of the clock, in nanoseconds.
+     */
+    private static long calibrateClock() {
+        long cost = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_READS; i++) {
+            final long start = System.nanoTime();
+            cost = Math.min(cost, System.nanoTime() - start);
+        }
+        return cost;
+    }
+
+    /**
+     * @return The mean time taken per invocation of the body, in nanoseconds.
+     */
+    double mean() {
+        double total = 0.0;
+        for (final long timing : timings) {
+            total += timing;
+        }
+        return total / timings.length / batch;
+    }
+
+    /**
+     * @return The (sample) standard deviation of the time taken per invocation of the body, in nanoseconds.
+     */
+    double standardDeviation() {
+        if (timings.length < 2) {
+            return 0.0;
+        }
+        final double mean = mean();
+        double squares = 0.0;
+        for (final long timing : timings) {
+            final double deviation = (double) timing / batch - mean;
+            squares += deviation * deviation;
+        }
+        return Math.sqrt(squares / (timings.length - 1));
+    }
+
+    /**
+     * Calculates the given {@code percentile} of the time taken per invocation of the body, using the nearest-rank
+     * method.
+     *
+     * @param percentile The percentile to calculate, in {@code [0, 100]}.
+     * @return The {@code percentile}, in nanoseconds.
+     */
+    double percentile(final double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100.0 * timings.length);
+        return (double) timings[Math.max(0, Math.min(timings.length, rank) - 1)] / batch;
+    }
+
+    /**
+     * @return The number of invocations of the body per iteration.
+     */
+    int getBatch() {
+        return batch;
+    }
+
+    /**
+     * @return The baseline cost (subtracted from each timing) per invocation of the body, in nanoseconds.
+     */
+    double baseline() {
+        return (double) baseline / batch;
+    }
+
+    /**
+     * @return A human readable summary of the measurement; being the number of iterations and the batch size, then the
+     * mean, standard deviation, minimum, percentiles and maximum of the time taken per invocation of the body, and the
+     * baseline subtracted from them.
+     */
+    String summarise() {
+        return String.format("iterations=%d, batch=%d, mean=%.1fns, stddev=%.1fns, min=%.1fns, p50=%.1fns, "
+                        + "p90=%.1fns, p99=%.1fns, max=%.1fns, baseline=%.1fns",
+                timings.length, batch, mean(), standardDeviation(), percentile(0.0),
+                percentile(50.0), percentile(90.0), percentile(99.0), percentile(100.0), baseline());
+    }
+}
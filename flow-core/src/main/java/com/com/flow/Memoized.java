@@ -0,0 +1,47 @@
+package com.com.flow;
+
+import java.lang.annotation.*;
+
+/**
+ * {@link java.lang.reflect.Method} marker {@link Annotation} to indicate that the value returned by the marked {@code
+ * annotation-flow} {@code Method} should be memoized; keyed by the {@code Annotations} bound to its parameters (so by
+ * their values, e.g. {@code _0.value()}).  A {@code Test} whose {@code Annotations} bind the same values as an earlier
+ * one reuses the memoized value (e.g. an expensive fixture), rather than invoking the {@code Method} again.
+ * <p>
+ * Only honoured for the {@link BeforeAllAnnotated}, {@link BeforeAnnotated} and {@link BeforeNotAnnotated} {@code
+ * Annotations}; whose values may be injected into the {@code Test} through {@link FlowResult}.  The {@code Method} must
+ * not be {@code void}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface Memoized {
+
+    /**
+     * @return The {@link Scope} for which values are memoized.
+     */
+    Scope scope() default Scope.CLASS;
+
+    /**
+     * @return The maximum number of values memoized (per {@link #scope()}); once reached, the least recently used
+     * value is evicted.
+     */
+    int maxSize() default 16;
+
+    /**
+     * The scopes for which the values of a {@link Memoized} {@link java.lang.reflect.Method} are memoized.
+     */
+    enum Scope {
+
+        /**
+         * Values are shared by the {@code Tests} of a single execution of the {@code Test} {@link Class}.
+         */
+        CLASS,
+
+        /**
+         * Values are shared by every execution of the {@code Test} {@link Class} (and its subclasses) in the JVM.
+         */
+        GLOBAL
+    }
+}
@@ -19,11 +19,14 @@ final class NegativeFlowMethodRegistration<T extends Annotation> extends FlowMet
      *                        Annotation}.
      * @param annotationClass The {@link Class} of the {@code annotation-flow} {@code Annotation} which this
      *                        registration is for.
+     * @param annotationIndex The {@link AnnotationIndex} of the {@link FlowPlan} being compiled, into which the {@code
+     *                        Annotation} {@code Classes} of interest are interned.
      * @throws IllegalArgumentException If the {@code Method's} declaration does not match the expectations for the
      *                                  considered {@code annotation-flow} {@code Annotations}.
      */
-    NegativeFlowMethodRegistration(final Method method, final Class<T> annotationClass) {
-        super(method, annotationClass);
+    NegativeFlowMethodRegistration(final Method method, final Class<T> annotationClass,
+                                                  final AnnotationIndex annotationIndex) {
+        super(method, annotationClass, annotationIndex);
     }
 
 
@@ -33,12 +36,13 @@ final class NegativeFlowMethodRegistration<T extends Annotation> extends FlowMet
      * Implementation verifies that there are <i>no</i> parameters on the provided {@link Method}.
      */
     @Override
-    final void validateParametersForAnnotation(final T annotation) {
+    final void validateParametersForAnnotation(final T annotation,
+                                               final Class<? extends Annotation>[] relevantAnnotationClasses) {
         if (getMethod().getParameterTypes().length != 0) {
             throw new IllegalArgumentException("Illegal parameter list for method " + getMethod().getName());
         }
 
-        if (getRelevantAnnotationClasses(annotation).length == 0) {
+        if (relevantAnnotationClasses.length == 0) {
             throw new IllegalArgumentException(String.format("Empty value in annotation %s on method %s",
                     annotation.getClass().getSimpleName(), getMethod().getName()));
         }
@@ -49,33 +53,20 @@ final class NegativeFlowMethodRegistration<T extends Annotation> extends FlowMet
      * <p>
      * Implementation verifies that, for <strong>some</strong> {@code annotation-flow} {@link Annotation} present on the
      * provided {@link Method}, the given {@code testMethod} meets the requirements; i.e. has <strong>none</strong> of
-     * the {@code Annotations} present which the {@code annotation-flow} {@code Annotation} declares an interest in.
+     * the {@code Annotations} present which the {@code annotation-flow} {@code Annotation} declares an interest in;
+     * i.e. that its mask is <strong>not</strong> a subset of the {@code presentAnnotationMask}.
      */
     @Override
-    boolean shouldInvokeFor(final Method testMethod) {
-
-        for (final T annotation : getAnnotations()) {
-            final Class<? extends Annotation>[] relevantAnnotationClasses = getRelevantAnnotationClasses(annotation);
-
-            relevantAnnotationLoop:
-            for (final Class<? extends Annotation> relevantAnnotationClass : relevantAnnotationClasses) {
-
-                // For each annotation class of interest, we want to check if there's no present annotation of that
-                // class.
-                for (final Annotation presentAnnotation : getPresentAnnotations()) {
-                    if (relevantAnnotationClass.isAssignableFrom(presentAnnotation.getClass())) {
-                        // The expected annotation was present; continue to see if all others are present.
-                        continue relevantAnnotationLoop;
-                    }
-                }
+    int findTrigger(final long[] presentAnnotationMask) {
+        final long[][] relevantAnnotationMasks = getRelevantAnnotationMasks();
+        for (int i = 0; i < relevantAnnotationMasks.length; i++) {
+            if (!AnnotationIndex.containsAll(presentAnnotationMask, relevantAnnotationMasks[i])) {
                 // There was some expected annotation which wasn't present; hence we should invoke the method.
-                return true;
+                return i;
             }
-
-            // All of the expected annotations were present; hence we shouldn't invoke the method.
-            // Check the next annotation.
+            // All of the expected annotations were present; check the next annotation.
         }
 
-        return false;
+        return -1;
     }
 }
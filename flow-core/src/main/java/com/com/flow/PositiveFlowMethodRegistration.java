@@ -20,12 +20,15 @@ final class PositiveFlowMethodRegistration<T extends Annotation> extends FlowMet
      *                        Annotation}.
      * @param annotationClass The {@link Class} of the {@code annotation-flow} {@code Annotation} which this
      *                        registration is for.
+     * @param annotationIndex The {@link AnnotationIndex} of the {@link FlowPlan} being compiled, into which the {@code
+     *                        Annotation} {@code Classes} of interest are interned.
      * @throws IllegalArgumentException If the {@code Method's} declaration does not match the expectations for the
      *                                  considered {@code annotation-flow} {@code Annotations}.
      */
 
-    PositiveFlowMethodRegistration(final Method method, final Class<T> annotationClass) {
-        super(method, annotationClass);
+    PositiveFlowMethodRegistration(final Method method, final Class<T> annotationClass,
+                                                  final AnnotationIndex annotationIndex) {
+        super(method, annotationClass, annotationIndex);
     }
 
 
@@ -36,9 +39,9 @@ final class PositiveFlowMethodRegistration<T extends Annotation> extends FlowMet
      * those which the given {@code Annotation} declares an interest in.
      */
     @Override
-    final void validateParametersForAnnotation(final T annotation) {
+    final void validateParametersForAnnotation(final T annotation,
+                                               final Class<? extends Annotation>[] expectedAnnotationClasses) {
         final Class<?>[] parameterClasses = getMethod().getParameterTypes();
-        final Class<? extends Annotation>[] expectedAnnotationClasses = getRelevantAnnotationClasses(annotation);
 
         if (expectedAnnotationClasses.length == 0) {
             throw new IllegalArgumentException(String.format("Empty value in annotation %s on method %s",
@@ -66,36 +69,21 @@ final class PositiveFlowMethodRegistration<T extends Annotation> extends FlowMet
      * <p>
      * Implementation verifies that, for <strong>some</strong> {@code annotation-flow} {@link Annotation} present on the
      * provided {@link Method}, the given {@code testMethod} contains <strong>all</strong> of the {@code Annotations}
-     * which the {@code annotation-flow} {@code Annotation} declares an interest in.
+     * which the {@code annotation-flow} {@code Annotation} declares an interest in; i.e. that its mask is a subset of
+     * the {@code presentAnnotationMask}.
      */
     @Override
-    boolean shouldInvokeFor(final Method testMethod) {
-        annotationLoop:
-        for (final T annotation : getAnnotations()) {
-            final Class<? extends Annotation>[] relevantAnnotationClasses = getRelevantAnnotationClasses(annotation);
-
-            relevantAnnotationLoop:
-            for (final Class<? extends Annotation> relevantAnnotationClass : relevantAnnotationClasses) {
-
-                // We want to check all the present annotations for one of the annotation class of interest.
-                for (final Annotation presentAnnotation : getPresentAnnotations()) {
-                    if (relevantAnnotationClass.isAssignableFrom(presentAnnotation.getClass())) {
-                        // We've found an appropriate annotation for this one.
-                        // Continue to check the next annotation class of interest.
-                        continue relevantAnnotationLoop;
-                    }
-                }
-                // The current annotation class of interest had no present annotation.
-                // Hence it should not be invoked for this annotation; check the next.
-                continue annotationLoop;
+    int findTrigger(final long[] presentAnnotationMask) {
+        final long[][] relevantAnnotationMasks = getRelevantAnnotationMasks();
+        for (int i = 0; i < relevantAnnotationMasks.length; i++) {
+            if (AnnotationIndex.containsAll(presentAnnotationMask, relevantAnnotationMasks[i])) {
+                // All annotation classes of interest were present for the current annotation.
+                // Hence the method should be invoked.
+                return i;
             }
-
-            // All annotation classes of interest had a present annotation for the current annotation.
-            // Hence the method should be invoked.
-            return true;
         }
 
         // All annotation-flow annotations were not satisfied, hence the method should not be invoked.
-        return false;
+        return -1;
     }
 }
@@ -0,0 +1,161 @@
+package com.com.flow;
+
+import org.junit.platform.commons.util.AnnotationUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable {@code annotation-flow} plan for a single {@code Test} {@link Method} of a {@link FlowPlan}.
+ * <p>
+ * Holds the {@link AnnotationSnapshot} of the {@code Test} {@code Method}, and the arguments bound (by the {@link
+ * FlowMethodParameterBuilder}) for each registration of the {@code FlowPlan} which the {@code Test} {@code Method}
+ * satisfies.  Arguments are bound once, when the plan is computed, so dispatching a flow method costs no more than
+ * passing along its (already bound) arguments.
+ */
+final class TestMethodPlan {
+
+    /**
+     * The {@link AnnotationSnapshot} of the {@code Test} {@link Method}.
+     */
+    private final AnnotationSnapshot snapshot;
+
+    /**
+     * The arguments bound for each of the {@link FlowPlan#getRegistrations(FlowPhase) registrations} of each {@link
+     * FlowPhase} (by {@link FlowPhase#ordinal() ordinal}), by index; {@code null} for registrations which the {@code
+     * Test} {@link Method} does not satisfy.
+     */
+    private final Object[][][] arguments;
+
+    /**
+     * The indices of the registrations of each {@link FlowPhase} (by {@link FlowPhase#ordinal() ordinal}) which the
+     * {@code Test} {@link Method} satisfies, in dispatch order; so dispatch visits only those, by plain indexed loops.
+     */
+    private final int[][] satisfied;
+
+    /**
+     * The {@link Measure} of the {@code Test} {@link Method}; or {@code null} if it is not measured.
+     */
+    private final Measure measure;
+
+    /**
+     * Whether the {@code Test} {@link Method} dispatches its {@code before} and {@code after} {@code annotation-flow}
+     * {@code Methods} around each of its invocations, through a {@link FlowInvocations} {@link
+     * java.lang.reflect.Parameter}; rather than once around itself.
+     */
+    private final boolean dispatchedPerInvocation;
+
+    /**
+     * Whether any {@link java.lang.reflect.Parameter} of the {@code Test} {@link Method} is a {@link FlowResult} (or
+     * the {@code Test} is {@link #dispatchedPerInvocation dispatched per invocation}, whose invocations look up their
+     * values); if not, the values returned by its {@code annotation-flow} {@code Methods} need not be recorded.
+     */
+    private final boolean resolvesFlowResults;
+
+    /**
+     * Constructor; computes the plan for the given {@code snapshot}.
+     *
+     * @param testMethod          The {@code Test} {@link Method}.
+     * @param snapshot            The {@link AnnotationSnapshot} of the {@code Test} {@code Method}.
+     * @param registrations       The registrations to consider at each {@link FlowPhase}, in dispatch order.  Phases
+     *                            without an entry have no registrations.
+     * @throws IllegalStateException If a satisfied registration has a parameter which cannot be bound from the {@code
+     *                               snapshot}.
+     */
+    TestMethodPlan(final Method testMethod, final AnnotationSnapshot snapshot,
+                   final Map<FlowPhase, List<FlowMethodRegistration<?>>> registrations) {
+        this.snapshot = snapshot;
+        this.arguments = new Object[FlowPhase.values().length][][];
+        this.satisfied = new int[FlowPhase.values().length][];
+        for (final FlowPhase phase : FlowPhase.values()) {
+            final List<FlowMethodRegistration<?>> phaseRegistrations =
+                    registrations.getOrDefault(phase, Collections.emptyList());
+            final Object[][] phaseArguments = bind(snapshot, phaseRegistrations);
+            this.arguments[phase.ordinal()] = phaseArguments;
+            this.satisfied[phase.ordinal()] = IntStream.range(0, phaseArguments.length)
+                    .filter(i -> phaseArguments[i] != null)
+                    .toArray();
+        }
+        this.measure = AnnotationUtils.findAnnotation(testMethod, Measure.class).orElse(null);
+        this.dispatchedPerInvocation = Arrays.stream(testMethod.getParameterTypes())
+                .anyMatch(FlowInvocations.class::isAssignableFrom);
+        this.resolvesFlowResults = dispatchedPerInvocation || Arrays.stream(testMethod.getParameters())
+                .anyMatch(parameter -> parameter.isAnnotationPresent(FlowResult.class));
+    }
+
+    /**
+     * Binds the arguments of each of the given {@code registrations} which are satisfied by the {@code snapshot}.
+     *
+     * @param snapshot      The {@link AnnotationSnapshot} of the {@code Test} {@link Method}.
+     * @param registrations The registrations to bind the arguments of.
+     * @return The arguments bound for each of the {@code registrations}, by index; {@code null} for those which are
+     * not satisfied by the {@code snapshot}.
+     */
+    private static Object[][] bind(final AnnotationSnapshot snapshot,
+                                   final List<FlowMethodRegistration<?>> registrations) {
+        final Object[][] arguments = new Object[registrations.size()][];
+        for (int i = 0; i < arguments.length; i++) {
+            final FlowMethodRegistration<?> registration = registrations.get(i);
+            if (registration.shouldInvokeFor(snapshot.getPresentAnnotationMask())) {
+                arguments[i] = new FlowMethodParameterBuilder(registration.getMethod(), snapshot).getParameters();
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * @return The {@link AnnotationSnapshot} of the {@code Test} {@link Method}.
+     */
+    AnnotationSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * @param phase             The {@link FlowPhase} of the registration.
+     * @param registrationIndex The index of the registration, within those {@link FlowPlan#getRegistrations(FlowPhase)
+     *                          of the phase}.
+     * @return The arguments bound for the registration; or {@code null} if the {@code Test} {@link Method} does not
+     * satisfy it.  Must not be modified.
+     */
+    Object[] getArguments(final FlowPhase phase, final int registrationIndex) {
+        return this.arguments[phase.ordinal()][registrationIndex];
+    }
+
+    /**
+     * @param phase The {@link FlowPhase} of the registrations.
+     * @return The indices of the registrations of the {@code phase} (within those {@link
+     * FlowPlan#getRegistrations(FlowPhase) of the phase}) which the {@code Test} {@link Method} satisfies, in dispatch
+     * order.  Must not be modified.
+     */
+    int[] getSatisfied(final FlowPhase phase) {
+        return this.satisfied[phase.ordinal()];
+    }
+
+    /**
+     * @return The {@link Measure} of the {@code Test} {@link Method}; or {@code null} if it is not measured.
+     */
+    Measure getMeasure() {
+        return this.measure;
+    }
+
+    /**
+     * @return {@code true} if the {@code Test} {@link Method} has a {@link FlowInvocations} {@link
+     * java.lang.reflect.Parameter}, through which its {@code before} and {@code after} {@code annotation-flow} {@code
+     * Methods} are dispatched around each of its invocations; otherwise {@code false}.
+     */
+    boolean isDispatchedPerInvocation() {
+        return this.dispatchedPerInvocation;
+    }
+
+    /**
+     * @return {@code true} if any {@link java.lang.reflect.Parameter} of the {@code Test} {@link Method} is a {@link
+     * FlowResult}, or it is {@link #isDispatchedPerInvocation() dispatched per invocation}; otherwise {@code false}.
+     */
+    boolean resolvesFlowResults() {
+        return this.resolvesFlowResults;
+    }
+}
@@ -0,0 +1,168 @@
+package com.com.flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowEngineTest {
+
+    @DisplayName("Engines bound to different frameworks dispatch through the one cached plan")
+    @Test
+    void testEnginesSharePlans() throws Exception {
+        final FlowPlan plan = FlowEngine.getPlan(Flows.class);
+        final FlowEngine<Context> first = new FlowEngine<>(new Adapter(false));
+        final FlowEngine<Context> second = new FlowEngine<>(new Adapter(true));
+
+        final Context firstContext = new Context(new Flows(), "marked");
+        first.beforeTest(firstContext);
+        first.afterTest(firstContext);
+        final Context secondContext = new Context(new Flows(), "marked");
+        second.beforeTest(secondContext);
+        second.afterTest(secondContext);
+
+        assertSame(plan, FlowEngine.getPlan(Flows.class));
+        assertSame(plan.getTestMethodPlan(firstContext.testMethod), plan.getTestMethodPlan(secondContext.testMethod));
+        assertEquals(Arrays.asList("setUp", "tearDown"), firstContext.testInstance.invocations);
+        assertEquals(Arrays.asList("setUp", "tearDown"), secondContext.testInstance.invocations);
+    }
+
+    @DisplayName("Results are only recorded for tests without FlowResult parameters if the adapter records every one")
+    @Test
+    void testEveryResultRecordedOnlyIfAdapterDoes() throws Exception {
+        final Context unrecorded = new Context(new Flows(), "marked");
+        new FlowEngine<>(new Adapter(false)).beforeTest(unrecorded);
+        assertTrue(unrecorded.results.isEmpty());
+
+        final Context recorded = new Context(new Flows(), "marked");
+        final FlowEngine<Context> engine = new FlowEngine<>(new Adapter(true));
+        engine.beforeTest(recorded);
+        assertEquals("fixture", engine.resolve(recorded, "", String.class));
+        assertEquals("fixture", engine.resolve(recorded, "setUp", String.class));
+    }
+
+    @DisplayName("Tests and test factories are recognised by name, without depending on their framework")
+    @Test
+    void testTestsRecognisedByName() throws Exception {
+        final List<Method> testMethods = FlowEngine.getPlan(Flows.class).getTestMethods();
+
+        assertTrue(testMethods.contains(Flows.class.getDeclaredMethod("marked")));
+        assertTrue(testMethods.contains(Flows.class.getDeclaredMethod("unmarked")));
+        assertFalse(testMethods.contains(Flows.class.getDeclaredMethod("setUp")));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+    }
+
+    static class Flows {
+
+        final List<String> invocations = new ArrayList<>();
+
+        @BeforeAnnotated(Marker.class)
+        String setUp() {
+            invocations.add("setUp");
+            return "fixture";
+        }
+
+        @AfterAnnotated(Marker.class)
+        void tearDown() {
+            invocations.add("tearDown");
+        }
+
+        @Marker
+        @Test
+        void marked() {
+        }
+
+        @TestFactory
+        Stream<DynamicTest> unmarked() {
+            return Stream.empty();
+        }
+    }
+
+    static final class Context {
+
+        final Flows testInstance;
+
+        final Method testMethod;
+
+        final Map<Method, Object> results = new LinkedHashMap<>();
+
+        Context(final Flows testInstance, final String testMethodName) throws NoSuchMethodException {
+            this.testInstance = testInstance;
+            this.testMethod = Flows.class.getDeclaredMethod(testMethodName);
+        }
+    }
+
+    static final class Adapter implements FlowAdapter<Context> {
+
+        private final boolean recordsEveryResult;
+
+        private final Map<Context, FlowClassExecution> classExecutions = new HashMap<>();
+
+        Adapter(final boolean recordsEveryResult) {
+            this.recordsEveryResult = recordsEveryResult;
+        }
+
+        @Override
+        public Class<?> getTestClass(final Context context) {
+            return Flows.class;
+        }
+
+        @Override
+        public Method getTestMethod(final Context context) {
+            return context.testMethod;
+        }
+
+        @Override
+        public Object getTestInstance(final Context context) {
+            return context.testInstance;
+        }
+
+        @Override
+        public FlowClassExecution getClassExecution(final Context context) {
+            return classExecutions.computeIfAbsent(context, key -> new FlowClassExecution(Flows.class));
+        }
+
+        @Override
+        public Map<Method, Object> getResults(final Context context, final boolean create) {
+            return context.results;
+        }
+
+        @Override
+        public boolean recordsEveryResult() {
+            return recordsEveryResult;
+        }
+
+        @Override
+        public boolean hasFailed(final Context context) {
+            return false;
+        }
+
+        @Override
+        public String describe(final Context context) {
+            return context.testMethod.getName();
+        }
+
+        @Override
+        public void publishReportEntry(final Context context, final Map<String, String> entry) {
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.com.flow;
+
+import org.junit.rules.MethodRule;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.MultipleFailureException;
+import org.junit.runners.model.Statement;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * JUnit 4 {@link TestRule} which handles the {@link Method#invoke(Object, Object...) invocation} of methods annotated
+ * by annotation-flow {@link Annotation Annotations}; the JUnit 4 counterpart of the Jupiter {@code AnnotationFlow}
+ * {@code Extension}.
+ * <p>
+ * A thin adapter of the framework-neutral {@link FlowEngine}; which shares its cache of compiled plans with every
+ * other adapter in the JVM, so legacy {@code Test} {@link Class Classes} run through the vintage engine alongside
+ * Jupiter ones are planned once.
+ * <p>
+ * JUnit 4 only exposes the start and end of a {@code Class} to a {@code ClassRule}, and the {@code Test} instance to a
+ * {@link MethodRule}; so the rule is declared once, as a {@code ClassRule}, and its {@link #forEachTest() per-test
+ * MethodRule} as a {@code Rule}:
+ * <pre>{@code
+ * @ClassRule
+ * public static final AnnotationFlowRule FLOW = new AnnotationFlowRule();
+ *
+ * @Rule
+ * public final MethodRule flow = FLOW.forEachTest();
+ * }</pre>
+ * The {@code before} {@code annotation-flow} {@code Methods} of each {@code Test} are invoked before its {@code
+ * Before} methods (and the {@code after} ones after its {@code After} methods), as the rule wraps them.  JUnit 4
+ * {@code Tests} take no parameters, so the values returned by the {@code before} {@code Methods} are looked up through
+ * {@link #getResult(String, Class)} instead of being injected as {@link FlowResult FlowResults}.  {@link Measure
+ * Measured} {@code Tests} are run as microbenchmarks once they have passed, with their statistics published to the
+ * rule's report publisher (by default, logged at {@code INFO} through {@code java.util.logging}, under the name of
+ * this {@code Class}; so they may be silenced or redirected by the logging configuration).
+ */
+public final class AnnotationFlowRule implements TestRule {
+
+    /**
+     * The {@link FlowEngine}, bound to JUnit 4.
+     */
+    private static final FlowEngine<JUnit4FlowTest> ENGINE = new FlowEngine<>(new JUnit4FlowAdapter());
+
+    /**
+     * The {@link Logger} which report entries are published to, by default.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AnnotationFlowRule.class.getName());
+
+    /**
+     * The publisher of report entries; e.g. the statistics of {@link Measure measured} {@code Tests}.
+     */
+    private final Consumer<Map<String, String>> reportPublisher;
+
+    /**
+     * The {@link FlowClassExecution} of each {@code Test} {@link Class} currently executing under this rule.
+     */
+    private final ConcurrentMap<Class<?>, FlowClassExecution> classExecutions = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link JUnit4FlowTest} of the {@code Test} executing on the current {@link Thread}; inherited, so that it is
+     * visible to {@code Tests} which JUnit 4 runs on a separate {@code Thread} (e.g. under a {@code Timeout}).
+     */
+    private final InheritableThreadLocal<JUnit4FlowTest> currentTest = new InheritableThreadLocal<>();
+
+
+    /**
+     * Constructor; publishes report entries at {@code INFO} through {@code java.util.logging}.
+     */
+    public AnnotationFlowRule() {
+        this(entry -> entry.forEach((key, value) -> LOGGER.info(() -> key + " = " + value)));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param reportPublisher The publisher of report entries; e.g. the statistics of {@link Measure measured} {@code
+     *                        Tests}.
+     */
+    public AnnotationFlowRule(final Consumer<Map<String, String>> reportPublisher) {
+        this.reportPublisher = reportPublisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Validates the declarations of all of the {@code annotation-flow} {@link Method Methods} of the {@code Test}
+     * {@link Class} up front, then executes it; then invokes any {@link AfterAllAnnotated} {@code Methods} still
+     * pending, joins any outstanding {@link AfterAnnotated#async() asynchronous} invocations, and publishes the report
+     * entries of the {@link FlowListener FlowListeners}.
+     *
+     * @throws IllegalStateException If the rule is applied to a single {@code Test}; i.e. declared as a {@code Rule},
+     *                               rather than a {@code ClassRule}.
+     */
+    @Override
+    public Statement apply(final Statement base, final Description description) {
+        if (description.isTest()) {
+            throw new IllegalStateException(
+                    "AnnotationFlowRule must be declared as a @ClassRule; declare its forEachTest() as the @Rule");
+        }
+        final Class<?> testClass = description.getTestClass();
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                FlowEngine.verify(testClass);
+                final FlowClassExecution classExecution = new FlowClassExecution(testClass);
+                classExecutions.put(testClass, classExecution);
+
+                final List<Throwable> failures = new ArrayList<>();
+                try {
+                    base.evaluate();
+                } catch (final Throwable failure) {
+                    failures.add(failure);
+                }
+                try {
+                    classExecutions.remove(testClass);
+                    FlowEngine.finishClass(testClass, classExecution, reportPublisher);
+                } catch (final Throwable failure) {
+                    failures.add(failure);
+                }
+                MultipleFailureException.assertEmpty(failures);
+            }
+        };
+    }
+
+    /**
+     * Creates the {@link MethodRule} which invokes the {@code annotation-flow} {@link Method Methods} of each {@code
+     * Test}; to be declared as the {@code Rule} of the {@code Test} {@link Class} which declares this as its {@code
+     * ClassRule}.
+     * <p>
+     * Invokes the {@code before} {@code Methods} honoured by the {@code Test}, then executes it; then runs it as a
+     * microbenchmark if it is {@link Measure measured} (and has passed), then invokes the {@code after} {@code Methods}
+     * honoured by it.  The {@code after} {@code Methods} are invoked even if the {@code Test} (or a {@code before}
+     * {@code Method}) failed.
+     *
+     * @return The per-{@code Test} {@code MethodRule}.
+     */
+    public MethodRule forEachTest() {
+        return (base, method, target) -> new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                final JUnit4FlowTest test = startTest(method, target);
+                currentTest.set(test);
+
+                final List<Throwable> failures = new ArrayList<>();
+                try {
+                    ENGINE.beforeTest(test);
+                    base.evaluate();
+                } catch (final Throwable failure) {
+                    test.fail();
+                    failures.add(failure);
+                }
+                try {
+                    ENGINE.afterTest(test);
+                } catch (final Throwable failure) {
+                    failures.add(failure);
+                } finally {
+                    currentTest.remove();
+                }
+                MultipleFailureException.assertEmpty(failures);
+            }
+        };
+    }
+
+    /**
+     * Creates the {@link JUnit4FlowTest} of the given {@code Test}.
+     *
+     * @param method The {@link FrameworkMethod} of the {@code Test}.
+     * @param target The instance of the {@code Test} {@link Class} which the {@code Test} is executing on.
+     * @return The {@code JUnit4FlowTest} of the {@code Test}.
+     * @throws IllegalStateException If the {@code Test} {@code Class} is not executing under this rule; i.e. it is not
+     *                               also declared as the {@code ClassRule}.
+     */
+    private JUnit4FlowTest startTest(final FrameworkMethod method, final Object target) {
+        final FlowClassExecution classExecution = classExecutions.get(target.getClass());
+        if (classExecution == null) {
+            throw new IllegalStateException(String.format(
+                    "%s is not executing under the AnnotationFlowRule; declare it as the @ClassRule of the class",
+                    target.getClass().getName()));
+        }
+        return new JUnit4FlowTest(method.getMethod(), target, classExecution, reportPublisher);
+    }
+
+    /**
+     * Retrieves the only value returned by the {@code annotation-flow} {@link Method Methods} invoked for the currently
+     * executing {@code Test} which is assignable to the given {@code type}.
+     *
+     * @param type The {@link Class} of the value to retrieve.
+     * @param <T>  The {@code Type} of the value to retrieve.
+     * @return The value.
+     * @throws IllegalStateException If no {@code Test} is executing under this rule.
+     * @throws RuntimeException      If there is no such value, or more than one.
+     * @see #getResult(String, Class)
+     */
+    public <T> T getResult(final Class<T> type) {
+        return getResult("", type);
+    }
+
+    /**
+     * Retrieves the value returned by the {@code annotation-flow} {@link Method} of the given name, invoked for the
+     * currently executing {@code Test}; as would be resolved for a {@link FlowResult} of the given {@code type}.  So
+     * the values of {@link BeforeAnnotated#lazy() lazy} {@code Methods} are retrieved as a {@link
+     * java.util.function.Supplier} (invoking the {@code Method} on first use) if the {@code type} is {@code Supplier}.
+     *
+     * @param flowMethodName The name of the {@code annotation-flow} {@code Method} whose value to retrieve; or empty
+     *                       to retrieve the only value which is assignable to the {@code type}.
+     * @param type           The {@link Class} of the value to retrieve.
+     * @param <T>            The {@code Type} of the value to retrieve.
+     * @return The value.
+     * @throws IllegalStateException If no {@code Test} is executing under this rule.
+     * @throws RuntimeException      If there is no such value, or (if the {@code flowMethodName} is empty) more than
+     *                               one.
+     */
+    public <T> T getResult(final String flowMethodName, final Class<T> type) {
+        final JUnit4FlowTest test = currentTest.get();
+        if (test == null) {
+            throw new IllegalStateException("No test is executing under the AnnotationFlowRule");
+        }
+        return ENGINE.resolve(test, flowMethodName, type);
+    }
+}
@@ -0,0 +1,93 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * {@link FlowAdapter} binding the {@link FlowEngine} to JUnit 4, for {@link AnnotationFlowRule}.
+ * <p>
+ * All state is held by the {@link JUnit4FlowTest} of each {@code Test}.  JUnit 4 {@code Tests} take no parameters, so
+ * look up the values of their {@code annotation-flow} {@link Method Methods} through the {@code AnnotationFlowRule};
+ * hence every value is recorded.
+ */
+final class JUnit4FlowAdapter implements FlowAdapter<JUnit4FlowTest> {
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The {@link Class} of the {@link #getTestInstance(JUnit4FlowTest) test instance}; which JUnit 4 instantiates as
+     * the {@code Test} {@code Class} itself.
+     */
+    @Override
+    public Class<?> getTestClass(final JUnit4FlowTest context) {
+        return context.getTestInstance().getClass();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Method getTestMethod(final JUnit4FlowTest context) {
+        return context.getTestMethod();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getTestInstance(final JUnit4FlowTest context) {
+        return context.getTestInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FlowClassExecution getClassExecution(final JUnit4FlowTest context) {
+        return context.getClassExecution();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Method, Object> getResults(final JUnit4FlowTest context, final boolean create) {
+        return context.getResults(create);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Always {@code true}; the values are looked up through the {@link AnnotationFlowRule}.
+     */
+    @Override
+    public boolean recordsEveryResult() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasFailed(final JUnit4FlowTest context) {
+        return context.hasFailed();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Described by the name of the {@code Test} {@link Class} and {@link Method}.
+     */
+    @Override
+    public String describe(final JUnit4FlowTest context) {
+        return getTestClass(context).getName() + '#' + context.getTestMethod().getName();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishReportEntry(final JUnit4FlowTest context, final Map<String, String> entry) {
+        context.getReportPublisher().accept(entry);
+    }
+}
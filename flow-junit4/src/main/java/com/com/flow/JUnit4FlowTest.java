@@ -0,0 +1,117 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The {@code annotation-flow} context of a single JUnit 4 {@code Test}, dispatched by an {@link AnnotationFlowRule}.
+ * <p>
+ * Holds the state which the {@link FlowEngine} hands its {@link JUnit4FlowAdapter}; which JUnit 4, unlike Jupiter, has
+ * nowhere to store.
+ */
+final class JUnit4FlowTest {
+
+    /**
+     * The {@code Test} {@link Method} which is executing.
+     */
+    private final Method testMethod;
+
+    /**
+     * The instance of the {@code Test} {@link Class} which the {@code Test} is executing on.
+     */
+    private final Object testInstance;
+
+    /**
+     * The {@link FlowClassExecution} of the execution of the {@code Test} {@link Class}.
+     */
+    private final FlowClassExecution classExecution;
+
+    /**
+     * The publisher of report entries for the {@code Test}.
+     */
+    private final Consumer<Map<String, String>> reportPublisher;
+
+    /**
+     * The values returned by the {@code annotation-flow} {@link Method Methods} invoked for the {@code Test}; or {@code
+     * null} until the first is.
+     */
+    private Map<Method, Object> results;
+
+    /**
+     * Whether the {@code Test} has failed.
+     */
+    private boolean failed;
+
+
+    /**
+     * Constructor.
+     *
+     * @param testMethod      The {@code Test} {@link Method} which is executing.
+     * @param testInstance    The instance of the {@code Test} {@link Class} which the {@code Test} is executing on.
+     * @param classExecution  The {@link FlowClassExecution} of the execution of the {@code Test} {@code Class}.
+     * @param reportPublisher The publisher of report entries for the {@code Test}.
+     */
+    JUnit4FlowTest(final Method testMethod, final Object testInstance, final FlowClassExecution classExecution,
+                   final Consumer<Map<String, String>> reportPublisher) {
+        this.testMethod = testMethod;
+        this.testInstance = testInstance;
+        this.classExecution = classExecution;
+        this.reportPublisher = reportPublisher;
+    }
+
+    /**
+     * @return The {@code Test} {@link Method} which is executing.
+     */
+    Method getTestMethod() {
+        return this.testMethod;
+    }
+
+    /**
+     * @return The instance of the {@code Test} {@link Class} which the {@code Test} is executing on.
+     */
+    Object getTestInstance() {
+        return this.testInstance;
+    }
+
+    /**
+     * @return The {@link FlowClassExecution} of the execution of the {@code Test} {@link Class}.
+     */
+    FlowClassExecution getClassExecution() {
+        return this.classExecution;
+    }
+
+    /**
+     * @return The publisher of report entries for the {@code Test}.
+     */
+    Consumer<Map<String, String>> getReportPublisher() {
+        return this.reportPublisher;
+    }
+
+    /**
+     * @param create {@code true} to create the (empty) values if none are yet held; otherwise {@code false}.
+     * @return The values returned by the {@code annotation-flow} {@link Method Methods} invoked for the {@code Test};
+     * or {@code null} if none are held, and they were not to be {@code created}.
+     */
+    Map<Method, Object> getResults(final boolean create) {
+        if (results == null && create) {
+            results = new LinkedHashMap<>();
+        }
+        return this.results;
+    }
+
+    /**
+     * @return {@code true} if the {@code Test} has {@link #fail() failed}; otherwise {@code false}.
+     */
+    boolean hasFailed() {
+        return this.failed;
+    }
+
+    /**
+     * Records that the {@code Test} has failed.
+     */
+    void fail() {
+        this.failed = true;
+    }
+}
@@ -0,0 +1,130 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.AfterClass;
+import org.junit.ClassRule;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Request;
+import org.junit.runner.Result;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.model.InitializationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AnnotationFlowRuleTest {
+
+    private static final List<Map<String, String>> published = new CopyOnWriteArrayList<>();
+
+    private static final AtomicInteger fixturesBuilt = new AtomicInteger();
+
+    private static final AtomicInteger fixturesTornDown = new AtomicInteger();
+
+    private static final AtomicInteger classFixturesTornDown = new AtomicInteger();
+
+    @ClassRule
+    public static final AnnotationFlowRule FLOW = new AnnotationFlowRule(published::add);
+
+    @Rule
+    public final MethodRule flow = FLOW.forEachTest();
+
+    private int bodyInvocations;
+
+    @BeforeAnnotated(_0.class)
+    public List<String> fixture() {
+        fixturesBuilt.incrementAndGet();
+        return new ArrayList<>(Collections.singletonList("fixture"));
+    }
+
+    @AfterAnnotated(_0.class)
+    public void tearDownFixture() {
+        fixturesTornDown.incrementAndGet();
+    }
+
+    @BeforeNotAnnotated(_0.class)
+    public String plain() {
+        return "plain";
+    }
+
+    @AfterAllAnnotated(_1.class)
+    public static void tearDownClassFixture() {
+        classFixturesTornDown.incrementAndGet();
+    }
+
+    @AfterClass
+    public static void verifyFlows() {
+        assertEquals(2, fixturesBuilt.get());
+        assertEquals(2, fixturesTornDown.get());
+        assertEquals(1, classFixturesTornDown.get());
+        assertEquals(1, published.size());
+        assertTrue(published.get(0).get("measure.AnnotationFlowRuleTest#testMeasured")
+                .startsWith("iterations=5, batch="));
+    }
+
+    @_0
+    @Test
+    public void testBeforeAnnotatedResultRetrieved() {
+        assertEquals(Collections.singletonList("fixture"), FLOW.getResult(List.class));
+        assertEquals(Collections.singletonList("fixture"), FLOW.getResult("fixture", List.class));
+    }
+
+    @_0
+    @_1
+    @Test
+    public void testOnlyHonouredResultsRetrieved() {
+        assertEquals(Collections.singletonList("fixture"), FLOW.getResult(List.class));
+        try {
+            FLOW.getResult(String.class);
+            fail("The BeforeNotAnnotated method should not have been invoked");
+        } catch (final FlowConfigurationException expected) {
+            assertEquals("No annotation-flow results for type java.lang.String", expected.getMessage());
+        }
+    }
+
+    @_1
+    @Test
+    public void testBeforeNotAnnotatedResultRetrieved() {
+        assertEquals("plain", FLOW.getResult("plain", String.class));
+    }
+
+    @Measure(warmup = 2, iterations = 5)
+    @Test
+    public void testMeasured() {
+        bodyInvocations++;
+    }
+
+    @Test
+    public void testRuleWithoutClassRuleFails() throws InitializationError {
+        // Runs the fixture through its runner directly; which, unlike discovery, disregards its Ignore annotation.
+        final Result result = new JUnitCore().run(Request.runner(new BlockJUnit4ClassRunner(WithoutClassRule.class)));
+
+        assertEquals(1, result.getFailureCount());
+        assertTrue(result.getFailures().get(0).getException() instanceof IllegalStateException);
+    }
+
+    @Ignore("Fails by design; run by testRuleWithoutClassRuleFails")
+    public static class WithoutClassRule {
+
+        private static final AnnotationFlowRule FLOW = new AnnotationFlowRule();
+
+        @Rule
+        public final MethodRule flow = FLOW.forEachTest();
+
+        @Test
+        public void test() {
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.com.flow.annotations;
+
+import java.lang.annotation.*;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Inherited
+public @interface _1 {
+    String value() default "howdy";
+}
@@ -0,0 +1,657 @@
+package com.com.flow.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor for {@code annotation-flow}.
+ * <p>
+ * Validates the declaration of every {@code annotation-flow} {@code annotated} method at compile time (reporting each
+ * invalid declaration as a compilation error), and generates a {@code com.com.flow.FlowDispatchTable} for each {@code
+ * Test} class with {@code annotation-flow} methods in its hierarchy.  The table lists those methods (in dispatch
+ * order, with the parameter types they bind); so that {@code AnnotationFlow} need not discover them by reflection at
+ * runtime.  Which of them to dispatch for each {@code Test} is still decided at runtime, against the {@code
+ * Annotations} the {@code Test} carries then.  The table also records how many {@code annotation-flow} methods each
+ * class of the hierarchy declares; so that it is recognised as stale should one of them change without the {@code
+ * Test} class being recompiled.
+ * <p>
+ * Tables are only generated for classes whose {@code annotation-flow} declarations are all valid; otherwise {@code
+ * AnnotationFlow} falls back to reflection, and reports the invalid declarations itself.
+ */
+@SupportedAnnotationTypes({
+        FlowProcessor.TEST,
+        FlowProcessor.FLOW_PACKAGE + ".BeforeAllAnnotated", FlowProcessor.FLOW_PACKAGE + ".BeforeAllAnnotateds",
+        FlowProcessor.FLOW_PACKAGE + ".BeforeAnnotated", FlowProcessor.FLOW_PACKAGE + ".BeforeAnnotateds",
+        FlowProcessor.FLOW_PACKAGE + ".BeforeNotAnnotated", FlowProcessor.FLOW_PACKAGE + ".BeforeNotAnnotateds",
+        FlowProcessor.FLOW_PACKAGE + ".AfterAnnotated", FlowProcessor.FLOW_PACKAGE + ".AfterAnnotateds",
+        FlowProcessor.FLOW_PACKAGE + ".AfterNotAnnotated", FlowProcessor.FLOW_PACKAGE + ".AfterNotAnnotateds",
+        FlowProcessor.FLOW_PACKAGE + ".AfterAllAnnotated", FlowProcessor.FLOW_PACKAGE + ".AfterAllAnnotateds"})
+public final class FlowProcessor extends AbstractProcessor {
+
+    /**
+     * The package of the {@code annotation-flow} {@code Annotations}.
+     */
+    static final String FLOW_PACKAGE = "com.com.flow";
+
+    /**
+     * The {@code Test} {@code Annotation}.
+     */
+    static final String TEST = "org.junit.jupiter.api.Test";
+
+    /**
+     * The name of the interface implemented by the generated tables.
+     */
+    private static final String DISPATCH_TABLE = FLOW_PACKAGE + ".FlowDispatchTable";
+
+    /**
+     * The suffix appended to the binary name of a {@code Test} class to name its table; must match {@code
+     * FlowDispatchTable.SUFFIX}.
+     */
+    private static final String SUFFIX = "$FlowDispatchTable";
+
+    /**
+     * The {@code annotation-flow} {@code Annotations}, in dispatch order; i.e. {@code BeforeAnnotated} registrations
+     * ahead of {@code BeforeNotAnnotated} registrations, and likewise for the {@code After} {@code Annotations}.  The
+     * class-level {@code BeforeAllAnnotated} and {@code AfterAllAnnotated} are dispatched in phases of their own.
+     */
+    private static final FlowAnnotation[] FLOW_ANNOTATIONS = {
+            new FlowAnnotation("BeforeAllAnnotated", true),
+            new FlowAnnotation("BeforeAnnotated", true),
+            new FlowAnnotation("BeforeNotAnnotated", false),
+            new FlowAnnotation("AfterAnnotated", true),
+            new FlowAnnotation("AfterNotAnnotated", false),
+            new FlowAnnotation("AfterAllAnnotated", true)};
+
+    /**
+     * The members of the {@code annotation-flow} {@code Annotations} which must be the same for each of them on a
+     * method, with their default values.
+     */
+    private static final Map<String, Object> CONSISTENT_MEMBERS = new LinkedHashMap<>();
+
+    static {
+        CONSISTENT_MEMBERS.put("async", false);
+        CONSISTENT_MEMBERS.put("lazy", false);
+        CONSISTENT_MEMBERS.put("timeoutMillis", 0L);
+        CONSISTENT_MEMBERS.put("pairedWith", "");
+    }
+
+    /**
+     * The names of the tables generated so far; each {@code Test} class is only considered once, in the first round it
+     * appears in.
+     */
+    private final Set<String> generated = new HashSet<>();
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Validates the {@code annotation-flow} methods of this round, then generates the tables of the {@code Test}
+     * classes of this round.  Never claims the {@code annotations}.
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Set<TypeElement> candidates = new LinkedHashSet<>();
+        // Methods carrying several annotation-flow Annotations are found once per Annotation; but validated once.
+        final Set<ExecutableElement> validated = new HashSet<>();
+        for (final TypeElement annotation : annotations) {
+            final boolean isTest = annotation.getQualifiedName().contentEquals(TEST);
+            for (final ExecutableElement method :
+                    ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (!isTest && validated.add(method)) {
+                    for (final FlowAnnotation flowAnnotation : FLOW_ANNOTATIONS) {
+                        validate(method, flowAnnotation, true);
+                    }
+                }
+                candidates.add((TypeElement) method.getEnclosingElement());
+            }
+        }
+
+        for (final TypeElement candidate : candidates) {
+            if (candidate.getKind() == ElementKind.CLASS && !candidate.getModifiers().contains(Modifier.ABSTRACT)) {
+                generate(candidate);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates the table of the given {@code Test} class; unless it has no {@code annotation-flow} methods, any of
+     * them are invalid, or it has already been generated.
+     *
+     * @param testClass The {@code Test} class to generate the table of.
+     */
+    private void generate(final TypeElement testClass) {
+        final String binaryName = binaryName(testClass);
+        if (!generated.add(binaryName)) {
+            return;
+        }
+
+        final List<ExecutableElement> methods = methodsOf(testClass);
+        final List<Registration> registrations = new ArrayList<>();
+        for (final FlowAnnotation flowAnnotation : FLOW_ANNOTATIONS) {
+            for (final ExecutableElement method : methods) {
+                if (flowAnnotation.findOn(method).isEmpty()) {
+                    continue;
+                }
+                if (!validate(method, flowAnnotation, false)) {
+                    return;
+                }
+                registrations.add(new Registration(method, flowAnnotation));
+            }
+        }
+        if (registrations.isEmpty()) {
+            return;
+        }
+
+        write(testClass, binaryName, registrations, declaringTypesOf(testClass));
+    }
+
+    /**
+     * Counts the {@code annotation-flow} methods declared by each class (and {@code interface}) of the hierarchy of the
+     * given {@code Test} class, itself included; overridden or not.
+     *
+     * @param testClass The {@code Test} class.
+     * @return The number of {@code annotation-flow} methods declared by each type of the hierarchy which declares any,
+     * by binary name.
+     */
+    private Map<String, Integer> declaringTypesOf(final TypeElement testClass) {
+        final List<TypeElement> hierarchy = new ArrayList<>();
+        final Set<TypeElement> visitedInterfaces = new HashSet<>();
+        for (TypeElement current = testClass; current != null; current = superclassOf(current)) {
+            if (!current.getQualifiedName().contentEquals(Object.class.getName())) {
+                hierarchy.add(current);
+                hierarchy.addAll(interfacesOf(current, visitedInterfaces));
+            }
+        }
+
+        final Map<String, Integer> declaringTypes = new LinkedHashMap<>();
+        for (final TypeElement type : hierarchy) {
+            int declared = 0;
+            for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                for (final FlowAnnotation flowAnnotation : FLOW_ANNOTATIONS) {
+                    if (!flowAnnotation.findOn(method).isEmpty()) {
+                        declared++;
+                        break;
+                    }
+                }
+            }
+            if (declared > 0) {
+                declaringTypes.put(binaryName(type), declared);
+            }
+        }
+        return declaringTypes;
+    }
+
+    /**
+     * Validates the declaration of the given method for the given {@code annotation-flow} {@code Annotation}; matching
+     * the validation of {@code PositiveFlowMethodRegistration} and {@code NegativeFlowMethodRegistration}.
+     *
+     * @param method         The method to validate.
+     * @param flowAnnotation The {@code annotation-flow} {@code Annotation} to validate the method for.
+     * @param report         {@code true} to report each invalid declaration as a compilation error.
+     * @return {@code true} if the declaration is valid (or the method is not annotated by the {@code flowAnnotation});
+     * otherwise {@code false}.
+     */
+    private boolean validate(final ExecutableElement method, final FlowAnnotation flowAnnotation,
+                             final boolean report) {
+        boolean valid = true;
+        for (final AnnotationMirror annotation : flowAnnotation.findOn(method)) {
+            final List<DeclaredType> relevant = valueOf(annotation);
+            final String problem;
+            if (relevant.isEmpty()) {
+                problem = String.format("Empty value in annotation %s on method %s",
+                        flowAnnotation.simpleName, method.getSimpleName());
+            } else if (!flowAnnotation.expectsPresence) {
+                problem = method.getParameters().isEmpty() ?
+                        null : "Illegal parameter list for method " + method.getSimpleName();
+            } else {
+                problem = validateParameters(method, relevant);
+            }
+
+            if (problem != null) {
+                valid = false;
+                if (report) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, problem, method, annotation);
+                }
+            }
+        }
+
+        final List<AnnotationMirror> occurrences = flowAnnotation.findOn(method);
+        for (final Map.Entry<String, Object> member : CONSISTENT_MEMBERS.entrySet()) {
+            if (occurrences.isEmpty()) {
+                break;
+            }
+            final Object first = memberOf(occurrences.get(0), member.getKey(), member.getValue());
+            for (final AnnotationMirror annotation : occurrences) {
+                if (!first.equals(memberOf(annotation, member.getKey(), member.getValue()))) {
+                    valid = false;
+                    if (report) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                "Inconsistent " + member.getKey() + " for method " + method.getSimpleName(), method,
+                                annotation);
+                    }
+                    break;
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Validates that every parameter of the given method is an {@code Annotation} which may be bound from one of the
+     * {@code relevant} {@code Annotations}.
+     *
+     * @param method   The method to validate the parameters of.
+     * @param relevant The {@code Annotations} which the {@code annotation-flow} {@code Annotation} declares an interest
+     *                 in.
+     * @return The description of the first invalid parameter; or {@code null} if all are valid.
+     */
+    private String validateParameters(final ExecutableElement method, final List<DeclaredType> relevant) {
+        parameterLoop:
+        for (final Element parameter : method.getParameters()) {
+            final TypeMirror parameterType = parameter.asType();
+            if (parameterType.getKind() != TypeKind.DECLARED
+                    || ((DeclaredType) parameterType).asElement().getKind() != ElementKind.ANNOTATION_TYPE) {
+                return String.format("Parameter %s is not an Annotation", parameterType);
+            }
+            for (final DeclaredType candidate : relevant) {
+                if (processingEnv.getTypeUtils().isAssignable(candidate, parameterType)) {
+                    continue parameterLoop;
+                }
+            }
+            return String.format("No candidate for parameter %s on method %s",
+                    ((DeclaredType) parameterType).asElement().getSimpleName(), method.getSimpleName());
+        }
+        return null;
+    }
+
+    /**
+     * Lists the methods of the given class and its hierarchy which are not overridden within it; {@code super} classes
+     * ahead of their subclasses (with the default methods of the {@code interfaces} each class implements ahead of its
+     * own), and each class' methods in declaration order.
+     *
+     * @param type The class to list the methods of.
+     * @return The methods of the {@code type}.
+     */
+    private List<ExecutableElement> methodsOf(final TypeElement type) {
+        final List<TypeElement> hierarchy = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            if (!current.getQualifiedName().contentEquals(Object.class.getName())) {
+                hierarchy.add(0, current);
+            }
+        }
+
+        final List<ExecutableElement> methods = new ArrayList<>();
+        final Set<TypeElement> visitedInterfaces = new HashSet<>();
+        for (final TypeElement declaring : hierarchy) {
+            for (final TypeElement implemented : interfacesOf(declaring, visitedInterfaces)) {
+                for (final ExecutableElement method : ElementFilter.methodsIn(implemented.getEnclosedElements())) {
+                    if (method.getModifiers().contains(Modifier.DEFAULT) && !isOverridden(method, type)) {
+                        methods.add(method);
+                    }
+                }
+            }
+            for (final ExecutableElement method : ElementFilter.methodsIn(declaring.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.ABSTRACT) && !isOverridden(method, type)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Whether the given method is overridden by any other method of the given class' hierarchy.
+     *
+     * @param method The method to check.
+     * @param type   The class whose hierarchy to check.
+     * @return {@code true} if the {@code method} is overridden within the hierarchy of the {@code type}.
+     */
+    private boolean isOverridden(final ExecutableElement method, final TypeElement type) {
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            for (final ExecutableElement candidate : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (candidate != method && processingEnv.getElementUtils().overrides(candidate, method, type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the table of the given {@code Test} class.
+     *
+     * @param testClass      The {@code Test} class to write the table of.
+     * @param binaryName     The binary name of the {@code testClass}.
+     * @param registrations  The {@code annotation-flow} registrations of the {@code testClass}, in dispatch order.
+     * @param declaringTypes The number of {@code annotation-flow} methods declared by each type of the hierarchy of
+     *                       the {@code testClass}, by binary name.
+     */
+    private void write(final TypeElement testClass, final String binaryName, final List<Registration> registrations,
+                       final Map<String, Integer> declaringTypes) {
+        final PackageElement testPackage = processingEnv.getElementUtils().getPackageOf(testClass);
+        final String packageName = testPackage.isUnnamed() ? "" : testPackage.getQualifiedName().toString();
+        final String tableName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + SUFFIX;
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Generated {@code annotation-flow} dispatch table for {@code ").append(binaryName)
+                .append("}.\n")
+                .append(" */\n")
+                .append("public final class ").append(tableName).append(" implements ").append(DISPATCH_TABLE)
+                .append(" {\n\n")
+                .append("    private static final String[][] FLOW_METHODS = {\n");
+        for (final Registration registration : registrations) {
+            source.append("            {");
+            final List<String> description = registration.describe();
+            for (int i = 0; i < description.size(); i++) {
+                source.append(i == 0 ? "" : ", ").append('"').append(description.get(i)).append('"');
+            }
+            source.append("},\n");
+        }
+        source.append("    };\n\n")
+                .append("    private static final String[][] HIERARCHY = {\n");
+        for (final Map.Entry<String, Integer> declaringType : declaringTypes.entrySet()) {
+            source.append("            {\"").append(declaringType.getKey()).append("\", \"")
+                    .append(declaringType.getValue()).append("\"},\n");
+        }
+        source.append("    };\n\n")
+                .append("    @Override\n")
+                .append("    public String[][] getFlowMethods() {\n")
+                .append("        return FLOW_METHODS;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String[][] getHierarchy() {\n")
+                .append("        return HIERARCHY;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        final String qualifiedTableName = packageName.isEmpty() ? tableName : packageName + '.' + tableName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedTableName, testClass).openWriter()) {
+            writer.write(source.toString());
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not generate annotation-flow dispatch table: " + e.getMessage(), testClass);
+        }
+    }
+
+    /**
+     * Names the given type as {@link Class#getName()} would at runtime.
+     *
+     * @param type The type to name.
+     * @return The runtime name of the (erasure of the) {@code type}.
+     */
+    private String runtimeName(final TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case DECLARED:
+                return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+            case ARRAY:
+                return '[' + descriptor(((ArrayType) erased).getComponentType());
+            default:
+                return erased.toString();
+        }
+    }
+
+    /**
+     * Describes the given array component type as {@link Class#getName()} would at runtime.
+     *
+     * @param type The array component type to describe.
+     * @return The runtime descriptor of the (erasure of the) {@code type}; e.g. {@code I} or {@code
+     * Ljava.lang.String;}.
+     */
+    private String descriptor(final TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        switch (erased.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return runtimeName(erased);
+            default:
+                return 'L' + runtimeName(erased) + ';';
+        }
+    }
+
+    /**
+     * @param type The type to name.
+     * @return The binary name of the {@code type}.
+     */
+    private String binaryName(final TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * @param type The class to find the {@code super} class of.
+     * @return The {@code super} class of the {@code type}; or {@code null} if it has none.
+     */
+    private static TypeElement superclassOf(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    /**
+     * Lists the {@code interfaces} (and, recursively, their {@code super} {@code interfaces}) of the given type which
+     * have not already been {@code visited}.
+     *
+     * @param type    The type to list the {@code interfaces} of.
+     * @param visited The {@code interfaces} already listed; updated with those listed now.
+     * @return The newly listed {@code interfaces}.
+     */
+    private static List<TypeElement> interfacesOf(final TypeElement type, final Set<TypeElement> visited) {
+        final List<TypeElement> interfaces = new ArrayList<>();
+        for (final TypeMirror implemented : type.getInterfaces()) {
+            final TypeElement element = (TypeElement) ((DeclaredType) implemented).asElement();
+            if (visited.add(element)) {
+                interfaces.add(element);
+                interfaces.addAll(interfacesOf(element, visited));
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * @param annotation The {@code Annotation} to name.
+     * @return The qualified name of the {@code annotation's} type.
+     */
+    private static String qualifiedNameOf(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Reads the {@code value} of the given {@code annotation-flow} {@code Annotation}.
+     *
+     * @param annotation The {@code annotation-flow} {@code Annotation} to read.
+     * @return The {@code Annotation} types which the {@code annotation} declares an interest in.
+     */
+    private static List<DeclaredType> valueOf(final AnnotationMirror annotation) {
+        final List<DeclaredType> types = new ArrayList<>();
+        for (final AnnotationValue value : listValueOf(annotation)) {
+            types.add((DeclaredType) value.getValue());
+        }
+        return types;
+    }
+
+    /**
+     * @param annotation The {@code annotation-flow} {@code Annotation} to read.
+     * @param member       The name of the member to read; e.g. {@code async}.
+     * @param defaultValue The default value of the {@code member}.
+     * @return The {@code member} of the {@code annotation}; or the {@code defaultValue} if it has none (or it is not
+     * set).
+     */
+    private static Object memberOf(final AnnotationMirror annotation, final String member,
+                                   final Object defaultValue) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> element :
+                annotation.getElementValues().entrySet()) {
+            if (element.getKey().getSimpleName().contentEquals(member)) {
+                return element.getValue().getValue();
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * @param annotation The {@code Annotation} to read.
+     * @return The elements of the (array) {@code value} of the {@code annotation}.
+     */
+    @SuppressWarnings("unchecked") // The value of an array valued annotation member is always a list.
+    private static List<? extends AnnotationValue> listValueOf(final AnnotationMirror annotation) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> member :
+                annotation.getElementValues().entrySet()) {
+            if (member.getKey().getSimpleName().contentEquals("value")) {
+                return (List<? extends AnnotationValue>) member.getValue().getValue();
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * One of the {@code annotation-flow} {@code Annotations}.
+     */
+    private static final class FlowAnnotation {
+
+        /**
+         * The simple name of the {@code Annotation}.
+         */
+        private final String simpleName;
+
+        /**
+         * {@code true} if the {@code Annotation} expects the presence of the {@code Annotations} in its {@code value};
+         * otherwise {@code false}.
+         */
+        private final boolean expectsPresence;
+
+        /**
+         * Constructor.
+         *
+         * @param simpleName      The simple name of the {@code Annotation}.
+         * @param expectsPresence {@code true} if the {@code Annotation} expects the presence of the {@code
+         *                        Annotations} in its {@code value}; otherwise {@code false}.
+         */
+        FlowAnnotation(final String simpleName, final boolean expectsPresence) {
+            this.simpleName = simpleName;
+            this.expectsPresence = expectsPresence;
+        }
+
+        /**
+         * @return The qualified name of the {@code Annotation}.
+         */
+        String qualifiedName() {
+            return FLOW_PACKAGE + '.' + simpleName;
+        }
+
+        /**
+         * Finds the occurrences of this {@code Annotation} on the given method; whether declared directly, or
+         * repeated within its container {@code Annotation}.
+         *
+         * @param method The method to find the occurrences on.
+         * @return The occurrences of this {@code Annotation}, in declaration order.
+         */
+        List<AnnotationMirror> findOn(final ExecutableElement method) {
+            final List<AnnotationMirror> found = new ArrayList<>();
+            for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                final String name = qualifiedNameOf(annotation);
+                if (name.equals(qualifiedName())) {
+                    found.add(annotation);
+                } else if (name.equals(qualifiedName() + 's')) {
+                    for (final AnnotationValue repeated : listValueOf(annotation)) {
+                        found.add((AnnotationMirror) repeated.getValue());
+                    }
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * The registration of a single method for a single {@code annotation-flow} {@code Annotation}.
+     */
+    private final class Registration {
+
+        /**
+         * The {@code annotation-flow} {@code annotated} method.
+         */
+        private final ExecutableElement method;
+
+        /**
+         * The {@code annotation-flow} {@code Annotation} registered for.
+         */
+        private final FlowAnnotation flowAnnotation;
+
+        /**
+         * Constructor.
+         *
+         * @param method         The {@code annotation-flow} {@code annotated} method.
+         * @param flowAnnotation The {@code annotation-flow} {@code Annotation} registered for.
+         */
+        Registration(final ExecutableElement method, final FlowAnnotation flowAnnotation) {
+            this.method = method;
+            this.flowAnnotation = flowAnnotation;
+        }
+
+        /**
+         * @return The description of this registration, as listed in {@code FlowDispatchTable.getFlowMethods()}.
+         */
+        List<String> describe() {
+            final List<String> description = new ArrayList<>();
+            description.add(binaryName((TypeElement) method.getEnclosingElement()));
+            description.add(method.getSimpleName().toString());
+            description.add(flowAnnotation.qualifiedName());
+            for (final Element parameter : method.getParameters()) {
+                description.add(runtimeName(parameter.asType()));
+            }
+            return description;
+        }
+    }
+}
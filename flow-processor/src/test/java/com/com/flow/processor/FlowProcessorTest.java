@@ -0,0 +1,151 @@
+package com.com.flow.processor;
+
+import com.com.flow.FlowDispatchTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowProcessorTest {
+
+    private static final String ANNOTATIONS = "package sample;\n"
+            + "import java.lang.annotation.*;\n"
+            + "@Retention(RetentionPolicy.RUNTIME) @interface Fast {}\n"
+            + "@Retention(RetentionPolicy.RUNTIME) @interface Slow {}\n"
+            + "@Retention(RetentionPolicy.RUNTIME) @Slow @interface VerySlow {}\n"
+            + "@interface NotRetained {}\n";
+
+    private static final String VALID = "package sample;\n"
+            + "import com.com.flow.*;\n"
+            + "import org.junit.jupiter.api.Test;\n"
+            + "class ValidTest {\n"
+            + "    @BeforeAnnotated(Fast.class) void fast(final Fast fast) {}\n"
+            + "    @BeforeNotAnnotated(Slow.class) @AfterAnnotated(Slow.class) void notSlow() {}\n"
+            + "    @AfterAnnotated(NotRetained.class) void neverDispatched() {}\n"
+            + "    @Test @Fast void fastTest() {}\n"
+            + "    @Test @VerySlow void slowTest(final String[] names, final int count) {}\n"
+            + "}\n";
+
+    private static final String INVALID = "package sample;\n"
+            + "import com.com.flow.*;\n"
+            + "import org.junit.jupiter.api.Test;\n"
+            + "class InvalidTest {\n"
+            + "    @BeforeAnnotated(Fast.class) void notAnnotation(final String parameter) {}\n"
+            + "    @AfterNotAnnotated(Slow.class) void parameterOnNegative(final Slow slow) {}\n"
+            + "    @AfterAnnotated(value = Fast.class, async = true) @AfterAnnotated(Slow.class) void mixed() {}\n"
+            + "    @BeforeAnnotated(Fast.class) @AfterNotAnnotated(Fast.class) void twice(final Fast fast) {}\n"
+            + "    @Test @Fast void test() {}\n"
+            + "}\n";
+
+    private Path output;
+
+    @BeforeEach
+    void createOutput() throws IOException {
+        output = Files.createTempDirectory("flow-processor");
+    }
+
+    @AfterEach
+    void deleteOutput() throws IOException {
+        try (Stream<Path> paths = Files.walk(output)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @DisplayName("A dispatch table is generated for a class with valid flow methods")
+    @Test
+    void testDispatchTableGenerated() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(output, ANNOTATIONS, VALID);
+        assertTrue(diagnostics.getDiagnostics().stream().noneMatch(d -> d.getKind() == Diagnostic.Kind.ERROR),
+                diagnostics.getDiagnostics().toString());
+
+        final URL[] classPath = {output.toUri().toURL()};
+        try (URLClassLoader loader = new URLClassLoader(classPath, getClass().getClassLoader())) {
+            final FlowDispatchTable table = (FlowDispatchTable) loader
+                    .loadClass("sample.ValidTest" + FlowDispatchTable.SUFFIX).getConstructor().newInstance();
+
+            final String[][] flowMethods = table.getFlowMethods();
+            assertEquals(4, flowMethods.length);
+            assertArrayEquals(new String[]{"sample.ValidTest", "fast", "com.com.flow.BeforeAnnotated", "sample.Fast"},
+                    flowMethods[0]);
+            assertArrayEquals(new String[]{"sample.ValidTest", "notSlow", "com.com.flow.BeforeNotAnnotated"},
+                    flowMethods[1]);
+            assertArrayEquals(new String[]{"sample.ValidTest", "notSlow", "com.com.flow.AfterAnnotated"},
+                    flowMethods[2]);
+            assertArrayEquals(new String[]{"sample.ValidTest", "neverDispatched", "com.com.flow.AfterAnnotated"},
+                    flowMethods[3]);
+
+            final String[][] hierarchy = table.getHierarchy();
+            assertEquals(1, hierarchy.length);
+            assertArrayEquals(new String[]{"sample.ValidTest", "3"}, hierarchy[0]);
+        }
+    }
+
+    @DisplayName("Every invalid flow method is reported as a compilation error once, and no table is generated")
+    @Test
+    void testInvalidDeclarationsReported() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = compile(output, ANNOTATIONS, INVALID);
+
+        final List<String> errors = new ArrayList<>();
+        for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        Collections.sort(errors);
+        assertEquals(Arrays.asList("Illegal parameter list for method parameterOnNegative",
+                "Illegal parameter list for method twice",
+                "Inconsistent async for method mixed",
+                "Parameter java.lang.String is not an Annotation"), errors);
+        assertFalse(Files.exists(output.resolve("sample/InvalidTest" + FlowDispatchTable.SUFFIX + ".class")));
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(final Path output, final String... sources) {
+        final List<JavaFileObject> units = new ArrayList<>();
+        for (int i = 0; i < sources.length; i++) {
+            final String source = sources[i];
+            units.add(new SimpleJavaFileObject(URI.create("string:///sample/Source" + i + ".java"),
+                    JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            });
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                Arrays.asList("-d", output.toString(), "-s", output.toString(),
+                        "-classpath", System.getProperty("java.class.path")),
+                null, units);
+        task.setProcessors(Collections.singletonList(new FlowProcessor()));
+        task.call();
+        return diagnostics;
+    }
+}
@@ -1,137 +1,164 @@
 package com.com.flow;
 
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.TestExtensionContext;
-import org.junit.platform.commons.util.AnnotationUtils;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.lang.reflect.Parameter;
 
 /**
  * {@link org.junit.jupiter.api.extension.Extension} which handles the {@link Method#invoke(Object, Object...)
  * invocation} of methods annotated by annotation-flow {@link Annotation Annotations}.
+ * <p>
+ * A thin adapter of the framework-neutral {@link FlowEngine} to JUnit Jupiter; which shares its cache of compiled
+ * plans with every other adapter in the JVM (e.g. the JUnit 4 {@code AnnotationFlowRule}, when run alongside through
+ * the vintage engine).
+ * <p>
+ * The declarations of all {@code annotation-flow} {@code Methods} of a {@code Test} {@link Class} are validated once,
+ * before any of its {@code Tests} are run; if any are invalid, the whole {@code Class} fails with a single report of
+ * every invalid declaration.
+ * <p>
+ * The values returned by the {@code before} {@code annotation-flow} {@code Methods} invoked for a {@code Test} may be
+ * injected into its {@link FlowResult} parameters; and, for {@link Memoized} {@code Methods}, reused by later {@code
+ * Tests}.
+ * <p>
+ * {@link Measure Measured} {@code Tests} are also run as microbenchmarks; between their {@code before} and {@code
+ * after} {@code annotation-flow} {@code Methods}, so that fixtures are not counted as measured cost.
+ * <p>
+ * Each dispatch is reported to the {@link FlowListener FlowListeners} discovered through the {@link
+ * java.util.ServiceLoader}; which are also given the chance to publish report entries once each {@code Test} {@link
+ * Class} has finished.
  *
+ * @see BeforeAllAnnotated
  * @see BeforeAnnotated
  * @see BeforeNotAnnotated
  * @see AfterAnnotated
  * @see AfterNotAnnotated
+ * @see AfterAllAnnotated
  */
-public final class AnnotationFlow implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+public final class AnnotationFlow
+        implements BeforeAllCallback, BeforeTestExecutionCallback, AfterTestExecutionCallback, AfterAllCallback,
+        ParameterResolver {
 
     /**
-     * Generates a {@link List} of the {@link FlowMethodRegistration FlowMethodRegistrations} for the specified {@link
-     * Class}.
-     *
-     * @param testClass       The {@code Class} of the currently executing {@code Test}.  Methods for this {@code Class}
-     *                        and all {@code super} {@code classes} will be scanned for relevant methods.
-     * @param annotationClass The {@code Class} of the {@code Annotation} to scan for {@link Method Methods} annotated
-     *                        by.
-     * @param expectsPresence {@code true} if the given {@code Annotation} expects the presence of the {@code
-     *                        Annotations} specified in its {@code value} {@code method} (i.e. {@link BeforeAnnotated}
-     *                        or {@link AfterAnnotated}); otherwise {@code false}.
-     * @param <T>             The {@code Type} of the {@code annotationClass}.
-     * @return A {@code List} of the {@code FlowMethodRegistrations} generated from the provided {@code testClass}.
-     * Upon return, each method will have had its declaration validated.
+     * The {@link FlowEngine}, bound to JUnit Jupiter.
      */
-    private static <T extends Annotation> List<FlowMethodRegistration<T>> buildRegistrations(
-            final Class<?> testClass, final Class<T> annotationClass, final boolean expectsPresence) {
-
-        final List<Method> annotatedMethods = ReflectionUtils.findMethods(testClass,
-                method -> !AnnotationUtils.findRepeatableAnnotations(method, annotationClass).isEmpty());
+    private static final FlowEngine<TestExtensionContext> ENGINE = new FlowEngine<>(new JupiterFlowAdapter());
 
-        return annotatedMethods.stream()
-                .map(method -> expectsPresence ?
-                        new PositiveFlowMethodRegistration<>(method, annotationClass) :
-                        new NegativeFlowMethodRegistration<>(method, annotationClass))
-                .collect(Collectors.toList());
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compiles (and caches) the {@link FlowPlan} of the {@code Test} {@link Class}, validating the declarations of all
+     * of its {@code annotation-flow} {@link Method Methods} up front.
+     *
+     * @throws FlowDeclarationException If any of the declarations are invalid; failing the whole {@code Class} before
+     *                                  any of its {@code Tests} are run.
+     */
+    @Override
+    public void beforeAll(final ContainerExtensionContext context) throws Exception {
+        context.getTestClass().ifPresent(FlowEngine::verify);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Invokes the {@link BeforeAnnotated} and {@link BeforeNotAnnotated} {@link
-     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link Method Methods} of the currently
-     * executing {@link org.junit.jupiter.api.Test}, for which the {@code Annotations} of the current {@code Test}
-     * {@code Method} honour.
+     * Invokes the {@code before} {@code annotation-flow} {@link Method Methods} honoured by the currently executing
+     * {@link org.junit.jupiter.api.Test}.
+     *
+     * @see FlowEngine#beforeTest(Object)
      */
     @Override
     public void beforeTestExecution(final TestExtensionContext context) throws Exception {
-        invokeHonouredAnnotatedMethods(context, BeforeAnnotated.class, BeforeNotAnnotated.class);
+        ENGINE.beforeTest(context);
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Invokes the {@link AfterAnnotated} and {@link AfterNotAnnotated} {@link
-     * java.lang.reflect.AnnotatedElement#isAnnotationPresent(Class) annotated} {@link Method Methods} of the currently
-     * executing {@link org.junit.jupiter.api.Test}, for which the {@code Annotations} of the current {@code Test}
-     * {@code Method} honour.
+     * Runs the currently executing {@link org.junit.jupiter.api.Test} as a microbenchmark, if it is {@link Measure
+     * measured}; then invokes the {@code after} {@code annotation-flow} {@link Method Methods} it honours.
+     *
+     * @see FlowEngine#afterTest(Object)
      */
     @Override
     public void afterTestExecution(final TestExtensionContext context) throws Exception {
-        invokeHonouredAnnotatedMethods(context, AfterAnnotated.class, AfterNotAnnotated.class);
+        ENGINE.afterTest(context);
     }
 
     /**
-     * Invokes the {@link Method Methods} {@code annotated} by either of the given {@link Class classes} which are
-     * honoured by the currently executing {@code Test} {@code Method}.
+     * {@inheritDoc}
+     * <p>
+     * Invokes any {@link AfterAllAnnotated} {@link Method Methods} still pending, and joins any outstanding {@link
+     * AfterAnnotated#async() asynchronous} invocations of the {@code Test} {@link Class}; then notifies the {@link
+     * FlowListener FlowListeners} that the {@code Class} has finished, allowing them to publish their report entries.
      *
-     * @param context                         The {@link TestExtensionContext} which is currently underway.
-     * @param expectantFlowAnnotationClass    The {@code Class} of the {@link Annotation} which expects the presence of
-     *                                        the {@code Annotations} specified in its {@code value} {@code Method}.
-     *                                        Should be either:
-     *                                        <ul>
-     *                                        <li>{@link BeforeAnnotated}; or</li>
-     *                                        <li>{@link AfterAnnotated}.</li>
-     *                                        </ul>
-     * @param nonExpectantFlowAnnotationClass The {@code Class} of the {@code Annotation} which expects the absence of
-     *                                        the {@code Annotations} specified in its {@code value} {@code Method}.
-     *                                        Should be either:
-     *                                        <ul>
-     *                                        <li>{@link BeforeNotAnnotated}; or</li>
-     *                                        <li>{@link AfterNotAnnotated}.</li>
-     *                                        </ul>
-     * @param <E>                             The {@code Type} of the {@code expectantFlowAnnotationClass}.
-     * @param <N>                             The {@code Type} of the {@code nonExpectantFlowAnnotationClass}.
+     * @throws AsyncFlowInvocations.AsyncFlowException If any of the asynchronous invocations failed.
+     * @see FlowEngine#finishClass(Class, FlowClassExecution, java.util.function.Consumer)
      */
-    private <E extends Annotation, N extends Annotation> void invokeHonouredAnnotatedMethods(
-            final TestExtensionContext context,
-            final Class<E> expectantFlowAnnotationClass,
-            final Class<N> nonExpectantFlowAnnotationClass) {
-
-        @SuppressWarnings("OptionalGetWithoutIsPresent") // Private method, ensured to be present.
-        final Method testMethod = context.getTestMethod().get();
-        @SuppressWarnings("OptionalGetWithoutIsPresent") // Private method, ensured to be present.
-        final Class<?> testClass = context.getTestClass().get();
-
-        // Find all of the annotated methods (checking their declarations).
-        final List<FlowMethodRegistration<E>> expectantAnnotatedRegistrations =
-                buildRegistrations(testClass, expectantFlowAnnotationClass, true);
-
-        final List<FlowMethodRegistration<N>> nonExpectantAnnotatedRegistrations =
-                buildRegistrations(testClass, nonExpectantFlowAnnotationClass, false);
+    @Override
+    public void afterAll(final ContainerExtensionContext context) throws Exception {
+        final FlowClassExecution classExecution = JupiterFlowAdapter.removeClassExecution(context);
+        context.getTestClass().ifPresent(testClass ->
+                FlowEngine.finishClass(testClass, classExecution, context::publishReportEntry));
+    }
 
-        // Invoke all of the *Annotated methods which require invocation.
-        final List<Method> invoked = new ArrayList<>();
-        expectantAnnotatedRegistrations.stream().filter(registration ->
-                registration.shouldInvokeFor(testMethod)).forEachOrdered(registration -> {
-            registration.invokeFor(testMethod, context.getTestInstance());
-            invoked.add(registration.getMethod());
-        });
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Supports the {@link FlowResult} and {@link Blackhole} {@link Parameter Parameters} of {@code Test} {@link Method
+     * Methods}; and the {@link DynamicFlows} (or {@link FlowInvocations}) {@code Parameters} of {@link
+     * org.junit.jupiter.api.TestFactory TestFactories}.
+     */
+    @Override
+    public boolean supports(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        final Parameter parameter = parameterContext.getParameter();
+        return FlowEngine.supports(parameter) || isDynamicFlows(parameter);
+    }
 
-        // Invoke all of the *NotAnnotated methods which require invocation, and have not yet been.
-        nonExpectantAnnotatedRegistrations.stream().filter(registration ->
-                !invoked.contains(registration.getMethod()) &&
-                        registration.shouldInvokeFor(testMethod)).forEachOrdered(registration -> {
-            registration.invokeFor(testMethod, context.getTestInstance());
-            invoked.add(registration.getMethod());
-        });
+    /**
+     * @param parameter The {@link Parameter} of a {@code Test} {@link Method}.
+     * @return {@code true} if the {@code parameter} is resolved to the {@link DynamicFlows} of the {@code Test};
+     * otherwise {@code false}.
+     */
+    private static boolean isDynamicFlows(final Parameter parameter) {
+        return parameter.getType() == DynamicFlows.class || parameter.getType() == FlowInvocations.class;
     }
 
-    // TODO (06-09-2016): Implement as TestRule for junit 4.x compatability?
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Resolves the {@link FlowResult} {@link Parameter} to the value returned by the {@code annotation-flow} {@link
+     * Method} it names; or if it names none, to the only value returned for the currently executing {@code Test} which
+     * is assignable to it.  {@code Blackhole} {@code Parameters} are resolved to a new {@link Blackhole}, and {@link
+     * DynamicFlows} {@code Parameters} to the {@code DynamicFlows} bound to the {@code Test}.
+     *
+     * @throws ParameterResolutionException If there is no such value, or (if the {@code Parameter} names no {@code
+     *                                      Method}) more than one; or the {@code Parameter} is not of a {@code Test}.
+     * @see FlowEngine#resolve(Object, Parameter)
+     */
+    @Override
+    public Object resolve(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        final Parameter parameter = parameterContext.getParameter();
+        if (!(extensionContext instanceof TestExtensionContext)) {
+            throw new ParameterResolutionException(
+                    "annotation-flow results are only resolved for tests, not for parameter " + parameter.getName());
+        }
+        if (isDynamicFlows(parameter)) {
+            return new DynamicFlows(ENGINE.invocationsOf((TestExtensionContext) extensionContext));
+        }
+        try {
+            return ENGINE.resolve((TestExtensionContext) extensionContext, parameter);
+        } catch (final FlowConfigurationException unresolved) {
+            throw new ParameterResolutionException(unresolved.getMessage(), unresolved);
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.com.flow;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Executable;
+
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
+/**
+ * {@link FlowInvocations} of a Jupiter {@link org.junit.jupiter.api.TestFactory}; through which each of its {@link
+ * DynamicTest DynamicTests} is wrapped by the {@code before} and {@code after} {@code annotation-flow} {@link Method
+ * Methods} honoured by the factory, as Jupiter invokes no {@code Extension} callbacks around {@code DynamicTests}.
+ * <p>
+ * Resolved by {@link AnnotationFlow} for a factory {@link java.lang.reflect.Parameter} of this {@code Type}, which
+ * makes the factory {@link FlowInvocations dispatched per invocation}:
+ * <pre>{@code
+ * @BeforeAnnotated(Connected.class)
+ * Connection connect() { ... }
+ *
+ * @Connected
+ * @TestFactory
+ * Stream<DynamicTest> queries(final DynamicFlows flows) {
+ *     return flows.each(queries().map(query ->
+ *             dynamicTest(query, () -> run(query, flows.getResult(Connection.class)))));
+ * }
+ * }</pre>
+ * The {@code DynamicTests} are wrapped lazily, as Jupiter consumes them; so streaming factories (of any number of
+ * {@code DynamicTests}) are never materialised, and no state is held per {@code DynamicTest}.
+ */
+public final class DynamicFlows implements FlowInvocations {
+
+    /**
+     * The {@link FlowInvocations} bound to the {@link org.junit.jupiter.api.TestFactory}.
+     */
+    private final FlowInvocations invocations;
+
+
+    /**
+     * Constructor.
+     *
+     * @param invocations The {@link FlowInvocations} bound to the {@link org.junit.jupiter.api.TestFactory}.
+     */
+    DynamicFlows(final FlowInvocations invocations) {
+        this.invocations = invocations;
+    }
+
+    /**
+     * Wraps each of the given {@link DynamicTest DynamicTests}, as it is consumed, by the {@code before} and {@code
+     * after} {@code annotation-flow} {@link Method Methods} honoured by the {@link org.junit.jupiter.api.TestFactory}.
+     *
+     * @param dynamicTests The {@code DynamicTests} to wrap.
+     * @return The wrapped {@code DynamicTests}.
+     */
+    public Stream<DynamicTest> each(final Stream<DynamicTest> dynamicTests) {
+        return dynamicTests.map(dynamicTest -> dynamicTest(dynamicTest.getDisplayName(), dynamicTest.getExecutable()));
+    }
+
+    /**
+     * Creates a {@link DynamicTest} which executes the given {@code executable} between the {@code before} and {@code
+     * after} {@code annotation-flow} {@link Method Methods} honoured by the {@link org.junit.jupiter.api.TestFactory}.
+     * The {@code after} {@code Methods} are invoked even if the {@code executable} (or a {@code before} {@code Method})
+     * failed.
+     *
+     * @param displayName The display name of the {@code DynamicTest}.
+     * @param executable  The body of the {@code DynamicTest}.
+     * @return The {@code DynamicTest}.
+     */
+    public DynamicTest dynamicTest(final String displayName, final Executable executable) {
+        return DynamicTest.dynamicTest(displayName, () -> {
+            try {
+                invocations.before();
+                executable.execute();
+            } finally {
+                invocations.after();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void before() {
+        invocations.before();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void after() {
+        invocations.after();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T getResult(final String flowMethodName, final Class<T> type) {
+        return invocations.getResult(flowMethodName, type);
+    }
+}
@@ -0,0 +1,141 @@
+package com.com.flow;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Orders the {@code Tests} of a {@code Test} {@link Class} so as to minimise the transitions between the {@code
+ * annotation-flow} {@link Method Methods} they invoke.
+ * <p>
+ * {@code Tests} are grouped by their signature; being the set of {@code annotation-flow} registrations (of every
+ * {@link FlowPhase}) which they satisfy, as matched against the {@code Annotations} present on them.  The groups are
+ * then ordered greedily, starting from the group with the cheapest signature, and each time moving to the group which
+ * is cheapest to transition to; the cost of a transition being the sum of the costs of the registrations which are
+ * satisfied by only one of the two groups.  {@code Tests} within a group (and ties between groups) keep their discovery
+ * order.  Running {@code Tests} in this order keeps {@link BeforeAllAnnotated class-level} and {@link Memoized}
+ * fixtures warm for as long as they are needed, and lets {@link AfterAllAnnotated} teardowns run as early as possible.
+ * <p>
+ * This is the order which a Jupiter {@code MethodOrderer} would apply to the {@code Tests} of an {@link AnnotationFlow}
+ * class; the Jupiter version targeted here neither orders {@code Test} {@code Methods} nor executes them in the order
+ * they are selected, so it is the public entry point for launchers (and engines) which can apply an order:
+ * <pre>{@code
+ * for (final Method test : FlowMethodOrder.order(ConnectedTest.class, recordedMeanLatencies::get)) {
+ *     execute(test);
+ * }
+ * }</pre>
+ */
+public final class FlowMethodOrder {
+
+    /**
+     * Private constructor; static utility.
+     */
+    private FlowMethodOrder() {
+    }
+
+    /**
+     * Orders the {@code Tests} of the given {@code Test} {@link Class}, treating every {@code annotation-flow} {@link
+     * Method} as equally costly.
+     *
+     * @param testClass The {@code Test} {@code Class} to order the {@code Tests} of.
+     * @return The {@code Test} {@code Methods} of the {@code testClass}, in order.
+     * @throws RuntimeException If any of the {@code annotation-flow} declarations of the {@code testClass} are
+     *                          invalid.
+     * @see #order(Class, ToDoubleFunction)
+     */
+    public static List<Method> order(final Class<?> testClass) {
+        return order(testClass, flowMethod -> 1.0);
+    }
+
+    /**
+     * Orders the {@code Tests} of the given {@code Test} {@link Class}, by the given costs of its {@code
+     * annotation-flow} {@link Method Methods}; e.g. their mean latencies, as recorded by the {@link
+     * FlowLatencyRecorder} in an earlier run.
+     *
+     * @param testClass      The {@code Test} {@code Class} to order the {@code Tests} of.
+     * @param flowMethodCost The cost of invoking each {@code annotation-flow} {@code Method}; which must be finite.
+     * @return The {@code Test} {@code Methods} of the {@code testClass}, in order.
+     * @throws IllegalArgumentException If the {@code flowMethodCost} of any {@code annotation-flow} {@code Method} is
+     *                                  not finite.
+     * @throws RuntimeException         If any of the {@code annotation-flow} declarations of the {@code testClass}
+     *                                  are invalid.
+     */
+    public static List<Method> order(final Class<?> testClass, final ToDoubleFunction<Method> flowMethodCost) {
+        final FlowPlan plan = FlowEngine.getPlan(testClass);
+
+        final List<FlowMethodRegistration<?>> registrations = new ArrayList<>();
+        final List<FlowPhase> phases = new ArrayList<>();
+        for (final FlowPhase phase : FlowPhase.values()) {
+            for (final FlowMethodRegistration<?> registration : plan.getRegistrations(phase)) {
+                registrations.add(registration);
+                phases.add(phase);
+            }
+        }
+        final double[] costs = new double[registrations.size()];
+        for (int i = 0; i < costs.length; i++) {
+            final Method flowMethod = registrations.get(i).getMethod();
+            costs[i] = flowMethodCost.applyAsDouble(flowMethod);
+            if (Double.isNaN(costs[i]) || Double.isInfinite(costs[i])) {
+                throw new IllegalArgumentException("Illegal cost " + costs[i] + " of annotation-flow method "
+                        + flowMethod.getName() + "; must be finite");
+            }
+        }
+
+        // Group the tests by signature, keeping discovery order.
+        final Map<BitSet, List<Method>> groups = new LinkedHashMap<>();
+        for (final Method testMethod : plan.getTestMethods()) {
+            final TestMethodPlan testMethodPlan = plan.getTestMethodPlan(testMethod);
+            final BitSet signature = new BitSet(costs.length);
+            final int[] phaseIndices = new int[FlowPhase.values().length];
+            for (int i = 0; i < costs.length; i++) {
+                if (testMethodPlan.getArguments(phases.get(i), phaseIndices[phases.get(i).ordinal()]++) != null) {
+                    signature.set(i);
+                }
+            }
+            groups.computeIfAbsent(signature, ignored -> new ArrayList<>()).add(testMethod);
+        }
+
+        // Order the groups greedily, from the cheapest signature.
+        final List<BitSet> remaining = new ArrayList<>(groups.keySet());
+        final List<Method> ordered = new ArrayList<>();
+        BitSet current = new BitSet();
+        while (!remaining.isEmpty()) {
+            BitSet next = remaining.get(0);
+            double nextCost = transitionCost(current, next, costs);
+            for (final BitSet candidate : remaining.subList(1, remaining.size())) {
+                final double cost = transitionCost(current, candidate, costs);
+                if (cost < nextCost) {
+                    next = candidate;
+                    nextCost = cost;
+                }
+            }
+            remaining.remove(next);
+            ordered.addAll(groups.get(next));
+            current = next;
+        }
+        return Collections.unmodifiableList(ordered);
+    }
+
+    /**
+     * Calculates the cost of transitioning between two signatures.
+     *
+     * @param from  The signature of the preceding group.
+     * @param to    The signature of the following group.
+     * @param costs The cost of each registration, by index into the signatures.
+     * @return The sum of the costs of the registrations which are satisfied by only one of the signatures.
+     */
+    private static double transitionCost(final BitSet from, final BitSet to, final double[] costs) {
+        final BitSet difference = (BitSet) from.clone();
+        difference.xor(to);
+        double cost = 0.0;
+        for (int i = difference.nextSetBit(0); i >= 0; i = difference.nextSetBit(i + 1)) {
+            cost += costs[i];
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,127 @@
+package com.com.flow;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link FlowAdapter} binding the {@link FlowEngine} to JUnit Jupiter, for {@link AnnotationFlow}.
+ * <p>
+ * The {@link FlowClassExecution} of each {@code Test} {@link Class} is held in the {@link ExtensionContext.Store} of
+ * the {@code Class'} {@code ExtensionContext}, so that it spans every {@code Test} of a single execution of the {@code
+ * Class}; and the values returned for each {@code Test} in the {@code Store} of the {@code Test's} own.
+ */
+final class JupiterFlowAdapter implements FlowAdapter<TestExtensionContext> {
+
+    /**
+     * The {@link Namespace} in which the {@link FlowClassExecution} of each {@code Test} {@link Class}, and the values
+     * returned for each {@code Test}, are stored.
+     */
+    private static final Namespace NAMESPACE = Namespace.create(AnnotationFlow.class);
+
+    /**
+     * The key under which the {@link FlowClassExecution} of each {@code Test} {@link Class} is stored.
+     */
+    private static final String CLASS_EXECUTION = "classExecution";
+
+    /**
+     * The key under which the values returned by the {@code annotation-flow} {@link Method Methods} invoked for each
+     * {@code Test} are stored.
+     */
+    private static final String RESULTS = "results";
+
+
+    /**
+     * Removes the {@link FlowClassExecution} of the {@code Test} {@link Class} which has finished.
+     *
+     * @param classContext The {@link ExtensionContext} of the {@code Test} {@code Class}.
+     * @return The {@code FlowClassExecution} of the {@code Test} {@code Class}; or {@code null} if none of its {@code
+     * Tests} needed one.
+     */
+    static FlowClassExecution removeClassExecution(final ExtensionContext classContext) {
+        return classContext.getStore(NAMESPACE).remove(CLASS_EXECUTION, FlowClassExecution.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getTestClass(final TestExtensionContext context) {
+        @SuppressWarnings("OptionalGetWithoutIsPresent") // Test execution callbacks always have a test class.
+        final Class<?> testClass = context.getTestClass().get();
+        return testClass;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Method getTestMethod(final TestExtensionContext context) {
+        @SuppressWarnings("OptionalGetWithoutIsPresent") // Test execution callbacks always have a test method.
+        final Method testMethod = context.getTestMethod().get();
+        return testMethod;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getTestInstance(final TestExtensionContext context) {
+        return context.getTestInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Held by the {@code Class'} {@link ExtensionContext}; the parent of the {@code Test's}.
+     */
+    @Override
+    public FlowClassExecution getClassExecution(final TestExtensionContext context) {
+        @SuppressWarnings("OptionalGetWithoutIsPresent") // Tests always execute within their class' container.
+        final ExtensionContext.Store classStore = context.getParent().get().getStore(NAMESPACE);
+        final FlowClassExecution classExecution = classStore.get(CLASS_EXECUTION, FlowClassExecution.class);
+        return classExecution != null ? classExecution : classStore.getOrComputeIfAbsent(CLASS_EXECUTION,
+                key -> new FlowClassExecution(getTestClass(context)), FlowClassExecution.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked") // Only ever stored by this method.
+    public Map<Method, Object> getResults(final TestExtensionContext context, final boolean create) {
+        final ExtensionContext.Store store = context.getStore(NAMESPACE);
+        return create ? store.getOrComputeIfAbsent(RESULTS, key -> new LinkedHashMap<Method, Object>(), Map.class) :
+                store.get(RESULTS, Map.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasFailed(final TestExtensionContext context) {
+        return context.getTestException().isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Described by the display name and unique id of the {@code Test}.
+     */
+    @Override
+    public String describe(final TestExtensionContext context) {
+        return '\'' + context.getDisplayName() + "' (" + context.getUniqueId() + ')';
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishReportEntry(final TestExtensionContext context, final Map<String, String> entry) {
+        context.publishReportEntry(entry);
+    }
+}
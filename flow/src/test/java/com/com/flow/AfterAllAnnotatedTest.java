@@ -0,0 +1,70 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AfterAllAnnotatedTest {
+
+    private static final Object[] NO_ARGUMENTS = {};
+
+    @DisplayName("Class-level teardown is invoked after the last of the satisfying tests")
+    @Test
+    void testTearDownAfterLastSatisfyingTest() {
+        final ClassFlowInvocations invocations = new ClassFlowInvocations(FlowEngine.getPlan(Flows.class));
+        final Runnable first = () -> {
+        };
+        final Runnable second = () -> {
+        };
+
+        assertNull(invocations.testFinished(0, NO_ARGUMENTS, first));
+        assertSame(second, invocations.testFinished(0, NO_ARGUMENTS, second));
+        assertEquals(Collections.emptyList(), invocations.drainTearDowns());
+    }
+
+    @DisplayName("Class-level teardown is left pending if a satisfying test never executes")
+    @Test
+    void testTearDownPendingIfSatisfyingTestNeverExecutes() {
+        final ClassFlowInvocations invocations = new ClassFlowInvocations(FlowEngine.getPlan(Flows.class));
+        final Runnable first = () -> {
+        };
+
+        assertNull(invocations.testFinished(0, NO_ARGUMENTS, first));
+        assertEquals(Collections.singletonList(first), invocations.drainTearDowns());
+        assertEquals(Collections.emptyList(), invocations.drainTearDowns());
+    }
+
+    static class Flows {
+
+        @AfterAllAnnotated(_0.class)
+        static void tearDownFixture() {
+        }
+
+        @_0
+        @Test
+        void first() {
+        }
+
+        @_0
+        @_1
+        @Test
+        void second() {
+        }
+
+        @_1
+        @Test
+        void unrelated() {
+        }
+
+        @_0
+        void notATest() {
+        }
+    }
+}
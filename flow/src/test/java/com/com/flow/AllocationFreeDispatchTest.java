@@ -0,0 +1,96 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import com.com.flow.annotations._2;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationFreeDispatchTest {
+
+    private static final int WARMUP = 20_000;
+
+    private static final int DISPATCHES = 1_000;
+
+    @DisplayName("Steady-state dispatch allocates nothing")
+    @Test
+    void testSteadyStateDispatchAllocationFree() throws Exception {
+        final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean counter = (com.sun.management.ThreadMXBean) threads;
+        counter.setThreadAllocatedMemoryEnabled(true);
+
+        final AnnotationFlow annotationFlow = new AnnotationFlow();
+        final Fixture fixture = new Fixture();
+        // Covers the engine's own dispatch only; see {@link StubTestExtensionContext}.
+        final StubTestExtensionContext context = StubTestExtensionContext.forMethod(fixture, "test");
+
+        for (int i = 0; i < WARMUP; i++) {
+            annotationFlow.beforeTestExecution(context);
+            annotationFlow.afterTestExecution(context);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        long counterCost = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            final long before = counter.getThreadAllocatedBytes(threadId);
+            counterCost = Math.min(counterCost, counter.getThreadAllocatedBytes(threadId) - before);
+        }
+
+        final int invocationsBefore = fixture.invocations;
+        final long before = counter.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < DISPATCHES; i++) {
+            annotationFlow.beforeTestExecution(context);
+            annotationFlow.afterTestExecution(context);
+        }
+        final long allocated = counter.getThreadAllocatedBytes(threadId) - before - counterCost;
+
+        // Each dispatch invokes setUp, shared (once, despite its two satisfied registrations), value and tearDown.
+        assertEquals(4 * DISPATCHES, fixture.invocations - invocationsBefore);
+        assertEquals(0L, allocated, "Bytes allocated over " + DISPATCHES + " dispatches");
+    }
+
+    static class Fixture {
+
+        int invocations;
+
+        @BeforeAnnotated(_0.class)
+        void setUp(final _0 annotation) {
+            invocations += annotation.value();
+        }
+
+        @BeforeAnnotated(_0.class)
+        @BeforeNotAnnotated(_2.class)
+        void shared() {
+            invocations++;
+        }
+
+        @BeforeAnnotated(_1.class)
+        String value() {
+            invocations++;
+            return "value";
+        }
+
+        @AfterNotAnnotated(_2.class)
+        void tearDown() {
+            invocations++;
+        }
+
+        @AfterAnnotated(_2.class)
+        void notInvoked() {
+            invocations++;
+        }
+
+        @_0
+        @_1
+        void test() {
+        }
+    }
+}
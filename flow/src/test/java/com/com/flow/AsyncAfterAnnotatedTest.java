@@ -0,0 +1,104 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+class AsyncAfterAnnotatedTest {
+
+    @DisplayName("Only after-flow methods declaring async are invoked asynchronously")
+    @Test
+    void testAsyncRegistrations() {
+        final FlowPlan plan = FlowEngine.getPlan(Flows.class);
+        assertFalse(plan.getRegistrations(FlowPhase.BEFORE).get(0).isAsync());
+        assertTrue(plan.getRegistrations(FlowPhase.AFTER).get(0).isAsync());
+        assertFalse(plan.getRegistrations(FlowPhase.AFTER).get(1).isAsync());
+    }
+
+    @DisplayName("Repeated after-flow annotations must agree on async")
+    @Test
+    void testInconsistentAsyncRejected() {
+        final FlowDeclarationException failure = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(InconsistentFlows.class).verify());
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).endsWith("Inconsistent async for method cleanup"));
+    }
+
+    @DisplayName("Joining waits for every outstanding invocation")
+    @Test
+    void testJoinWaitsForInvocations() throws Exception {
+        final AsyncFlowInvocations invocations = new AsyncFlowInvocations();
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean completed = new AtomicBoolean();
+        invocations.submit(Flows.class.getDeclaredMethod("cleanup"), "'test'", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.set(true);
+        });
+
+        assertTrue(started.await(5L, TimeUnit.SECONDS));
+        invocations.joinAll();
+        assertTrue(completed.get());
+    }
+
+    @DisplayName("Failures are reported once joined, naming the test they followed")
+    @Test
+    void testFailuresReportedAgainstTest() throws Exception {
+        final AsyncFlowInvocations invocations = new AsyncFlowInvocations();
+        final IllegalStateException first = new IllegalStateException("first");
+        invocations.submit(Flows.class.getDeclaredMethod("cleanup"), "'first test'", () -> {
+            throw first;
+        });
+        invocations.submit(Flows.class.getDeclaredMethod("cleanup"), "'second test'", () -> {
+            throw new IllegalStateException("second");
+        });
+
+        final AsyncFlowInvocations.AsyncFlowException failure =
+                expectThrows(AsyncFlowInvocations.AsyncFlowException.class, invocations::joinAll);
+        assertEquals("Asynchronous annotation-flow method Flows#cleanup failed after test 'first test'",
+                failure.getMessage());
+        assertSame(first, failure.getCause());
+        assertEquals(1, failure.getSuppressed().length);
+
+        // Once joined, nothing is outstanding.
+        invocations.joinAll();
+    }
+
+    static class Flows {
+
+        @BeforeAnnotated(_0.class)
+        void before() {
+        }
+
+        @AfterAnnotated(value = _0.class, async = true)
+        void cleanup() {
+        }
+
+        @AfterNotAnnotated(_1.class)
+        void after() {
+        }
+    }
+
+    static class InconsistentFlows {
+
+        @AfterAnnotated(value = _0.class, async = true)
+        @AfterAnnotated(_1.class)
+        void cleanup() {
+        }
+    }
+}
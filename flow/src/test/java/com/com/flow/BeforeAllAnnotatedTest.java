@@ -0,0 +1,203 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import com.com.flow.annotations._2;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class BeforeAllAnnotatedTest {
+
+    private static final AtomicInteger fixturesBuilt = new AtomicInteger();
+
+    private static final Set<Double> fixtureValues = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicInteger perTestSetUps = new AtomicInteger();
+
+    @BeforeAllAnnotated(_0.class)
+    static void buildFixture(final _0 annotation) {
+        fixturesBuilt.incrementAndGet();
+    }
+
+    @BeforeAllAnnotated(_2.class)
+    static Double buildValuedFixture(final _2 annotation) {
+        fixtureValues.add(annotation.value());
+        return annotation.value();
+    }
+
+    @BeforeAnnotated(_0.class)
+    void perTestSetUp() {
+        // Runs after the class-level fixture has been built.
+        assertEquals(1, fixturesBuilt.get());
+        perTestSetUps.incrementAndGet();
+    }
+
+    @_0
+    @DisplayName("First test annotated by expected class shares the class-level fixture")
+    @Test
+    void testFirstAnnotatedSharesFixture() {
+        assertEquals(1, fixturesBuilt.get());
+    }
+
+    @_0
+    @_1
+    @DisplayName("Second test annotated by expected class shares the class-level fixture")
+    @Test
+    void testSecondAnnotatedSharesFixture() {
+        assertEquals(1, fixturesBuilt.get());
+    }
+
+    @_0
+    @DisplayName("Third test annotated by expected class shares the class-level fixture")
+    @Test
+    void testThirdAnnotatedSharesFixture() {
+        assertEquals(1, fixturesBuilt.get());
+    }
+
+    @_2(1)
+    @DisplayName("Test annotated with the first value gets the class-level fixture built for that value")
+    @Test
+    void testFirstValueGetsOwnFixture(@FlowResult final Double fixture) {
+        assertEquals(1.0d, fixture.doubleValue());
+        assertTrue(fixtureValues.contains(1.0d));
+    }
+
+    @_2(2)
+    @DisplayName("Test annotated with a second value gets its own class-level fixture, not the first value's")
+    @Test
+    void testSecondValueGetsOwnFixture(@FlowResult final Double fixture) {
+        assertEquals(2.0d, fixture.doubleValue());
+        assertTrue(fixtureValues.contains(2.0d));
+    }
+
+    @DisplayName("Class-level flow methods are claimed once per distinct set of bound arguments")
+    @Test
+    void testClaimedPerArguments() throws Exception {
+        final ClassFlowInvocations invocations =
+                new ClassFlowInvocations(FlowEngine.getPlan(BeforeAllAnnotatedTest.class));
+        final Method buildFixture = BeforeAllAnnotatedTest.class.getDeclaredMethod("buildFixture", _0.class);
+        final Object[] first = {Annotated.class.getDeclaredMethod("first").getAnnotation(_0.class)};
+        final Object[] equalToFirst = {Annotated.class.getDeclaredMethod("equalToFirst").getAnnotation(_0.class)};
+        final Object[] second = {Annotated.class.getDeclaredMethod("second").getAnnotation(_0.class)};
+
+        final AtomicInteger setUps = new AtomicInteger();
+        assertEquals("first", invocations.setUp(0, first, buildFixture, () -> counted(setUps, "first")));
+        assertEquals("first", invocations.setUp(0, equalToFirst, buildFixture, () -> counted(setUps, "equalToFirst")));
+        assertEquals("second", invocations.setUp(0, second, buildFixture, () -> counted(setUps, "second")));
+        assertEquals(2, setUps.get());
+    }
+
+    @DisplayName("A class-level flow method which fails, fails every later satisfying test")
+    @Test
+    void testFailedSetUpFailsLaterTests() throws Exception {
+        final ClassFlowInvocations invocations =
+                new ClassFlowInvocations(FlowEngine.getPlan(BeforeAllAnnotatedTest.class));
+        final IllegalStateException failure = new IllegalStateException("fixture");
+        final Method buildFixture = BeforeAllAnnotatedTest.class.getDeclaredMethod("buildFixture", _0.class);
+        final Object[] arguments = {Annotated.class.getDeclaredMethod("first").getAnnotation(_0.class)};
+
+        assertSame(failure, expectThrows(IllegalStateException.class, () -> invocations.setUp(0, arguments,
+                buildFixture, () -> {
+                    throw failure;
+                })));
+        final IllegalStateException thrown = expectThrows(IllegalStateException.class,
+                () -> invocations.setUp(0, arguments, buildFixture, () -> "never invoked"));
+        assertEquals("Class-level annotation-flow method BeforeAllAnnotatedTest#buildFixture failed",
+                thrown.getMessage());
+        assertSame(failure, thrown.getCause());
+    }
+
+    @DisplayName("A test which loses the claim to a class-level flow method waits for it to complete")
+    @Test
+    void testConcurrentClaimantWaits() throws Exception {
+        final AnnotationFlow annotationFlow = new AnnotationFlow();
+        final SlowFixture fixture = new SlowFixture();
+        final StubTestExtensionContext first = StubTestExtensionContext.forMethod(fixture, "first");
+        final StubTestExtensionContext second = first.sibling(fixture, "second");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> firstSetUp = executor.submit(() -> {
+                annotationFlow.beforeTestExecution(first);
+                return null;
+            });
+            assertTrue(fixture.started.await(5L, TimeUnit.SECONDS));
+            final Future<Integer> secondSetUp = executor.submit(() -> {
+                annotationFlow.beforeTestExecution(second);
+                return fixture.built.get();
+            });
+            expectThrows(TimeoutException.class, () -> secondSetUp.get(100L, TimeUnit.MILLISECONDS));
+
+            fixture.release.countDown();
+            firstSetUp.get(5L, TimeUnit.SECONDS);
+            assertEquals(1, secondSetUp.get(5L, TimeUnit.SECONDS).intValue());
+            assertEquals(1, fixture.built.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String counted(final AtomicInteger setUps, final String result) {
+        setUps.incrementAndGet();
+        return result;
+    }
+
+    static class SlowFixture {
+
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final AtomicInteger built = new AtomicInteger();
+
+        @BeforeAllAnnotated(_0.class)
+        String slowFixture() throws InterruptedException {
+            started.countDown();
+            assertTrue(release.await(5L, TimeUnit.SECONDS));
+            built.incrementAndGet();
+            return "fixture";
+        }
+
+        @_0
+        void first() {
+        }
+
+        @_0
+        void second() {
+        }
+    }
+
+    static class Annotated {
+
+        @_0
+        void first() {
+        }
+
+        @_0
+        void equalToFirst() {
+        }
+
+        @_0(2)
+        void second() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._0And1;
+import com.com.flow.annotations._1;
+import com.com.flow.annotations._2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(AnnotationFlow.class)
+@_2
+class BeforeAnnotatedClassAndMetaAnnotationsTest {
+
+    private static final int DIRECT_VALUE = 3;
+
+    private volatile boolean beforeAnnotatedBy0And1Invoked = false;
+
+    private volatile boolean beforeAnnotatedBy2Invoked = false;
+
+    private int foundInt = Integer.MIN_VALUE;
+
+    @BeforeAnnotated({_0.class, _1.class})
+    void beforeAnnotatedBy0And1(final _0 annotation) {
+        this.beforeAnnotatedBy0And1Invoked = true;
+        this.foundInt = annotation.value();
+    }
+
+    @BeforeAnnotated(_2.class)
+    void beforeAnnotatedBy2() {
+        this.beforeAnnotatedBy2Invoked = true;
+    }
+
+    @DisplayName("Test method not annotated invokes BeforeAnnotated method for annotation on test class")
+    @Test
+    void testClassAnnotationInvokesMethod() {
+        assertTrue(beforeAnnotatedBy2Invoked);
+        assertFalse(beforeAnnotatedBy0And1Invoked);
+    }
+
+    @_0And1
+    @DisplayName("Test method meta-annotated by expected classes invokes BeforeAnnotated method")
+    @Test
+    void testMetaAnnotationsInvokeMethod() {
+        assertTrue(beforeAnnotatedBy0And1Invoked);
+    }
+
+    @_0And1
+    @DisplayName("Passed annotation is taken from meta-annotation")
+    @Test
+    void testPassedAnnotationFromMetaAnnotation() {
+        assertEquals(_0And1.META_VALUE, foundInt);
+    }
+
+    @_0(DIRECT_VALUE)
+    @_0And1
+    @DisplayName("Passed annotation prefers annotation on test method over meta-annotation")
+    @Test
+    void testPassedAnnotationPrefersDirectAnnotation() {
+        assertEquals(DIRECT_VALUE, foundInt);
+    }
+}
@@ -0,0 +1,164 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(AnnotationFlow.class)
+class ComposedFlowPlanTest {
+
+    private final List<String> invocations = new ArrayList<>();
+
+    @BeforeAnnotated(_0.class)
+    void setUpOuter() {
+        invocations.add("setUpOuter");
+    }
+
+    @AfterAnnotated(_0.class)
+    void tearDownOuter() {
+        invocations.add("tearDownOuter");
+    }
+
+    @DisplayName("Subclasses share the registrations of their superclass' plan, less those they override")
+    @Test
+    void testSuperclassRegistrationsShared() {
+        final List<FlowMethodRegistration<?>> base = FlowEngine.getPlan(Base.class).getRegistrations(FlowPhase.BEFORE);
+        final List<FlowMethodRegistration<?>> first =
+                FlowEngine.getPlan(FirstSub.class).getRegistrations(FlowPhase.BEFORE);
+        final List<FlowMethodRegistration<?>> second =
+                FlowEngine.getPlan(SecondSub.class).getRegistrations(FlowPhase.BEFORE);
+
+        final FlowMethodRegistration<?> inherited = named(base, "inherited");
+        assertEquals(2, base.size());
+        assertEquals(Arrays.asList("inherited", "local", "overridden"), sorted(namesOf(first)));
+        assertSame(inherited, first.get(0));
+        assertSame(FirstSub.class, named(first, "overridden").getMethod().getDeclaringClass());
+        assertEquals(Collections.singletonList("inherited"), namesOf(second));
+        assertSame(inherited, second.get(0));
+    }
+
+    @DisplayName("Plans share an annotation index with the plans they are composed from, and no other")
+    @Test
+    void testAnnotationIndexSharedByHierarchy() {
+        final AnnotationIndex index = FlowEngine.getPlan(Base.class).getAnnotationIndex();
+
+        assertSame(index, FlowEngine.getPlan(FirstSub.class).getAnnotationIndex());
+        assertSame(index, FlowEngine.getPlan(SecondSub.class).getAnnotationIndex());
+        assertSame(FlowEngine.getPlan(ComposedFlowPlanTest.class).getAnnotationIndex(),
+                FlowEngine.getPlan(Inner.class).getAnnotationIndex());
+        assertNotSame(index, FlowEngine.getPlan(ComposedFlowPlanTest.class).getAnnotationIndex());
+    }
+
+    @DisplayName("Invalid declarations of a superclass are reported for each subclass")
+    @Test
+    void testSuperclassProblemsReported() {
+        final FlowDeclarationException failure = FlowEngine.getPlan(InvalidSub.class).getDeclarationFailure();
+
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).startsWith("InvalidBase#invalid"));
+    }
+
+    private static FlowMethodRegistration<?> named(final List<FlowMethodRegistration<?>> registrations,
+                                                   final String name) {
+        return registrations.stream()
+                .filter(registration -> registration.getMethod().getName().equals(name))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    private static List<String> sorted(final List<String> names) {
+        Collections.sort(names);
+        return names;
+    }
+
+    private static List<String> namesOf(final List<FlowMethodRegistration<?>> registrations) {
+        final List<String> names = new ArrayList<>();
+        registrations.forEach(registration -> names.add(registration.getMethod().getName()));
+        return names;
+    }
+
+    @Nested
+    class Inner {
+
+        @BeforeAnnotated(_0.class)
+        void setUpInner() {
+            invocations.add("setUpInner");
+        }
+
+        @AfterAnnotated(_0.class)
+        void tearDownInner() {
+            invocations.add("tearDownInner");
+        }
+
+        @_0
+        @DisplayName("Flow methods of the enclosing instance wrap those of the nested test")
+        @Test
+        void testEnclosingFlowsWrapNested() {
+            assertEquals(Arrays.asList("setUpOuter", "setUpInner"), invocations);
+        }
+
+        @DisplayName("Enclosing flow methods are invoked on the enclosing instance, after those of the nested test")
+        @Test
+        void testEnclosingFlowsInvokedOnEnclosingInstance() {
+            final FlowPlan plan = FlowEngine.getPlan(Inner.class);
+            final List<FlowMethodRegistration<?>> after = plan.getRegistrations(FlowPhase.AFTER);
+
+            assertEquals(Arrays.asList("tearDownInner", "tearDownOuter"), namesOf(after));
+            assertSame(this, plan.getReceiver(FlowPhase.AFTER, 0, this));
+            assertSame(ComposedFlowPlanTest.this, plan.getReceiver(FlowPhase.AFTER, 1, this));
+        }
+    }
+
+    abstract static class Base {
+
+        @BeforeAnnotated(_0.class)
+        void inherited() {
+        }
+
+        @BeforeAnnotated(_1.class)
+        void overridden() {
+        }
+    }
+
+    static class FirstSub extends Base {
+
+        @BeforeAnnotated(_0.class)
+        void local() {
+        }
+
+        @Override
+        @BeforeAnnotated(_1.class)
+        void overridden() {
+        }
+    }
+
+    static class SecondSub extends Base {
+
+        @Override
+        void overridden() {
+        }
+    }
+
+    abstract static class InvalidBase {
+
+        @BeforeAnnotated(_0.class)
+        void invalid(final String unbound) {
+        }
+    }
+
+    static class InvalidSub extends InvalidBase {
+    }
+}
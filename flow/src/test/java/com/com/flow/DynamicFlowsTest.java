@@ -0,0 +1,85 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class DynamicFlowsTest {
+
+    private int fixturesBuilt = 0;
+
+    private int fixturesTornDown = 0;
+
+    @BeforeAnnotated(_0.class)
+    Fixture fixture() {
+        fixturesBuilt++;
+        return new Fixture();
+    }
+
+    @AfterAnnotated(_0.class)
+    void tearDownFixture() {
+        fixturesTornDown++;
+    }
+
+    @_0
+    @DisplayName("Each dynamic test is wrapped by the flow methods of the factory, lazily as it is executed")
+    @TestFactory
+    Stream<DynamicTest> testEachDynamicTestWrapped(final DynamicFlows flows) {
+        assertEquals(0, fixturesBuilt);
+        final Stream<DynamicTest> wrapped = flows.each(Stream.iterate(1, invocation -> invocation + 1).limit(3)
+                .map(invocation -> DynamicTest.dynamicTest("invocation " + invocation, () -> {
+                    assertEquals(invocation.intValue(), fixturesBuilt);
+                    assertEquals(invocation - 1, fixturesTornDown);
+
+                    final Fixture fixture = flows.getResult(Fixture.class);
+                    assertTrue(fixture.values.isEmpty());
+                    fixture.values.add(invocation);
+                })));
+        // Unwrapped; so runs after the last of the wrapped dynamic tests has been torn down.
+        return Stream.concat(wrapped, Stream.of(DynamicTest.dynamicTest("torn down", () -> {
+            assertEquals(3, fixturesBuilt);
+            assertEquals(3, fixturesTornDown);
+        })));
+    }
+
+    @_0
+    @DisplayName("Factories without dynamic flows are wrapped by the flow methods once, as a whole")
+    @TestFactory
+    Stream<DynamicTest> testUnstreamedFactoryWrappedOnce(@FlowResult final Fixture fixture) {
+        assertEquals(1, fixturesBuilt);
+        return Stream.of(1, 2).map(invocation -> DynamicTest.dynamicTest("invocation " + invocation, () -> {
+            assertEquals(1, fixturesBuilt);
+            assertEquals(0, fixturesTornDown);
+            fixture.values.add(invocation);
+            assertEquals(invocation.intValue(), fixture.values.size());
+        }));
+    }
+
+    @DisplayName("Results of dynamic flows are only resolved for the flow methods honoured by the factory")
+    @TestFactory
+    Stream<DynamicTest> testUnhonouredResultNotResolved(final FlowInvocations flows) {
+        return Stream.of(flows).map(unhonoured -> DynamicTest.dynamicTest("unhonoured", () -> {
+            unhonoured.before();
+            expectThrows(FlowConfigurationException.class, () -> unhonoured.getResult(Fixture.class));
+            unhonoured.after();
+            assertEquals(0, fixturesBuilt);
+            assertEquals(0, fixturesTornDown);
+        }));
+    }
+
+    static final class Fixture {
+
+        final List<Integer> values = new ArrayList<>();
+    }
+}
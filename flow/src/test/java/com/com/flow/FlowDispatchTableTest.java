@@ -0,0 +1,138 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowDispatchTableTest {
+
+    @DisplayName("The flow methods listed by a dispatch table are matched against the runtime annotations")
+    @Test
+    void testDispatchTableOnlyListsFlowMethods() throws Exception {
+        final FlowPlan plan = FlowEngine.getPlan(Tabled.class);
+
+        assertEquals(1, plan.getRegistrations(FlowPhase.BEFORE).size());
+        // The flow method is listed, but the test does not carry the _1 it declares an interest in.
+        assertNull(plan.getTestMethodPlan(Tabled.class.getDeclaredMethod("test")).getArguments(FlowPhase.BEFORE, 0));
+        assertNotNull(plan.getTestMethodPlan(Tabled.class.getDeclaredMethod("matchingTest"))
+                .getArguments(FlowPhase.BEFORE, 0));
+    }
+
+    @DisplayName("A stale dispatch table falls back to discovering the flow methods by reflection")
+    @Test
+    void testStaleDispatchTableIgnored() throws Exception {
+        final TestMethodPlan plan = FlowEngine.getPlan(Stale.class)
+                .getTestMethodPlan(Stale.class.getDeclaredMethod("test"));
+        assertNull(plan.getArguments(FlowPhase.BEFORE, 0));
+    }
+
+    @DisplayName("A dispatch table listing a method no longer annotated as listed falls back to discovery")
+    @Test
+    void testReannotatedDispatchTableIgnored() {
+        final FlowPlan plan = FlowEngine.getPlan(Reannotated.class);
+
+        assertTrue(plan.getRegistrations(FlowPhase.BEFORE).isEmpty());
+        assertEquals(1, plan.getRegistrations(FlowPhase.AFTER).size());
+    }
+
+    @DisplayName("A dispatch table generated before its super class gained a flow method falls back to discovery")
+    @Test
+    void testStaleHierarchyDispatchTableIgnored() {
+        final FlowPlan plan = FlowEngine.getPlan(Extended.class);
+
+        assertEquals(1, plan.getRegistrations(FlowPhase.BEFORE).size());
+        assertEquals(1, plan.getRegistrations(FlowPhase.AFTER).size());
+    }
+
+    static class Tabled {
+
+        @BeforeAnnotated(_1.class)
+        void before() {
+        }
+
+        @_0
+        void test() {
+        }
+
+        @_1
+        void matchingTest() {
+        }
+
+        // Stands in for the table flow-processor would generate; named as Tabled + FlowDispatchTable.SUFFIX.
+        public static final class FlowDispatchTable implements com.com.flow.FlowDispatchTable {
+
+            @Override
+            public String[][] getFlowMethods() {
+                return new String[][]{{Tabled.class.getName(), "before", BeforeAnnotated.class.getName()}};
+            }
+        }
+    }
+
+    static class Stale {
+
+        @BeforeAnnotated(_1.class)
+        void before() {
+        }
+
+        @_0
+        void test() {
+        }
+
+        public static final class FlowDispatchTable implements com.com.flow.FlowDispatchTable {
+
+            @Override
+            public String[][] getFlowMethods() {
+                return new String[][]{{Stale.class.getName(), "renamed", BeforeAnnotated.class.getName()}};
+            }
+        }
+    }
+
+    static class Reannotated {
+
+        @AfterAnnotated(_1.class)
+        void before() {
+        }
+
+        public static final class FlowDispatchTable implements com.com.flow.FlowDispatchTable {
+
+            @Override
+            public String[][] getFlowMethods() {
+                return new String[][]{{Reannotated.class.getName(), "before", BeforeAnnotated.class.getName()}};
+            }
+        }
+    }
+
+    static class Base {
+
+        @AfterAnnotated(_1.class)
+        void after() {
+        }
+    }
+
+    static class Extended extends Base {
+
+        @BeforeAnnotated(_1.class)
+        void before() {
+        }
+
+        // Generated while Base declared no flow methods.
+        public static final class FlowDispatchTable implements com.com.flow.FlowDispatchTable {
+
+            @Override
+            public String[][] getFlowMethods() {
+                return new String[][]{{Extended.class.getName(), "before", BeforeAnnotated.class.getName()}};
+            }
+
+            @Override
+            public String[][] getHierarchy() {
+                return new String[][]{{Extended.class.getName(), "1"}};
+            }
+        }
+    }
+}
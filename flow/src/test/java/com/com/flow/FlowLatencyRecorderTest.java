@@ -0,0 +1,78 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowLatencyRecorderTest {
+
+    @BeforeAnnotated(_0.class)
+    @BeforeAnnotated({_0.class, _1.class})
+    void flowMethod() {
+    }
+
+    @DisplayName("Recorded latencies are published per flow method and per trigger")
+    @Test
+    void testLatenciesPublishedPerFlowMethodAndTrigger() throws Exception {
+        final FlowLatencyRecorder recorder = new FlowLatencyRecorder();
+        final Method flowMethod = getClass().getDeclaredMethod("flowMethod");
+        final Annotation[] triggers = flowMethod.getAnnotation(BeforeAnnotateds.class).value();
+
+        recorder.invocationFinished(getClass(), null, flowMethod, triggers[0], 1_000L, null);
+        recorder.invocationFinished(getClass(), null, flowMethod, triggers[0], 3_000L, null);
+        recorder.invocationFinished(getClass(), null, flowMethod, triggers[1], 2_000_000L, null);
+
+        final List<Map<String, String>> published = new ArrayList<>();
+        recorder.testClassFinished(getClass(), published::add);
+
+        assertEquals(1, published.size());
+        final Map<String, String> entry = published.get(0);
+        final String key = "flow.FlowLatencyRecorderTest#flowMethod";
+        assertEquals(3, entry.size());
+        assertTrue(entry.get(key).startsWith("count=3, total=2.004ms"));
+        assertTrue(entry.get(key).endsWith("max=2.000ms"));
+        assertTrue(entry.get(key + " @BeforeAnnotated({_0})").startsWith("count=2, total=0.004ms, mean=0.002ms"));
+        assertTrue(entry.get(key + " @BeforeAnnotated({_0, _1})").startsWith("count=1"));
+    }
+
+    @DisplayName("Nothing is published for a class with no recorded latencies")
+    @Test
+    void testNothingPublishedWithoutLatencies() {
+        final List<Map<String, String>> published = new ArrayList<>();
+        new FlowLatencyRecorder().testClassFinished(getClass(), published::add);
+        assertTrue(published.isEmpty());
+    }
+
+    @DisplayName("The recorder is only registered when enabled")
+    @Test
+    void testRecorderOptIn() throws Exception {
+        // This module registers a FlowListener of its own (see FlowListenerTest); so the recorder's presence is
+        // detected by what it publishes, rather than by there being any listeners at all.
+        assertTrue(publishedBy(FlowListeners.load(false)).isEmpty());
+        assertEquals(1, publishedBy(FlowListeners.load(true)).size());
+    }
+
+    /**
+     * @param listeners The {@link FlowListeners} to notify of an invocation of {@link #flowMethod()}.
+     * @return The report entries which they publish once this {@code Class} has finished.
+     */
+    private List<Map<String, String>> publishedBy(final FlowListeners listeners) throws NoSuchMethodException {
+        final Method flowMethod = getClass().getDeclaredMethod("flowMethod");
+        final Annotation trigger = flowMethod.getAnnotation(BeforeAnnotateds.class).value()[0];
+        listeners.invocationFinished(getClass(), null, flowMethod, trigger, 1_000L, null);
+
+        final List<Map<String, String>> published = new ArrayList<>();
+        listeners.testClassFinished(getClass(), published::add);
+        return published;
+    }
+}
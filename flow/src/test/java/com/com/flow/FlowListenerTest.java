@@ -0,0 +1,122 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+class FlowListenerTest {
+
+    @DisplayName("Listeners discovered through the ServiceLoader are notified of each dispatch, and publish per class")
+    @Test
+    void testDiscoveredListenerNotified() {
+        RecordingListener.EVENTS.clear();
+        final List<TestExecutionResult> results = new CopyOnWriteArrayList<>();
+        final List<Map<String, String>> published = new CopyOnWriteArrayList<>();
+
+        final Launcher launcher = LauncherFactory.create();
+        launcher.registerTestExecutionListeners(new TestExecutionListener() {
+
+            @Override
+            public void executionFinished(final TestIdentifier identifier, final TestExecutionResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void reportingEntryPublished(final TestIdentifier identifier, final ReportEntry entry) {
+                published.add(entry.getKeyValuePairs());
+            }
+        });
+        launcher.execute(request().selectors(selectClass(ListenedFlows.class)).build());
+
+        results.forEach(result -> assertEquals(TestExecutionResult.Status.SUCCESSFUL, result.getStatus()));
+        assertEquals(Arrays.asList(
+                "matchEvaluated annotated fixture true",
+                "invocationStarted annotated fixture BeforeAnnotated",
+                "invocationFinished annotated fixture BeforeAnnotated null",
+                "matchEvaluated annotated unmatched false",
+                "testClassFinished"), RecordingListener.EVENTS);
+        assertEquals(Collections.singletonList(Collections.singletonMap("listened", "ListenedFlows")), published);
+    }
+
+    @ExtendWith(AnnotationFlow.class)
+    static class ListenedFlows {
+
+        @BeforeAnnotated(_0.class)
+        String fixture() {
+            return "fixture";
+        }
+
+        @AfterNotAnnotated(_0.class)
+        void unmatched() {
+        }
+
+        @_0
+        @Test
+        void annotated() {
+        }
+    }
+
+    /**
+     * Registered through {@code META-INF/services}, so notified by every {@code Test} of this module; records only the
+     * notifications for {@link ListenedFlows}, and ignores the rest without allocating.
+     */
+    public static final class RecordingListener implements FlowListener {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void matchEvaluated(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                   final boolean matched, final long durationNanos) {
+            if (testClass == ListenedFlows.class) {
+                EVENTS.add(String.join(" ", "matchEvaluated", testMethod.getName(), flowMethod.getName(),
+                        String.valueOf(matched)));
+            }
+        }
+
+        @Override
+        public void invocationStarted(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                      final Annotation trigger) {
+            if (testClass == ListenedFlows.class) {
+                EVENTS.add(String.join(" ", "invocationStarted", testMethod.getName(), flowMethod.getName(),
+                        trigger.annotationType().getSimpleName()));
+            }
+        }
+
+        @Override
+        public void invocationFinished(final Class<?> testClass, final Method testMethod, final Method flowMethod,
+                                       final Annotation trigger, final long durationNanos, final Throwable failure) {
+            if (testClass == ListenedFlows.class) {
+                EVENTS.add(String.join(" ", "invocationFinished", testMethod.getName(), flowMethod.getName(),
+                        trigger.annotationType().getSimpleName(), String.valueOf(failure)));
+            }
+        }
+
+        @Override
+        public void testClassFinished(final Class<?> testClass, final Consumer<Map<String, String>> reportPublisher) {
+            if (testClass == ListenedFlows.class) {
+                EVENTS.add("testClassFinished");
+                reportPublisher.accept(Collections.singletonMap("listened", testClass.getSimpleName()));
+            }
+        }
+    }
+}
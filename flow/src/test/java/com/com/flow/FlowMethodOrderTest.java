@@ -0,0 +1,94 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+class FlowMethodOrderTest {
+
+    @DisplayName("Tests are grouped by signature, and groups ordered by the cost of transitioning between them")
+    @Test
+    void testOrderedByTransitionCost() {
+        final List<String> order = names(FlowMethodOrder.order(Signatures.class,
+                flowMethod -> flowMethod.getName().equals("before0") ? 1.0 : 2.0));
+
+        assertEquals(5, order.size());
+        assertEquals("noFlows", order.get(0));
+        assertEquals(new HashSet<>(Arrays.asList("first0", "second0")), new HashSet<>(order.subList(1, 3)));
+        assertEquals(Arrays.asList("both", "only1"), order.subList(3, 5));
+    }
+
+    @DisplayName("Tests with the same signature are always adjacent")
+    @Test
+    void testSignaturesAdjacent() {
+        final List<String> order = names(FlowMethodOrder.order(Signatures.class));
+
+        assertEquals(5, order.size());
+        assertEquals(1, Math.abs(order.indexOf("first0") - order.indexOf("second0")));
+    }
+
+    @DisplayName("Costs which are not finite are rejected")
+    @Test
+    void testNonFiniteCostsRejected() {
+        for (final double cost : new double[]{Double.NaN, Double.POSITIVE_INFINITY}) {
+            final IllegalArgumentException failure = expectThrows(IllegalArgumentException.class,
+                    () -> FlowMethodOrder.order(Signatures.class, flowMethod -> cost));
+            assertTrue(failure.getMessage().endsWith("must be finite"), failure.getMessage());
+        }
+    }
+
+    private static List<String> names(final List<Method> methods) {
+        final List<String> names = new ArrayList<>();
+        for (final Method method : methods) {
+            names.add(method.getName());
+        }
+        return names;
+    }
+
+    static class Signatures {
+
+        @BeforeAnnotated(_0.class)
+        void before0() {
+        }
+
+        @BeforeAnnotated(_1.class)
+        void before1() {
+        }
+
+        @_0
+        @Test
+        void first0() {
+        }
+
+        @_1
+        @Test
+        void only1() {
+        }
+
+        @_0
+        @Test
+        void second0() {
+        }
+
+        @_0
+        @_1
+        @Test
+        void both() {
+        }
+
+        @Test
+        void noFlows() {
+        }
+    }
+}
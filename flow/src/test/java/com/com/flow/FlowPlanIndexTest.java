@@ -0,0 +1,177 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowPlanIndexTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("flow-plan-index");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @DisplayName("Recorded flow methods are found by a later index over the same file")
+    @Test
+    void testRecordedEntryFound() throws Exception {
+        final Path path = directory.resolve("index.bin");
+        writeIndex(path);
+
+        final FlowDispatchTable entry = new FlowPlanIndex(path).find(Indexed.class);
+        assertEquals(2, entry.getFlowMethods().length);
+        assertArrayEquals(new String[]{Indexed.class.getName(), "before", BeforeAnnotated.class.getName(),
+                _0.class.getName()}, entry.getFlowMethods()[0]);
+        assertArrayEquals(new String[]{Indexed.class.getName(), "after", AfterNotAnnotated.class.getName()},
+                entry.getFlowMethods()[1]);
+    }
+
+    @DisplayName("An entry whose class files have changed is ignored")
+    @Test
+    void testStaleEntryIgnored() throws Exception {
+        final Path path = directory.resolve("index.bin");
+        writeIndex(path);
+
+        // Flip a bit of the recorded hash; which follows the magic, the entry count and the class name.
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[2 * Integer.BYTES + Short.BYTES + Indexed.class.getName().getBytes(StandardCharsets.UTF_8).length] ^= 1;
+        Files.write(path, bytes);
+
+        assertNull(new FlowPlanIndex(path).find(Indexed.class));
+    }
+
+    @DisplayName("A disabled index finds and records nothing")
+    @Test
+    void testDisabledIndex() {
+        final FlowPlanIndex index = new FlowPlanIndex(null);
+        index.record(Indexed.class, FlowEngine.getPlan(Indexed.class).getRegistrations(FlowPhase.BEFORE));
+        index.writeIfModified();
+        assertNull(index.find(Indexed.class));
+    }
+
+    @DisplayName("A missing index file is created once an entry is recorded")
+    @Test
+    void testMissingIndexCreated() throws Exception {
+        final Path path = directory.resolve("build").resolve("index.bin");
+        final FlowPlanIndex index = new FlowPlanIndex(path);
+        assertNull(index.find(Indexed.class));
+        index.writeIfModified();
+        assertFalse(Files.exists(path));
+
+        writeIndex(path);
+        assertTrue(Files.exists(path));
+    }
+
+    @DisplayName("The engine of a later JVM plans a class from its recorded entry")
+    @Test
+    void testRecordedEntryUsedByEngine() throws Exception {
+        final Path path = directory.resolve("index.bin");
+        // Record only the before method; so a plan from the entry is told apart from one discovered by reflection.
+        final FlowPlanIndex index = new FlowPlanIndex(path);
+        index.record(Indexed.class, FlowEngine.getPlan(Indexed.class).getRegistrations(FlowPhase.BEFORE));
+        index.writeIfModified();
+
+        assertEquals("before", planInForkedEngine(path));
+    }
+
+    @DisplayName("The engine of a later JVM ignores a stale entry, and rewrites it on shutdown")
+    @Test
+    void testStaleEntryRewrittenByEngine() throws Exception {
+        final Path path = directory.resolve("index.bin");
+        final FlowPlanIndex index = new FlowPlanIndex(path);
+        index.record(Indexed.class, FlowEngine.getPlan(Indexed.class).getRegistrations(FlowPhase.BEFORE));
+        index.writeIfModified();
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[2 * Integer.BYTES + Short.BYTES + Indexed.class.getName().getBytes(StandardCharsets.UTF_8).length] ^= 1;
+        Files.write(path, bytes);
+
+        assertEquals("before,after", planInForkedEngine(path));
+        final FlowDispatchTable rewritten = new FlowPlanIndex(path).find(Indexed.class);
+        assertEquals(2, rewritten.getFlowMethods().length);
+    }
+
+    private static void writeIndex(final Path path) {
+        final FlowPlan plan = FlowEngine.getPlan(Indexed.class);
+        final List<FlowMethodRegistration<?>> registrations = new ArrayList<>(plan.getRegistrations(FlowPhase.BEFORE));
+        registrations.addAll(plan.getRegistrations(FlowPhase.AFTER));
+
+        final FlowPlanIndex index = new FlowPlanIndex(path);
+        index.record(Indexed.class, registrations);
+        index.writeIfModified();
+    }
+
+    // Plans Indexed in a fresh JVM; whose engine loads the index as it starts, and rewrites it as it exits.
+    private static String planInForkedEngine(final Path path) throws Exception {
+        final Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                "-D" + FlowPlanIndex.INDEX_PROPERTY + '=' + path,
+                IndexedPlanner.class.getName())
+                .redirectErrorStream(true)
+                .start();
+
+        final List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines().forEach(output::add);
+        }
+        assertTrue(process.waitFor(30L, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), String.join("\n", output));
+        return output.get(output.size() - 1);
+    }
+
+    static final class IndexedPlanner {
+
+        public static void main(final String[] args) {
+            final FlowPlan plan = FlowEngine.getPlan(Indexed.class);
+            final List<String> names = new ArrayList<>();
+            for (final FlowPhase phase : FlowPhase.values()) {
+                plan.getRegistrations(phase).forEach(registration -> names.add(registration.getMethod().getName()));
+            }
+            System.out.println(String.join(",", names));
+        }
+    }
+
+    static class Indexed {
+
+        @BeforeAnnotated(_0.class)
+        void before(final _0 annotation) {
+        }
+
+        @AfterNotAnnotated(_1.class)
+        void after() {
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class FlowResultTest {
+
+    private static final AtomicInteger fixturesBuilt = new AtomicInteger();
+
+    @Memoized
+    @BeforeAnnotated(_0.class)
+    static List<String> fixture(final _0 annotation) {
+        fixturesBuilt.incrementAndGet();
+        return new ArrayList<>();
+    }
+
+    @BeforeAnnotated(_1.class)
+    String name() {
+        return "_1";
+    }
+
+    @_0
+    @DisplayName("First test annotated by expected class receives the memoized fixture")
+    @Test
+    void testFirstReceivesFixture(@FlowResult final List<String> fixture) {
+        assertEquals(1, fixturesBuilt.get());
+        assertTrue(fixture.isEmpty() || fixture.contains("second"));
+        fixture.add("first");
+    }
+
+    @_0
+    @_1
+    @DisplayName("Second test annotated by expected class receives the same memoized fixture")
+    @Test
+    void testSecondReceivesFixture(@FlowResult("fixture") final List<String> fixture,
+                                   @FlowResult final String name) {
+        assertEquals(1, fixturesBuilt.get());
+        assertTrue(fixture.isEmpty() || fixture.contains("first"));
+        fixture.add("second");
+        assertEquals("_1", name);
+    }
+
+    @DisplayName("Values are memoized by the values of the bound annotations, evicting the least recently used")
+    @Test
+    void testMemoizedByArgumentsWithEviction() throws Exception {
+        final FlowResultCache cache = new FlowResultCache(1);
+        final Object[] first = {Annotated.class.getDeclaredMethod("first").getAnnotation(_0.class)};
+        final Object[] equalToFirst = {Annotated.class.getDeclaredMethod("equalToFirst").getAnnotation(_0.class)};
+        final Object[] second = {Annotated.class.getDeclaredMethod("second").getAnnotation(_1.class)};
+
+        final Object firstValue = cache.computeIfAbsent(first, Object::new);
+        assertSame(firstValue, cache.computeIfAbsent(equalToFirst, Object::new));
+        cache.computeIfAbsent(second, Object::new);
+        assertNotSame(firstValue, cache.computeIfAbsent(first, Object::new));
+    }
+
+    @DisplayName("Globally memoized values are shared across executions of the class")
+    @Test
+    void testGlobalScopeSharedAcrossExecutions() throws Exception {
+        final Memoized memoized = Annotated.class.getDeclaredMethod("global").getAnnotation(Memoized.class);
+        final FlowResultCache cache = FlowResultCache.of(Annotated.class.getDeclaredMethod("global"), memoized,
+                new ConcurrentHashMap<>());
+        assertSame(cache, FlowResultCache.of(Annotated.class.getDeclaredMethod("global"), memoized,
+                new ConcurrentHashMap<>()));
+    }
+
+    @DisplayName("Memoized flow methods must return a value")
+    @Test
+    void testMemoizedVoidRejected() {
+        final FlowDeclarationException failure = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(VoidMemoized.class).verify());
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).endsWith("Memoized method fixture must return a value"));
+    }
+
+    static class Annotated {
+
+        @_0
+        void first() {
+        }
+
+        @_0
+        void equalToFirst() {
+        }
+
+        @_1
+        void second() {
+        }
+
+        @Memoized(scope = Memoized.Scope.GLOBAL)
+        Object global() {
+            return null;
+        }
+    }
+
+    static class VoidMemoized {
+
+        @Memoized
+        @BeforeAnnotated(_0.class)
+        void fixture() {
+        }
+    }
+}
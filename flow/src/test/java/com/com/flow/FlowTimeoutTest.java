@@ -0,0 +1,117 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class FlowTimeoutTest {
+
+    private volatile String setUpThread;
+
+    @BeforeAnnotated(value = _0.class, timeoutMillis = 10_000L)
+    void bounded() {
+        setUpThread = Thread.currentThread().getName();
+    }
+
+    @_0
+    @DisplayName("Flow method with a time budget runs on a watchdog thread")
+    @Test
+    void testBoundedRunsOnWatchdog() {
+        assertEquals("annotation-flow-watchdog", setUpThread);
+    }
+
+    @DisplayName("Flow method exceeding its time budget is interrupted, and fails with the time elapsed")
+    @Test
+    void testTimeoutInterrupts() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final FlowTimeoutException timeout = expectThrows(FlowTimeoutException.class,
+                () -> FlowWatchdog.invoke(Flows.class.getDeclaredMethod("hung"), Flows.class, 50L, () -> {
+                    try {
+                        Thread.sleep(60_000L);
+                    } catch (final InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return null;
+                }));
+
+        assertTrue(interrupted.await(5L, TimeUnit.SECONDS));
+        assertEquals(50L, timeout.getTimeoutMillis());
+        assertTrue(timeout.getElapsedNanos() >= TimeUnit.MILLISECONDS.toNanos(50L));
+        assertTrue(timeout.getMessage().startsWith("Annotation-flow method Flows#hung timed out after "),
+                timeout.getMessage());
+
+        final List<Map<String, String>> entries = new ArrayList<>();
+        FlowWatchdog.publishOverruns(Flows.class, entries::add);
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).get("flow.overrun.Flows#hung").startsWith("count=1, timeouts=1, "));
+    }
+
+    @DisplayName("Flow method within its time budget returns its value, or rethrows its failure")
+    @Test
+    void testWithinBudget() throws Exception {
+        assertEquals("value", FlowWatchdog.invoke(Flows.class.getDeclaredMethod("hung"), FlowTimeoutTest.class,
+                10_000L, () -> "value"));
+
+        final IllegalStateException failure = new IllegalStateException("failure");
+        assertSame(failure, expectThrows(IllegalStateException.class,
+                () -> FlowWatchdog.invoke(Flows.class.getDeclaredMethod("hung"), FlowTimeoutTest.class, 10_000L,
+                        () -> {
+                            throw failure;
+                        })));
+    }
+
+    @DisplayName("Repeated flow annotations must agree on their time budget")
+    @Test
+    void testInconsistentTimeoutRejected() {
+        final FlowDeclarationException failure = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(InconsistentFlows.class).verify());
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).endsWith("Inconsistent timeoutMillis for method bounded"));
+    }
+
+    @DisplayName("A negative default time budget is rejected")
+    @Test
+    void testNegativeDefaultTimeoutRejected() {
+        final String previous = System.getProperty(FlowWatchdog.TIMEOUT_PROPERTY);
+        System.setProperty(FlowWatchdog.TIMEOUT_PROPERTY, "-1");
+        try {
+            final IllegalArgumentException failure =
+                    expectThrows(IllegalArgumentException.class, FlowWatchdog::getDefaultTimeoutMillis);
+            assertTrue(failure.getMessage().endsWith("must not be negative"), failure.getMessage());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(FlowWatchdog.TIMEOUT_PROPERTY);
+            } else {
+                System.setProperty(FlowWatchdog.TIMEOUT_PROPERTY, previous);
+            }
+        }
+    }
+
+    static class Flows {
+
+        void hung() {
+        }
+    }
+
+    static class InconsistentFlows {
+
+        @BeforeAnnotated(value = _0.class, timeoutMillis = 100L)
+        @BeforeAnnotated(_1.class)
+        void bounded() {
+        }
+    }
+}
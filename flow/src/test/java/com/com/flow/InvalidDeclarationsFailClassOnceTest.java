@@ -0,0 +1,60 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.flow.annotations._1;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+class InvalidDeclarationsFailClassOnceTest {
+
+    @DisplayName("Every invalid declaration of a class is reported together")
+    @Test
+    void testAllInvalidDeclarationsReported() {
+        final FlowDeclarationException failure = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(InvalidDeclarations.class).verify());
+
+        final List<String> problems = failure.getProblems();
+        assertEquals(2, problems.size());
+        assertTrue(problems.get(0).startsWith("InvalidDeclarations#nonAnnotationParameter (@BeforeAnnotated): "));
+        assertTrue(problems.get(1).startsWith("InvalidDeclarations#parameterOnNegative (@AfterNotAnnotated): "));
+        assertTrue(failure.getMessage().startsWith("2 invalid annotation-flow declarations in "));
+    }
+
+    @DisplayName("Invalid declarations are validated once per class")
+    @Test
+    void testInvalidDeclarationsValidatedOnce() {
+        final FlowDeclarationException first = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(InvalidDeclarations.class).verify());
+        final FlowDeclarationException second = expectThrows(FlowDeclarationException.class,
+                () -> FlowEngine.getPlan(InvalidDeclarations.class).verify());
+        assertSame(first, second);
+    }
+
+    @DisplayName("Valid declarations pass validation")
+    @Test
+    void testValidDeclarationsPass() {
+        FlowEngine.getPlan(BeforeAnnotatedMethodCanBePrivateTest.class).verify();
+    }
+
+    static class InvalidDeclarations {
+
+        @BeforeAnnotated(_0.class)
+        void nonAnnotationParameter(final String parameter) {
+        }
+
+        @BeforeAnnotated(_0.class)
+        void valid(final _0 annotation) {
+        }
+
+        @AfterNotAnnotated(_1.class)
+        void parameterOnNegative(final _1 annotation) {
+        }
+    }
+}
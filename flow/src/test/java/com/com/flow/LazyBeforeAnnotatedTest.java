@@ -0,0 +1,218 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import com.com.test.StubTestExtensionContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class LazyBeforeAnnotatedTest {
+
+    private volatile boolean connected = false;
+
+    @BeforeAnnotated(value = _0.class, lazy = true)
+    String connect() {
+        connected = true;
+        return "connection";
+    }
+
+    @AfterAnnotated(value = _0.class, pairedWith = "connect")
+    void disconnect() {
+        assertTrue(connected);
+    }
+
+    @_0
+    @DisplayName("Lazy flow method is only invoked on first use of the injected supplier")
+    @Test
+    void testInvokedOnFirstUse(@FlowResult final Supplier<String> connection) {
+        assertFalse(connected);
+        assertEquals("connection", connection.get());
+        assertTrue(connected);
+        assertSame(connection.get(), connection.get());
+    }
+
+    @_0
+    @DisplayName("Lazy flow method, and its paired after flow method, are not invoked if never used")
+    @Test
+    void testNotInvokedIfUnused(@FlowResult final Supplier<String> connection) {
+        assertFalse(connected);
+    }
+
+    @_0
+    @DisplayName("Resolving a lazy flow result other than as a supplier invokes it")
+    @Test
+    void testResolvedAsValueInvokesMethod(@FlowResult final String connection) {
+        assertTrue(connected);
+        assertEquals("connection", connection);
+    }
+
+    @DisplayName("Only the after flow method paired with an unused lazy flow method is skipped")
+    @Test
+    void testOnlyPairedTearDownSkipped() throws Exception {
+        final AnnotationFlow annotationFlow = new AnnotationFlow();
+        final Paired paired = new Paired();
+        final StubTestExtensionContext context = StubTestExtensionContext.forMethod(paired, "test");
+
+        annotationFlow.beforeTestExecution(context);
+        annotationFlow.afterTestExecution(context);
+
+        assertEquals(Arrays.asList("open", "close"), paired.invocations);
+    }
+
+    @DisplayName("Pairing with a method which is not a lazy before flow method is an invalid declaration")
+    @Test
+    void testPairingWithEagerMethodInvalid() {
+        final FlowDeclarationException failure = FlowEngine.getPlan(MisPaired.class).getDeclarationFailure();
+
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).startsWith("MisPaired#close"));
+    }
+
+    @DisplayName("Pairing with a name shared by overloaded lazy flow methods is an invalid declaration")
+    @Test
+    void testPairingWithOverloadsAmbiguous() {
+        final FlowDeclarationException failure = FlowEngine.getPlan(Overloaded.class).getDeclarationFailure();
+
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).startsWith(
+                "Overloaded#disconnect (@AfterAnnotated): Ambiguous lazy before method connect to be paired with"));
+        assertTrue(failure.getProblems().get(0).contains("Overloaded#connect(_0)"));
+    }
+
+    @DisplayName("Pairing with a name shared by lazy flow methods of a class and its superclass is ambiguous")
+    @Test
+    void testPairingWithInheritedNameAmbiguous() {
+        final FlowDeclarationException failure = FlowEngine.getPlan(ReConnecting.class).getDeclarationFailure();
+
+        assertEquals(1, failure.getProblems().size());
+        assertTrue(failure.getProblems().get(0).endsWith("; any of Paired#connect(), ReConnecting#connect(_0)"));
+    }
+
+    @DisplayName("A paired after flow method is resolved to its lazy flow method once, by index")
+    @Test
+    void testPairingResolvedToIndex() {
+        final FlowPlan plan = FlowEngine.getPlan(Paired.class);
+        final List<FlowMethodRegistration<?>> befores = plan.getRegistrations(FlowPhase.BEFORE);
+        final List<FlowMethodRegistration<?>> afters = plan.getRegistrations(FlowPhase.AFTER);
+
+        assertEquals(afters.size(), plan.getPairings().length);
+        for (int i = 0; i < afters.size(); i++) {
+            final int pairing = plan.getPairings()[i];
+            if (afters.get(i).getMethod().getName().equals("disconnect")) {
+                assertEquals("connect", befores.get(pairing).getMethod().getName());
+            } else {
+                assertEquals(-1, pairing);
+            }
+        }
+    }
+
+    @DisplayName("A failed lazy flow method is not invoked again, and fails every use")
+    @Test
+    void testFailureRethrown() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final IllegalStateException failure = new IllegalStateException("connect");
+        final LazyFlowResult result = new LazyFlowResult(
+                FlowEngine.getPlan(Paired.class).getRegistrations(FlowPhase.BEFORE).get(0), () -> {
+                    invocations.incrementAndGet();
+                    throw failure;
+                });
+
+        assertFalse(result.isInvoked());
+        assertSame(failure, expectThrows(IllegalStateException.class, result::get));
+        assertSame(failure, expectThrows(IllegalStateException.class, result::get));
+        assertTrue(result.isInvoked());
+        assertEquals(1, invocations.get());
+    }
+
+    @DisplayName("An Error thrown by a lazy flow method fails every use, rather than only the first")
+    @Test
+    void testErrorRethrown() {
+        final AssertionError failure = new AssertionError("connect");
+        final LazyFlowResult result = new LazyFlowResult(
+                FlowEngine.getPlan(Paired.class).getRegistrations(FlowPhase.BEFORE).get(0), () -> {
+                    throw failure;
+                });
+
+        assertSame(failure, expectThrows(AssertionError.class, result::get));
+        assertSame(failure, expectThrows(AssertionError.class, result::get));
+    }
+
+    static class Paired {
+
+        final List<String> invocations = new ArrayList<>();
+
+        @BeforeAnnotated(value = _0.class, lazy = true)
+        String connect() {
+            invocations.add("connect");
+            return "connection";
+        }
+
+        @BeforeAnnotated(_0.class)
+        void open() {
+            invocations.add("open");
+        }
+
+        @AfterAnnotated(value = _0.class, pairedWith = "connect")
+        void disconnect() {
+            invocations.add("disconnect");
+        }
+
+        @AfterAnnotated(_0.class)
+        void close() {
+            invocations.add("close");
+        }
+
+        @_0
+        void test() {
+        }
+    }
+
+    static class ReConnecting extends Paired {
+
+        @BeforeAnnotated(value = _0.class, lazy = true)
+        String connect(final _0 annotation) {
+            return "reconnection";
+        }
+    }
+
+    static class Overloaded {
+
+        @BeforeAnnotated(value = _0.class, lazy = true)
+        String connect() {
+            return "connection";
+        }
+
+        @BeforeAnnotated(value = _0.class, lazy = true)
+        String connect(final _0 annotation) {
+            return "annotated connection";
+        }
+
+        @AfterAnnotated(value = _0.class, pairedWith = "connect")
+        void disconnect() {
+        }
+    }
+
+    static class MisPaired {
+
+        @BeforeAnnotated(_0.class)
+        void open() {
+        }
+
+        @AfterAnnotated(value = _0.class, pairedWith = "open")
+        void close() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.com.flow;
+
+import com.com.flow.annotations._0;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.expectThrows;
+
+@ExtendWith(AnnotationFlow.class)
+class MeasureTest {
+
+    private int setUps;
+
+    private int tearDowns;
+
+    @BeforeAnnotated(_0.class)
+    List<String> fixture() {
+        setUps++;
+        final List<String> fixture = new ArrayList<>();
+        fixture.add("measured");
+        return fixture;
+    }
+
+    @AfterAnnotated(_0.class)
+    void tearDown() {
+        tearDowns++;
+    }
+
+    @_0
+    @Measure(warmup = 5, iterations = 20)
+    @DisplayName("Flow methods run outside of the measured loop, which is passed their values")
+    @Test
+    int testFlowsOutsideMeasuredLoop(@FlowResult final List<String> fixture, final Blackhole blackhole) {
+        assertEquals(1, setUps);
+        assertEquals(0, tearDowns);
+        blackhole.consume(fixture.get(0));
+        return fixture.size();
+    }
+
+    @DisplayName("The body is invoked in batches for the warmup and the measured iterations")
+    @Test
+    void testCalibratedLoop() throws Exception {
+        final Measured measured = new Measured();
+        final MeasuredRun measurement = MeasuredRun.run(Measured.class.getDeclaredMethod("body"), measured,
+                new Object[0], Measured.class.getDeclaredMethod("body").getAnnotation(Measure.class), new Blackhole());
+
+        // The batch doubles through the warmup (from 1, to at most 16), while iterations are quicker than the target.
+        final int batch = measurement.getBatch();
+        assertTrue(batch <= 16 && Integer.bitCount(batch) == 1, "batch=" + batch);
+        final int warmupInvocations = measured.invocations - batch * 10;
+        assertTrue(warmupInvocations >= 4 && warmupInvocations <= 1 + 2 + 4 + 8, "warmup=" + warmupInvocations);
+
+        assertTrue(measurement.percentile(0.0) <= measurement.percentile(50.0));
+        assertTrue(measurement.percentile(50.0) <= measurement.percentile(99.0));
+        assertTrue(measurement.percentile(99.0) <= measurement.percentile(100.0));
+        assertTrue(measurement.mean() >= measurement.percentile(0.0));
+        assertTrue(measurement.mean() <= measurement.percentile(100.0));
+        assertTrue(measurement.standardDeviation() >= 0.0);
+        assertTrue(measurement.baseline() >= 0.0);
+        assertTrue(measurement.summarise().endsWith(String.format(", baseline=%.1fns", measurement.baseline())));
+        assertTrue(measurement.summarise().startsWith("iterations=10, batch=" + batch + ", mean="),
+                measurement.summarise());
+    }
+
+    @DisplayName("A failing invocation of the body fails the measurement")
+    @Test
+    void testFailingBody() {
+        final IllegalStateException failure = new IllegalStateException("measured failure");
+        final IllegalStateException thrown = expectThrows(IllegalStateException.class, () ->
+                MeasuredRun.run(Measured.class.getDeclaredMethod("failing", IllegalStateException.class),
+                        new Measured(), new Object[]{failure},
+                        Measured.class.getDeclaredMethod("body").getAnnotation(Measure.class), new Blackhole()));
+        assertSame(failure, thrown);
+    }
+
+    static class Measured {
+
+        int invocations;
+
+        @Measure(warmup = 4, iterations = 10)
+        int body() {
+            return ++invocations;
+        }
+
+        void failing(final IllegalStateException failure) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.com.flow.annotations;
+
+import java.lang.annotation.*;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Inherited
+@_0(_0And1.META_VALUE)
+@_1
+public @interface _0And1 {
+    int META_VALUE = 7;
+}
@@ -0,0 +1,255 @@
+package com.com.test;
+
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Minimal {@link TestExtensionContext} for driving extensions directly, outside of the Jupiter engine; from tests and
+ * benchmarks alike.
+ * <p>
+ * Every {@link Optional} is created up front, and the stores only allocate when a value is first computed, so the
+ * context itself allocates nothing once its stores are populated; nor does it contribute to the allocation rates
+ * reported for the code under measurement.  Consequently it hides whatever a real (engine-created) context allocates
+ * per call.  Safe for use by concurrently executing callbacks.  Report entries are discarded.
+ * <p>
+ * Each context has a parent, standing in for the container of its {@code Test} {@link Class}; which is shared by its
+ * {@link #sibling(Object, String) siblings}, so that they execute as {@code Tests} of the same {@code Class}.
+ */
+public final class StubTestExtensionContext implements TestExtensionContext {
+
+    private final Object testInstance;
+
+    private final StubContainerExtensionContext container;
+
+    private final Optional<ExtensionContext> parent;
+
+    private final Optional<Class<?>> testClass;
+
+    private final Optional<Method> testMethod;
+
+    private final Optional<AnnotatedElement> element;
+
+    private final Map<ExtensionContext.Namespace, ExtensionContext.Store> stores = new ConcurrentHashMap<>();
+
+    public StubTestExtensionContext(final Object testInstance, final Method testMethod) {
+        this(testInstance, testMethod, new StubContainerExtensionContext(testInstance.getClass()));
+    }
+
+    private StubTestExtensionContext(final Object testInstance, final Method testMethod,
+                                     final StubContainerExtensionContext container) {
+        this.testInstance = testInstance;
+        this.container = container;
+        this.parent = Optional.of(container);
+        this.testClass = Optional.of(testInstance.getClass());
+        this.testMethod = Optional.of(testMethod);
+        this.element = Optional.of(testMethod);
+    }
+
+    /**
+     * Creates a context for the {@code Test} {@link Method} of the given name, declared by the {@link Class} of the
+     * given instance.
+     *
+     * @param testInstance The instance of the {@code Test} {@code Class} to execute the {@code Test} on.
+     * @param name         The name of the {@code Test} {@code Method}, which takes no parameters.
+     * @return The context.
+     * @throws IllegalArgumentException If the {@code Class} of the {@code testInstance} declares no such {@code
+     *                                  Method}.
+     */
+    public static StubTestExtensionContext forMethod(final Object testInstance, final String name) {
+        return new StubTestExtensionContext(testInstance, declaredMethod(testInstance, name));
+    }
+
+    /**
+     * Creates a context for another {@code Test} of the same {@link Class}; sharing the parent of this one.
+     *
+     * @param testInstance The instance of the {@code Test} {@code Class} to execute the {@code Test} on.
+     * @param name         The name of the {@code Test} {@link Method}, which takes no parameters.
+     * @return The context.
+     * @throws IllegalArgumentException If the {@code Class} of the {@code testInstance} declares no such {@code
+     *                                  Method}.
+     */
+    public StubTestExtensionContext sibling(final Object testInstance, final String name) {
+        return new StubTestExtensionContext(testInstance, declaredMethod(testInstance, name), container);
+    }
+
+    private static Method declaredMethod(final Object testInstance, final String name) {
+        try {
+            return testInstance.getClass().getDeclaredMethod(name);
+        } catch (final NoSuchMethodException noSuchMethod) {
+            throw new IllegalArgumentException(noSuchMethod);
+        }
+    }
+
+    @Override
+    public Object getTestInstance() {
+        return testInstance;
+    }
+
+    @Override
+    public Optional<Throwable> getTestException() {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ExtensionContext> getParent() {
+        return parent;
+    }
+
+    @Override
+    public String getUniqueId() {
+        return testMethod.get().toString();
+    }
+
+    @Override
+    public String getDisplayName() {
+        return testMethod.get().getName();
+    }
+
+    @Override
+    public Set<String> getTags() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public Optional<AnnotatedElement> getElement() {
+        return element;
+    }
+
+    @Override
+    public Optional<Class<?>> getTestClass() {
+        return testClass;
+    }
+
+    @Override
+    public Optional<Method> getTestMethod() {
+        return testMethod;
+    }
+
+    @Override
+    public void publishReportEntry(final Map<String, String> map) {
+        // Report entries are not of interest when driving extensions directly.
+    }
+
+    @Override
+    public ExtensionContext.Store getStore(final ExtensionContext.Namespace namespace) {
+        return storeOf(stores, namespace);
+    }
+
+    private static ExtensionContext.Store storeOf(final Map<ExtensionContext.Namespace, ExtensionContext.Store> stores,
+                                                  final ExtensionContext.Namespace namespace) {
+        final ExtensionContext.Store store = stores.get(namespace);
+        return store != null ? store : stores.computeIfAbsent(namespace, ignored -> new MapStore());
+    }
+
+    private static final class StubContainerExtensionContext implements ContainerExtensionContext {
+
+        private final Optional<Class<?>> testClass;
+
+        private final Optional<AnnotatedElement> element;
+
+        private final Map<ExtensionContext.Namespace, ExtensionContext.Store> stores = new ConcurrentHashMap<>();
+
+        StubContainerExtensionContext(final Class<?> testClass) {
+            this.testClass = Optional.of(testClass);
+            this.element = Optional.of(testClass);
+        }
+
+        @Override
+        public Optional<ExtensionContext> getParent() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String getUniqueId() {
+            return testClass.get().getName();
+        }
+
+        @Override
+        public String getDisplayName() {
+            return testClass.get().getSimpleName();
+        }
+
+        @Override
+        public Set<String> getTags() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Optional<AnnotatedElement> getElement() {
+            return element;
+        }
+
+        @Override
+        public Optional<Class<?>> getTestClass() {
+            return testClass;
+        }
+
+        @Override
+        public Optional<Method> getTestMethod() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void publishReportEntry(final Map<String, String> map) {
+            // Report entries are not of interest when driving extensions directly.
+        }
+
+        @Override
+        public ExtensionContext.Store getStore(final ExtensionContext.Namespace namespace) {
+            return storeOf(stores, namespace);
+        }
+    }
+
+    private static final class MapStore implements ExtensionContext.Store {
+
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        public Object get(final Object key) {
+            return values.get(key);
+        }
+
+        @Override
+        public <V> V get(final Object key, final Class<V> requiredType) {
+            return requiredType.cast(values.get(key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object getOrComputeIfAbsent(final K key, final Function<K, V> defaultCreator) {
+            final Object value = values.get(key);
+            return value != null ? value : values.computeIfAbsent(key, k -> defaultCreator.apply((K) k));
+        }
+
+        @Override
+        public <K, V> V getOrComputeIfAbsent(final K key, final Function<K, V> defaultCreator,
+                                             final Class<V> requiredType) {
+            return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+        }
+
+        @Override
+        public void put(final Object key, final Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public Object remove(final Object key) {
+            return values.remove(key);
+        }
+
+        @Override
+        public <V> V remove(final Object key, final Class<V> requiredType) {
+            return requiredType.cast(values.remove(key));
+        }
+    }
+}